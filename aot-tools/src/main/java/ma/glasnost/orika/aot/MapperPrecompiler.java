@@ -0,0 +1,184 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.aot;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingException;
+import ma.glasnost.orika.OrikaSystemProperties;
+import ma.glasnost.orika.impl.ConfigurableMapper;
+import ma.glasnost.orika.impl.generator.PrecompiledCompilerStrategy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MapperPrecompiler generates, ahead-of-time, the mappers and object factories
+ * of a set of mapper factories: it writes their class files into an output
+ * directory (typically <code>target/classes</code>), along with the
+ * {@value PrecompiledCompilerStrategy#INDEX_RESOURCE} index through which
+ * <code>DefaultMapperFactory</code> loads them at runtime instead of compiling
+ * them.<br>
+ * <br>
+ * 
+ * The mapper factories are declared by the names of classes which are either:
+ * <ul>
+ * <li>a {@link ConfigurableMapper} subclass with a public no-argument
+ * constructor, or
+ * <li>a {@link Callable} with a public no-argument constructor, returning a
+ * configured {@link MapperFactory}
+ * </ul>
+ * Each factory is built, which generates the mappers of its registered
+ * class-maps; a Callable may also perform mappings, in order to generate the
+ * mappers which are otherwise generated on demand. Factories must use the
+ * default compiler strategy.<br>
+ * <br>
+ * 
+ * Usage: <code>java ma.glasnost.orika.aot.MapperPrecompiler &lt;outputDirectory&gt; &lt;className&gt;...</code>
+ */
+public class MapperPrecompiler {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(MapperPrecompiler.class);
+    
+    private final File outputDirectory;
+    
+    /**
+     * @param outputDirectory
+     *            the directory into which the class files and the index are
+     *            written
+     */
+    public MapperPrecompiler(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: " + MapperPrecompiler.class.getName() + " <outputDirectory> <className>...");
+            System.exit(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<Class<?>> providers = new ArrayList<Class<?>>();
+        for (int i = 1; i < args.length; ++i) {
+            providers.add(Class.forName(args[i], true, classLoader));
+        }
+        int count = new MapperPrecompiler(new File(args[0])).precompile(providers);
+        LOGGER.info("Precompiled {} classes into {}", count, args[0]);
+    }
+    
+    /**
+     * Builds the mapper factories provided by the specified classes, writing
+     * the generated classes and their index into the output directory.
+     * 
+     * @param providers
+     *            the {@link ConfigurableMapper} or {@link Callable} classes
+     *            providing the mapper factories
+     * @return the number of precompiled classes
+     * @throws IOException
+     *             if the index could not be written
+     */
+    public synchronized int precompile(List<Class<?>> providers) throws IOException {
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Could not create output directory " + outputDirectory);
+        }
+        
+        Map<String, String> previousProperties = new HashMap<String, String>();
+        setSystemProperty(OrikaSystemProperties.COMPILER_STRATEGY, RecordingCompilerStrategy.class.getName(), previousProperties);
+        setSystemProperty(OrikaSystemProperties.WRITE_CLASS_FILES, "true", previousProperties);
+        setSystemProperty(OrikaSystemProperties.WRITE_CLASS_FILES_TO_PATH, outputDirectory.getAbsolutePath(), previousProperties);
+        setSystemProperty(OrikaSystemProperties.USE_PRECOMPILED_CLASSES, "false", previousProperties);
+        
+        Map<String, String> compiledClasses = RecordingCompilerStrategy.getCompiledClasses();
+        compiledClasses.clear();
+        try {
+            for (Class<?> provider : providers) {
+                int before = compiledClasses.size();
+                build(provider);
+                if (compiledClasses.size() == before) {
+                    LOGGER.warn("No class was generated for {}; does it use the default compiler strategy?", provider.getName());
+                }
+            }
+            writeIndex(new TreeMap<String, String>(compiledClasses));
+            return compiledClasses.size();
+        } finally {
+            compiledClasses.clear();
+            for (Map.Entry<String, String> property : previousProperties.entrySet()) {
+                if (property.getValue() == null) {
+                    System.clearProperty(property.getKey());
+                } else {
+                    System.setProperty(property.getKey(), property.getValue());
+                }
+            }
+        }
+    }
+    
+    private static void setSystemProperty(String key, String value, Map<String, String> previousProperties) {
+        previousProperties.put(key, System.getProperty(key));
+        System.setProperty(key, value);
+    }
+    
+    private void build(Class<?> provider) {
+        try {
+            if (ConfigurableMapper.class.isAssignableFrom(provider)) {
+                /*
+                 * ConfigurableMapper builds its factory upon construction
+                 */
+                provider.newInstance();
+            } else if (Callable.class.isAssignableFrom(provider)) {
+                Object factory = ((Callable<?>) provider.newInstance()).call();
+                if (!(factory instanceof MapperFactory)) {
+                    throw new IllegalArgumentException(provider.getName() + " did not return a MapperFactory");
+                }
+                ((MapperFactory) factory).getMapperFacade();
+            } else {
+                throw new IllegalArgumentException(provider.getName() + " is neither a " + ConfigurableMapper.class.getName() + " nor a "
+                        + Callable.class.getName());
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MappingException("Could not build the mapper factory of " + provider.getName(), e);
+        }
+    }
+    
+    private void writeIndex(Map<String, String> classNamesByFingerprint) throws IOException {
+        File index = new File(outputDirectory, PrecompiledCompilerStrategy.INDEX_RESOURCE);
+        if (!index.getParentFile().isDirectory() && !index.getParentFile().mkdirs()) {
+            throw new IOException("Could not create directory " + index.getParentFile());
+        }
+        Properties properties = new Properties();
+        properties.putAll(classNamesByFingerprint);
+        OutputStream out = new FileOutputStream(index);
+        try {
+            properties.store(out, "Orika precompiled classes, by fingerprint of their generated source");
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.aot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ma.glasnost.orika.impl.generator.JavassistCompilerStrategy;
+import ma.glasnost.orika.impl.generator.SourceCodeContext;
+
+/**
+ * RecordingCompilerStrategy compiles generated classes with Javassist, and
+ * records the fingerprint and the name of each compiled class.<br>
+ * It is installed by {@link MapperPrecompiler} as the default compiler
+ * strategy while the mapper factories are built.
+ */
+public class RecordingCompilerStrategy extends JavassistCompilerStrategy {
+    
+    private static final Map<String, String> COMPILED_CLASSES = new ConcurrentHashMap<String, String>();
+    
+    @Override
+    public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+        Class<?> compiledClass = super.compileClass(sourceCode);
+        COMPILED_CLASSES.put(sourceCode.getFingerprint(), compiledClass.getName());
+        return compiledClass;
+    }
+    
+    /**
+     * @return the names of the classes compiled so far, by fingerprint
+     */
+    static Map<String, String> getCompiledClasses() {
+        return COMPILED_CLASSES;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import java.math.BigDecimal;
+
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogDto;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogEntity;
+import ma.glasnost.orika.benchmark.model.CollectionModel.ProductDto;
+import ma.glasnost.orika.benchmark.model.CollectionModel.ProductEntity;
+import ma.glasnost.orika.benchmark.model.ConverterModel.ConvertedDto;
+import ma.glasnost.orika.benchmark.model.ConverterModel.ConvertedEntity;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeDto;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeEntity;
+import ma.glasnost.orika.benchmark.model.DeepModel.AddressDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.AddressEntity;
+import ma.glasnost.orika.benchmark.model.DeepModel.CountryDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.CountryEntity;
+import ma.glasnost.orika.benchmark.model.DeepModel.CustomerDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.CustomerEntity;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderEntity;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatDto;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatEntity;
+import ma.glasnost.orika.benchmark.proto.AddressMessage;
+import ma.glasnost.orika.benchmark.proto.CountryMessage;
+import ma.glasnost.orika.benchmark.proto.CustomerMessage;
+import ma.glasnost.orika.benchmark.proto.FlatMessage;
+import ma.glasnost.orika.benchmark.proto.OrderMessage;
+import ma.glasnost.orika.converter.BidirectionalConverter;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * BenchmarkMappers builds the MapperFactory shared by all benchmarks, with
+ * class-maps registered for every model in
+ * {@link ma.glasnost.orika.benchmark.model}, and their protobuf counterparts.
+ * 
+ */
+public final class BenchmarkMappers {
+    
+    private BenchmarkMappers() {
+        
+    }
+    
+    /**
+     * @return a fully built MapperFactory, so that no benchmark iteration
+     *         pays for mapper generation
+     */
+    public static MapperFactory newMapperFactory() {
+        return newMapperFactory(new DefaultMapperFactory.Builder());
+    }
+    
+    /**
+     * @param builder
+     *            the configured builder of the MapperFactory
+     * @return a fully built MapperFactory, so that no benchmark iteration
+     *         pays for mapper generation
+     */
+    public static MapperFactory newMapperFactory(DefaultMapperFactory.Builder builder) {
+        MapperFactory factory = builder.build();
+        
+        factory.getConverterFactory().registerConverter(new BigDecimalToStringConverter());
+        
+        factory.classMap(FlatEntity.class, FlatDto.class).byDefault().register();
+        
+        factory.classMap(OrderEntity.class, OrderDto.class).byDefault().register();
+        factory.classMap(CustomerEntity.class, CustomerDto.class).byDefault().register();
+        factory.classMap(AddressEntity.class, AddressDto.class).byDefault().register();
+        factory.classMap(CountryEntity.class, CountryDto.class).byDefault().register();
+        
+        factory.classMap(CatalogEntity.class, CatalogDto.class).byDefault().register();
+        factory.classMap(ProductEntity.class, ProductDto.class).byDefault().register();
+        
+        factory.classMap(TreeNodeEntity.class, TreeNodeDto.class).byDefault().register();
+        
+        factory.classMap(ConvertedEntity.class, ConvertedDto.class).byDefault().register();
+        
+        factory.classMap(FlatEntity.class, FlatMessage.Builder.class).byDefault().register();
+        factory.classMap(OrderEntity.class, OrderMessage.Builder.class).byDefault().register();
+        factory.classMap(CustomerEntity.class, CustomerMessage.Builder.class).byDefault().register();
+        factory.classMap(AddressEntity.class, AddressMessage.Builder.class).byDefault().register();
+        factory.classMap(CountryEntity.class, CountryMessage.Builder.class).byDefault().register();
+        
+        factory.getMapperFacade();
+        return factory;
+    }
+    
+    /**
+     * A user-defined converter, so that converter-backed fields are not
+     * limited to the built-in ones.
+     */
+    public static class BigDecimalToStringConverter extends BidirectionalConverter<BigDecimal, String> {
+        
+        @Override
+        public String convertTo(BigDecimal source, Type<String> destinationType, MappingContext mappingContext) {
+            return source.toPlainString();
+        }
+        
+        @Override
+        public BigDecimal convertFrom(String source, Type<BigDecimal> destinationType, MappingContext mappingContext) {
+            return new BigDecimal(source);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner runs the selected benchmarks (all of them by default) once
+ * for each thread count in {@link #THREAD_COUNTS}, with the GC profiler
+ * attached so that allocation rates are reported alongside throughput and
+ * average time.<br>
+ * Results are written as JSON to <code>orika-benchmarks-&lt;threads&gt;t.json</code>
+ * in the working directory, so that runs can be compared between versions.
+ * <br><br>
+ * Usage:
+ * 
+ * <pre>
+ * java -cp target/benchmarks.jar ma.glasnost.orika.benchmark.BenchmarkRunner [regexp]
+ * </pre>
+ * 
+ * The plain JMH entry point remains available through
+ * <code>java -jar target/benchmarks.jar</code>.
+ */
+public class BenchmarkRunner {
+    
+    static final int[] THREAD_COUNTS = { 1, 4, 16 };
+    
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+        
+        for (int threads : THREAD_COUNTS) {
+            ChainedOptionsBuilder options = new OptionsBuilder().include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("orika-benchmarks-" + threads + "t.json");
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.benchmark.proto.FlatMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways a protobuf Builder can be created and finished by the
+ * Builder mapping strategy: looking up <code>newBuilder()</code> and
+ * <code>build()</code> reflectively on every call, invoking cached
+ * MethodHandles, and calling them directly.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderInstantiationBenchmark {
+    
+    private MethodHandle newBuilder;
+    private MethodHandle build;
+    
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        newBuilder = lookup.unreflect(FlatMessage.class.getMethod("newBuilder")).asType(MethodType.methodType(Object.class));
+        build = lookup.unreflect(FlatMessage.Builder.class.getMethod("build")).asType(
+                MethodType.methodType(Object.class, Object.class));
+    }
+    
+    @Benchmark
+    public Object reflectiveLookup() throws ReflectiveOperationException {
+        Method newBuilderMethod = FlatMessage.Builder.class.getEnclosingClass().getMethod("newBuilder");
+        Object builder = newBuilderMethod.invoke(null);
+        Method buildMethod = FlatMessage.Builder.class.getMethod("build");
+        return buildMethod.invoke(builder);
+    }
+    
+    @Benchmark
+    public Object cachedMethodHandles() throws Throwable {
+        Object builder = (Object) newBuilder.invokeExact();
+        return (Object) build.invokeExact(builder);
+    }
+    
+    @Benchmark
+    public Object direct() {
+        return FlatMessage.newBuilder().build();
+    }
+}
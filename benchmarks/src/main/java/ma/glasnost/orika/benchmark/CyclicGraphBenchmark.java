@@ -0,0 +1,70 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.benchmark.model.CyclicModel;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeDto;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping cyclic trees (every child references its parent) of
+ * increasing size, which exercises the cycle-tracking cache of the
+ * MappingContext; a depth of 7 yields a graph of about 22k nodes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CyclicGraphBenchmark {
+    
+    @Param({ "3", "7" })
+    public int depth;
+    
+    private BoundMapperFacade<TreeNodeEntity, TreeNodeDto> cyclicMapper;
+    private TreeNodeEntity tree;
+    
+    @Setup
+    public void setUp() {
+        cyclicMapper = BenchmarkMappers.newMapperFactory().getMapperFacade(TreeNodeEntity.class, TreeNodeDto.class, true);
+        tree = CyclicModel.newTree(depth, 4);
+    }
+    
+    @Benchmark
+    public TreeNodeDto mapTree() {
+        return cyclicMapper.map(tree);
+    }
+}
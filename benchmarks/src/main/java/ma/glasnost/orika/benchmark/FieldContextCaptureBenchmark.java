@@ -0,0 +1,95 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.benchmark.model.FlatModel;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatDto;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatEntity;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of capturing the field context (see
+ * {@link DefaultMapperFactory.Builder#captureFieldContext(boolean)}); run with
+ * <code>-prof gc</code> to compare the allocation rate with and without it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldContextCaptureBenchmark {
+    
+    private static final Type<String> STRING = TypeFactory.valueOf(String.class);
+    
+    @Param({ "false", "true" })
+    public boolean captureFieldContext;
+    
+    private BoundMapperFacade<FlatEntity, FlatDto> flatMapper;
+    private FlatEntity flatEntity;
+    private MappingContext context;
+    
+    @Setup
+    public void setUp() {
+        flatMapper = BenchmarkMappers.newMapperFactory(new DefaultMapperFactory.Builder().captureFieldContext(captureFieldContext))
+                .getMapperFacade(FlatEntity.class, FlatDto.class);
+        flatEntity = FlatModel.newFlatEntity(1L);
+        context = new MappingContext(new HashMap<Object, Object>());
+    }
+    
+    @Benchmark
+    public FlatDto mapFlat() {
+        return flatMapper.map(flatEntity);
+    }
+    
+    /**
+     * Pushes and pops a few nested field frames directly on a reused context,
+     * which is what a generated mapper does around each field when capturing.
+     */
+    @Benchmark
+    public MappingContext pushAndPopFields() {
+        for (int i = 0; i < 4; ++i) {
+            context.beginMappingField("source", STRING, flatEntity, "dest", STRING, null);
+        }
+        for (int i = 0; i < 4; ++i) {
+            context.endMappingField();
+        }
+        return context;
+    }
+}
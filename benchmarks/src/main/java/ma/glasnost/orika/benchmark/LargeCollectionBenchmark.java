@@ -0,0 +1,88 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.benchmark.model.CollectionModel;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogDto;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogEntity;
+import ma.glasnost.orika.benchmark.model.CollectionModel.ProductDto;
+import ma.glasnost.orika.benchmark.model.CollectionModel.ProductEntity;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping a catalog holding large lists and maps, through a
+ * generated mapper and through <code>mapAsMap</code>; run with
+ * <code>-prof gc</code> to see the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LargeCollectionBenchmark {
+    
+    private static final Type<Map<String, ProductEntity>> ENTITY_MAP = new TypeBuilder<Map<String, ProductEntity>>() {}.build();
+    private static final Type<Map<String, ProductDto>> DTO_MAP = new TypeBuilder<Map<String, ProductDto>>() {}.build();
+    
+    @Param({ "10000" })
+    public int size;
+    
+    private BoundMapperFacade<CatalogEntity, CatalogDto> catalogMapper;
+    private MapperFacade mapperFacade;
+    private CatalogEntity catalog;
+    
+    @Setup
+    public void setUp() {
+        MapperFactory factory = BenchmarkMappers.newMapperFactory();
+        catalogMapper = factory.getMapperFacade(CatalogEntity.class, CatalogDto.class, false);
+        mapperFacade = factory.getMapperFacade();
+        catalog = CollectionModel.newCatalogEntity(size);
+    }
+    
+    @Benchmark
+    public CatalogDto catalog() {
+        return catalogMapper.map(catalog);
+    }
+    
+    @Benchmark
+    public Map<String, ProductDto> productsBySku() {
+        return mapperFacade.mapAsMap(catalog.getProductsBySku(), ENTITY_MAP, DTO_MAP);
+    }
+}
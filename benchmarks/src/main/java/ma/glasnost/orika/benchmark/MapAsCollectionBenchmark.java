@@ -0,0 +1,154 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.benchmark.model.DeepModel;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderEntity;
+import ma.glasnost.orika.benchmark.model.FlatModel;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatDto;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatEntity;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link MapperFacade#mapAsList(Iterable, Class)} and
+ * {@link MapperFacade#mapAsArray(Object[], Iterable, Class)} over top-level
+ * collections of flat and deep elements, against the batch
+ * {@link MapperFacade#mapAll(Iterable, Type, Type)} and
+ * {@link MapperFacade#mapInto(Object[], Object[], Type, Type)} operations
+ * and the chunked {@link MapperFacade#mapAsListParallel(List, Type, Type)},
+ * against consuming a lazily mapped stream, and against reading the first page
+ * of a lazily mapped list view.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapAsCollectionBenchmark {
+    
+    @Param({ "10", "1000" })
+    private int size;
+    
+    private static final Type<FlatEntity> FLAT_ENTITY = TypeFactory.valueOf(FlatEntity.class);
+    private static final Type<FlatDto> FLAT_DTO = TypeFactory.valueOf(FlatDto.class);
+    private static final int PAGE_SIZE = 20;
+    
+    private MapperFacade mapperFacade;
+    private BoundMapperFacade<FlatEntity, FlatDto> flatMapper;
+    private List<FlatEntity> flats;
+    private FlatEntity[] flatArray;
+    private List<OrderEntity> orders;
+    
+    @Setup
+    public void setUp() {
+        MapperFactory factory = BenchmarkMappers.newMapperFactory();
+        mapperFacade = factory.getMapperFacade();
+        flatMapper = factory.getMapperFacade(FlatEntity.class, FlatDto.class);
+        flats = new ArrayList<FlatEntity>(size);
+        orders = new ArrayList<OrderEntity>(size);
+        for (int i = 0; i < size; ++i) {
+            flats.add(FlatModel.newFlatEntity(i));
+            orders.add(DeepModel.newOrderEntity(i));
+        }
+        flatArray = flats.toArray(new FlatEntity[size]);
+    }
+    
+    @Benchmark
+    public List<FlatDto> flatAsList() {
+        return mapperFacade.mapAsList(flats, FlatDto.class);
+    }
+    
+    @Benchmark
+    public FlatDto[] flatAsArray() {
+        return mapperFacade.mapAsArray(new FlatDto[size], flats, FlatDto.class);
+    }
+    
+    @Benchmark
+    public List<FlatDto> flatMapAll() {
+        return mapperFacade.mapAll(flats, FLAT_ENTITY, FLAT_DTO);
+    }
+    
+    @Benchmark
+    public FlatDto[] flatMapInto() {
+        FlatDto[] destination = new FlatDto[size];
+        mapperFacade.mapInto(flatArray, destination, FLAT_ENTITY, FLAT_DTO);
+        return destination;
+    }
+    
+    @Benchmark
+    public List<FlatDto> flatAsListParallel() {
+        return mapperFacade.mapAsListParallel(flats, FLAT_ENTITY, FLAT_DTO);
+    }
+    
+    @Benchmark
+    public void flatAsStream(final Blackhole blackhole) {
+        mapperFacade.mapAsStream(flats.stream(), FLAT_ENTITY, FLAT_DTO).forEach(new Consumer<FlatDto>() {
+            public void accept(FlatDto dto) {
+                blackhole.consume(dto);
+            }
+        });
+    }
+    
+    @Benchmark
+    public void flatLazyFirstPage(Blackhole blackhole) {
+        List<FlatDto> page = mapperFacade.mapAsLazyList(flats, FLAT_ENTITY, FLAT_DTO);
+        for (int i = 0, end = Math.min(PAGE_SIZE, page.size()); i < end; ++i) {
+            blackhole.consume(page.get(i));
+        }
+    }
+    
+    @Benchmark
+    public List<FlatDto> flatBoundMapAll() {
+        return flatMapper.mapAll(flats);
+    }
+    
+    @Benchmark
+    public List<OrderDto> deepAsList() {
+        return mapperFacade.mapAsList(orders, OrderDto.class);
+    }
+    
+    @Benchmark
+    public OrderDto[] deepAsArray() {
+        return mapperFacade.mapAsArray(new OrderDto[size], orders, OrderDto.class);
+    }
+}
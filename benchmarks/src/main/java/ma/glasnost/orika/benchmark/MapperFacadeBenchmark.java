@@ -0,0 +1,105 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.benchmark.model.CollectionModel;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogDto;
+import ma.glasnost.orika.benchmark.model.CollectionModel.CatalogEntity;
+import ma.glasnost.orika.benchmark.model.ConverterModel;
+import ma.glasnost.orika.benchmark.model.ConverterModel.ConvertedDto;
+import ma.glasnost.orika.benchmark.model.ConverterModel.ConvertedEntity;
+import ma.glasnost.orika.benchmark.model.CyclicModel;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeDto;
+import ma.glasnost.orika.benchmark.model.CyclicModel.TreeNodeEntity;
+import ma.glasnost.orika.benchmark.model.DeepModel;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderDto;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderEntity;
+import ma.glasnost.orika.benchmark.model.FlatModel;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatDto;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MapperFacade#map(Object, Class)}, i.e. the path through
+ * MapperFacadeImpl which resolves (and caches) a MappingStrategy from the
+ * runtime class of the source, for each of the model graphs.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperFacadeBenchmark {
+    
+    private MapperFacade mapperFacade;
+    private FlatEntity flat;
+    private OrderEntity order;
+    private CatalogEntity catalog;
+    private TreeNodeEntity tree;
+    private ConvertedEntity converted;
+    
+    @Setup
+    public void setUp() {
+        mapperFacade = BenchmarkMappers.newMapperFactory().getMapperFacade();
+        flat = FlatModel.newFlatEntity(42);
+        order = DeepModel.newOrderEntity(42);
+        catalog = CollectionModel.newCatalogEntity(20);
+        tree = CyclicModel.newTree(3, 4);
+        converted = ConverterModel.newConvertedEntity(42);
+    }
+    
+    @Benchmark
+    public FlatDto flat() {
+        return mapperFacade.map(flat, FlatDto.class);
+    }
+    
+    @Benchmark
+    public OrderDto deep() {
+        return mapperFacade.map(order, OrderDto.class);
+    }
+    
+    @Benchmark
+    public CatalogDto collections() {
+        return mapperFacade.map(catalog, CatalogDto.class);
+    }
+    
+    @Benchmark
+    public TreeNodeDto cyclic() {
+        return mapperFacade.map(tree, TreeNodeDto.class);
+    }
+    
+    @Benchmark
+    public ConvertedDto converters() {
+        return mapperFacade.map(converted, ConvertedDto.class);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.benchmark.model.TelemetryModel;
+import ma.glasnost.orika.benchmark.model.TelemetryModel.TelemetryDto;
+import ma.glasnost.orika.benchmark.model.TelemetryModel.TelemetryEntity;
+import ma.glasnost.orika.benchmark.model.TelemetryModel.TelemetryListDto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping large primitive arrays, to primitive arrays and to a list
+ * of wrappers; run with <code>-prof gc</code> to see the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveArrayBenchmark {
+    
+    @Param({ "10000" })
+    public int size;
+    
+    private BoundMapperFacade<TelemetryEntity, TelemetryDto> arrayMapper;
+    private BoundMapperFacade<TelemetryEntity, TelemetryListDto> listMapper;
+    private TelemetryEntity telemetry;
+    
+    @Setup
+    public void setUp() {
+        MapperFactory factory = BenchmarkMappers.newMapperFactory();
+        arrayMapper = factory.getMapperFacade(TelemetryEntity.class, TelemetryDto.class, false);
+        listMapper = factory.getMapperFacade(TelemetryEntity.class, TelemetryListDto.class, false);
+        telemetry = TelemetryModel.newTelemetryEntity(size);
+    }
+    
+    @Benchmark
+    public TelemetryDto toArrays() {
+        return arrayMapper.map(telemetry);
+    }
+    
+    @Benchmark
+    public TelemetryListDto toList() {
+        return listMapper.map(telemetry);
+    }
+}
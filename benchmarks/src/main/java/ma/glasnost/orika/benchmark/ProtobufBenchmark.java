@@ -0,0 +1,75 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.benchmark.model.DeepModel;
+import ma.glasnost.orika.benchmark.model.DeepModel.OrderEntity;
+import ma.glasnost.orika.benchmark.model.FlatModel;
+import ma.glasnost.orika.benchmark.model.FlatModel.FlatEntity;
+import ma.glasnost.orika.benchmark.proto.FlatMessage;
+import ma.glasnost.orika.benchmark.proto.OrderMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping of beans into protobuf GeneratedMessageV3 destinations,
+ * which goes through the message Builder and a final build() for every
+ * (nested) message.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtobufBenchmark {
+    
+    private MapperFacade mapperFacade;
+    private FlatEntity flat;
+    private OrderEntity order;
+    
+    @Setup
+    public void setUp() {
+        mapperFacade = BenchmarkMappers.newMapperFactory().getMapperFacade();
+        flat = FlatModel.newFlatEntity(42);
+        order = DeepModel.newOrderEntity(42);
+    }
+    
+    @Benchmark
+    public FlatMessage flatMessage() {
+        return mapperFacade.map(flat, FlatMessage.class);
+    }
+    
+    @Benchmark
+    public OrderMessage deepMessage() {
+        return mapperFacade.map(order, OrderMessage.class);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A collections-heavy graph: a catalog holding a list, a map and a set whose
+ * element count is chosen by the benchmark.
+ */
+public class CollectionModel {
+    
+    public static class ProductEntity {
+        private String sku;
+        private String name;
+        private double price;
+        private int quantity;
+        
+        public String getSku() {
+            return sku;
+        }
+        
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+        
+        public void setPrice(double price) {
+            this.price = price;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+    
+    public static class CatalogEntity {
+        private String name;
+        private List<ProductEntity> products;
+        private Map<String, ProductEntity> productsBySku;
+        private Set<String> tags;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public List<ProductEntity> getProducts() {
+            return products;
+        }
+        
+        public void setProducts(List<ProductEntity> products) {
+            this.products = products;
+        }
+        
+        public Map<String, ProductEntity> getProductsBySku() {
+            return productsBySku;
+        }
+        
+        public void setProductsBySku(Map<String, ProductEntity> productsBySku) {
+            this.productsBySku = productsBySku;
+        }
+        
+        public Set<String> getTags() {
+            return tags;
+        }
+        
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+    
+    public static class ProductDto {
+        private String sku;
+        private String name;
+        private double price;
+        private int quantity;
+        
+        public String getSku() {
+            return sku;
+        }
+        
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+        
+        public void setPrice(double price) {
+            this.price = price;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+    
+    public static class CatalogDto {
+        private String name;
+        private List<ProductDto> products;
+        private Map<String, ProductDto> productsBySku;
+        private Set<String> tags;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public List<ProductDto> getProducts() {
+            return products;
+        }
+        
+        public void setProducts(List<ProductDto> products) {
+            this.products = products;
+        }
+        
+        public Map<String, ProductDto> getProductsBySku() {
+            return productsBySku;
+        }
+        
+        public void setProductsBySku(Map<String, ProductDto> productsBySku) {
+            this.productsBySku = productsBySku;
+        }
+        
+        public Set<String> getTags() {
+            return tags;
+        }
+        
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+    
+    public static ProductEntity newProductEntity(long id) {
+        ProductEntity product = new ProductEntity();
+        product.setSku("SKU-" + id);
+        product.setName("product-" + id);
+        product.setPrice(id * 0.75d);
+        product.setQuantity((int) (id % 50));
+        return product;
+    }
+    
+    public static CatalogEntity newCatalogEntity(int size) {
+        List<ProductEntity> products = new ArrayList<ProductEntity>(size);
+        Map<String, ProductEntity> productsBySku = new LinkedHashMap<String, ProductEntity>();
+        Set<String> tags = new LinkedHashSet<String>();
+        for (int i = 0; i < size; ++i) {
+            ProductEntity product = newProductEntity(i);
+            products.add(product);
+            productsBySku.put(product.getSku(), product);
+            tags.add("tag-" + (i % 10));
+        }
+        CatalogEntity catalog = new CatalogEntity();
+        catalog.setName("catalog");
+        catalog.setProducts(products);
+        catalog.setProductsBySku(productsBySku);
+        catalog.setTags(tags);
+        return catalog;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark.model;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * A bean whose properties can only be mapped through converters: one custom
+ * converter (BigDecimal to String) and several built-in ones (numeric
+ * narrowing, Date to long, enum and String conversions).
+ */
+public class ConverterModel {
+    
+    public static class ConvertedEntity {
+        private BigDecimal amount;
+        private Long count;
+        private Date timestamp;
+        private Status status;
+        private String quantity;
+        private Double ratio;
+        
+        public BigDecimal getAmount() {
+            return amount;
+        }
+        
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+        
+        public Long getCount() {
+            return count;
+        }
+        
+        public void setCount(Long count) {
+            this.count = count;
+        }
+        
+        public Date getTimestamp() {
+            return timestamp;
+        }
+        
+        public void setTimestamp(Date timestamp) {
+            this.timestamp = timestamp;
+        }
+        
+        public Status getStatus() {
+            return status;
+        }
+        
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+        
+        public String getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(String quantity) {
+            this.quantity = quantity;
+        }
+        
+        public Double getRatio() {
+            return ratio;
+        }
+        
+        public void setRatio(Double ratio) {
+            this.ratio = ratio;
+        }
+    }
+    
+    public static class ConvertedDto {
+        private String amount;
+        private int count;
+        private long timestamp;
+        private String status;
+        private int quantity;
+        private long ratio;
+        
+        public String getAmount() {
+            return amount;
+        }
+        
+        public void setAmount(String amount) {
+            this.amount = amount;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        public void setCount(int count) {
+            this.count = count;
+        }
+        
+        public long getTimestamp() {
+            return timestamp;
+        }
+        
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public void setStatus(String status) {
+            this.status = status;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+        
+        public long getRatio() {
+            return ratio;
+        }
+        
+        public void setRatio(long ratio) {
+            this.ratio = ratio;
+        }
+    }
+    
+    public enum Status {
+        NEW, ACTIVE, SUSPENDED, CLOSED
+    }
+    
+    public static ConvertedEntity newConvertedEntity(long id) {
+        ConvertedEntity entity = new ConvertedEntity();
+        entity.setAmount(new BigDecimal(id).movePointLeft(2));
+        entity.setCount(id);
+        entity.setTimestamp(new Date(1500000000000L + id));
+        entity.setStatus(Status.values()[(int) (id % Status.values().length)]);
+        entity.setQuantity(String.valueOf(id % 1000));
+        entity.setRatio(id / 3d);
+        return entity;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A tree whose nodes reference their parent; mapping it requires the cycle
+ * tracking of the default MappingContext.
+ */
+public class CyclicModel {
+    
+    public static class TreeNodeEntity {
+        private String name;
+        private TreeNodeEntity parent;
+        private List<TreeNodeEntity> children;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public TreeNodeEntity getParent() {
+            return parent;
+        }
+        
+        public void setParent(TreeNodeEntity parent) {
+            this.parent = parent;
+        }
+        
+        public List<TreeNodeEntity> getChildren() {
+            return children;
+        }
+        
+        public void setChildren(List<TreeNodeEntity> children) {
+            this.children = children;
+        }
+    }
+    
+    public static class TreeNodeDto {
+        private String name;
+        private TreeNodeDto parent;
+        private List<TreeNodeDto> children;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public TreeNodeDto getParent() {
+            return parent;
+        }
+        
+        public void setParent(TreeNodeDto parent) {
+            this.parent = parent;
+        }
+        
+        public List<TreeNodeDto> getChildren() {
+            return children;
+        }
+        
+        public void setChildren(List<TreeNodeDto> children) {
+            this.children = children;
+        }
+    }
+    
+    /**
+     * Builds a tree of the given depth and fan-out in which every child
+     * references its parent, so the graph contains cycles.
+     */
+    public static TreeNodeEntity newTree(int depth, int fanOut) {
+        TreeNodeEntity root = new TreeNodeEntity();
+        root.setName("root");
+        addChildren(root, depth, fanOut);
+        return root;
+    }
+    
+    private static void addChildren(TreeNodeEntity parent, int depth, int fanOut) {
+        List<TreeNodeEntity> children = new ArrayList<TreeNodeEntity>(fanOut);
+        if (depth > 0) {
+            for (int i = 0; i < fanOut; ++i) {
+                TreeNodeEntity child = new TreeNodeEntity();
+                child.setName(parent.getName() + "." + i);
+                child.setParent(parent);
+                addChildren(child, depth - 1, fanOut);
+                children.add(child);
+            }
+        }
+        parent.setChildren(children);
+    }
+}
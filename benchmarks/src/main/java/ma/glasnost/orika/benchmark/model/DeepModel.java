@@ -0,0 +1,327 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark.model;
+
+/**
+ * A four level deep graph (order, customer, address, country) where every
+ * level is mapped through its own generated mapper.
+ */
+public class DeepModel {
+    
+    public static class CountryEntity {
+        private String code;
+        private String name;
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class AddressEntity {
+        private String street;
+        private String city;
+        private String zip;
+        private CountryEntity country;
+        
+        public String getStreet() {
+            return street;
+        }
+        
+        public void setStreet(String street) {
+            this.street = street;
+        }
+        
+        public String getCity() {
+            return city;
+        }
+        
+        public void setCity(String city) {
+            this.city = city;
+        }
+        
+        public String getZip() {
+            return zip;
+        }
+        
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+        
+        public CountryEntity getCountry() {
+            return country;
+        }
+        
+        public void setCountry(CountryEntity country) {
+            this.country = country;
+        }
+    }
+    
+    public static class CustomerEntity {
+        private long id;
+        private String name;
+        private String email;
+        private AddressEntity address;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getEmail() {
+            return email;
+        }
+        
+        public void setEmail(String email) {
+            this.email = email;
+        }
+        
+        public AddressEntity getAddress() {
+            return address;
+        }
+        
+        public void setAddress(AddressEntity address) {
+            this.address = address;
+        }
+    }
+    
+    public static class OrderEntity {
+        private long id;
+        private String reference;
+        private double total;
+        private CustomerEntity customer;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getReference() {
+            return reference;
+        }
+        
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+        
+        public double getTotal() {
+            return total;
+        }
+        
+        public void setTotal(double total) {
+            this.total = total;
+        }
+        
+        public CustomerEntity getCustomer() {
+            return customer;
+        }
+        
+        public void setCustomer(CustomerEntity customer) {
+            this.customer = customer;
+        }
+    }
+    
+    public static class CountryDto {
+        private String code;
+        private String name;
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class AddressDto {
+        private String street;
+        private String city;
+        private String zip;
+        private CountryDto country;
+        
+        public String getStreet() {
+            return street;
+        }
+        
+        public void setStreet(String street) {
+            this.street = street;
+        }
+        
+        public String getCity() {
+            return city;
+        }
+        
+        public void setCity(String city) {
+            this.city = city;
+        }
+        
+        public String getZip() {
+            return zip;
+        }
+        
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+        
+        public CountryDto getCountry() {
+            return country;
+        }
+        
+        public void setCountry(CountryDto country) {
+            this.country = country;
+        }
+    }
+    
+    public static class CustomerDto {
+        private long id;
+        private String name;
+        private String email;
+        private AddressDto address;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getEmail() {
+            return email;
+        }
+        
+        public void setEmail(String email) {
+            this.email = email;
+        }
+        
+        public AddressDto getAddress() {
+            return address;
+        }
+        
+        public void setAddress(AddressDto address) {
+            this.address = address;
+        }
+    }
+    
+    public static class OrderDto {
+        private long id;
+        private String reference;
+        private double total;
+        private CustomerDto customer;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getReference() {
+            return reference;
+        }
+        
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
+        
+        public double getTotal() {
+            return total;
+        }
+        
+        public void setTotal(double total) {
+            this.total = total;
+        }
+        
+        public CustomerDto getCustomer() {
+            return customer;
+        }
+        
+        public void setCustomer(CustomerDto customer) {
+            this.customer = customer;
+        }
+    }
+    
+    public static OrderEntity newOrderEntity(long id) {
+        CountryEntity country = new CountryEntity();
+        country.setCode("MA");
+        country.setName("Morocco");
+        
+        AddressEntity address = new AddressEntity();
+        address.setStreet(id + " Avenue Hassan II");
+        address.setCity("Casablanca");
+        address.setZip("20000");
+        address.setCountry(country);
+        
+        CustomerEntity customer = new CustomerEntity();
+        customer.setId(id);
+        customer.setName("customer-" + id);
+        customer.setEmail("customer-" + id + "@example.com");
+        customer.setAddress(address);
+        
+        OrderEntity order = new OrderEntity();
+        order.setId(id);
+        order.setReference("ORD-" + id);
+        order.setTotal(id * 10.5d);
+        order.setCustomer(customer);
+        return order;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.benchmark.model;
+
+import java.util.Date;
+
+/**
+ * A flat bean with a dozen scalar properties; the baseline for the cost of a
+ * single generated mapper invocation.
+ */
+public class FlatModel {
+    
+    public static class FlatEntity {
+        private long id;
+        private String name;
+        private String description;
+        private int quantity;
+        private double price;
+        private boolean active;
+        private String code;
+        private String category;
+        private Date createdAt;
+        private Long version;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+        
+        public void setDescription(String description) {
+            this.description = description;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+        
+        public void setPrice(double price) {
+            this.price = price;
+        }
+        
+        public boolean isActive() {
+            return active;
+        }
+        
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getCategory() {
+            return category;
+        }
+        
+        public void setCategory(String category) {
+            this.category = category;
+        }
+        
+        public Date getCreatedAt() {
+            return createdAt;
+        }
+        
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+        
+        public Long getVersion() {
+            return version;
+        }
+        
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+    
+    public static class FlatDto {
+        private long id;
+        private String name;
+        private String description;
+        private int quantity;
+        private double price;
+        private boolean active;
+        private String code;
+        private String category;
+        private Date createdAt;
+        private Long version;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+        
+        public void setDescription(String description) {
+            this.description = description;
+        }
+        
+        public int getQuantity() {
+            return quantity;
+        }
+        
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+        
+        public void setPrice(double price) {
+            this.price = price;
+        }
+        
+        public boolean isActive() {
+            return active;
+        }
+        
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getCategory() {
+            return category;
+        }
+        
+        public void setCategory(String category) {
+            this.category = category;
+        }
+        
+        public Date getCreatedAt() {
+            return createdAt;
+        }
+        
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+        
+        public Long getVersion() {
+            return version;
+        }
+        
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+    
+    public static FlatEntity newFlatEntity(long id) {
+        FlatEntity entity = new FlatEntity();
+        entity.setId(id);
+        entity.setName("name-" + id);
+        entity.setDescription("A moderately long description for entity " + id);
+        entity.setQuantity((int) (id % 100));
+        entity.setPrice(id * 1.25d);
+        entity.setActive(id % 2 == 0);
+        entity.setCode("C" + id);
+        entity.setCategory("category-" + (id % 7));
+        entity.setCreatedAt(new Date(1500000000000L + id));
+        entity.setVersion(id);
+        return entity;
+    }
+}
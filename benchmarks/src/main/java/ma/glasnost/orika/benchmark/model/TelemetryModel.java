@@ -0,0 +1,96 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.benchmark.model;
+
+import java.util.List;
+
+/**
+ * A payload made of large primitive arrays, mapped to primitive arrays (some
+ * of a wider element type) and to a list of wrappers.
+ */
+public class TelemetryModel {
+    
+    public static class TelemetryEntity {
+        private double[] samples;
+        private int[] counters;
+        
+        public double[] getSamples() {
+            return samples;
+        }
+        
+        public void setSamples(double[] samples) {
+            this.samples = samples;
+        }
+        
+        public int[] getCounters() {
+            return counters;
+        }
+        
+        public void setCounters(int[] counters) {
+            this.counters = counters;
+        }
+    }
+    
+    public static class TelemetryDto {
+        private double[] samples;
+        private long[] counters;
+        
+        public double[] getSamples() {
+            return samples;
+        }
+        
+        public void setSamples(double[] samples) {
+            this.samples = samples;
+        }
+        
+        public long[] getCounters() {
+            return counters;
+        }
+        
+        public void setCounters(long[] counters) {
+            this.counters = counters;
+        }
+    }
+    
+    public static class TelemetryListDto {
+        private List<Double> samples;
+        
+        public List<Double> getSamples() {
+            return samples;
+        }
+        
+        public void setSamples(List<Double> samples) {
+            this.samples = samples;
+        }
+    }
+    
+    public static TelemetryEntity newTelemetryEntity(int size) {
+        TelemetryEntity telemetry = new TelemetryEntity();
+        double[] samples = new double[size];
+        int[] counters = new int[size];
+        for (int i = 0; i < size; ++i) {
+            samples[i] = i * 0.25d;
+            counters[i] = i;
+        }
+        telemetry.setSamples(samples);
+        telemetry.setCounters(counters);
+        return telemetry;
+    }
+}
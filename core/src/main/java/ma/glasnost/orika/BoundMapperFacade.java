@@ -17,6 +17,10 @@
  */
 package ma.glasnost.orika;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * BoundMapperFacade represents a caching mapper configuration
@@ -123,4 +127,120 @@ public interface BoundMapperFacade<A, B> extends MappedTypePair<A, B> {
      * @return
      */
     A newObjectReverse(B source, MappingContext context);
+    
+    /**
+     * Generates a new List of 'B' instances from a batch of 'A' instances;
+     * null elements are skipped. The default implementation maps each element
+     * with {@link #map(Object)}, whereas the built-in implementation maps the
+     * whole batch within a single MappingContext.
+     * 
+     * @param source
+     * @return
+     */
+    default List<B> mapAll(Iterable<A> source) {
+        if (source == null) {
+            return null;
+        }
+        List<B> destination = new ArrayList<B>();
+        for (A instanceA : source) {
+            if (instanceA != null) {
+                destination.add(map(instanceA));
+            }
+        }
+        return destination;
+    }
+    
+    /**
+     * Maps a batch of 'A' instances into a List of 'B' obtained from the
+     * provided supplier; null elements are skipped.
+     * 
+     * @param source
+     * @param destinationSupplier
+     * @param context
+     * @return the supplied List
+     */
+    default List<B> mapAll(Iterator<A> source, Supplier<? extends List<B>> destinationSupplier, MappingContext context) {
+        if (source == null) {
+            return null;
+        }
+        List<B> destination = destinationSupplier.get();
+        while (source.hasNext()) {
+            A instanceA = source.next();
+            if (instanceA != null) {
+                destination.add(map(instanceA, context));
+            }
+        }
+        return destination;
+    }
+    
+    /**
+     * Maps each instance of 'A' into the same position of the provided
+     * array of 'B'; null elements leave a null in the destination. The
+     * default implementation maps each element with {@link #map(Object)}.
+     * 
+     * @param source
+     * @param destination
+     * @return the number of elements written to the destination
+     */
+    default int mapInto(A[] source, B[] destination) {
+        if (source == null) {
+            return 0;
+        }
+        if (destination.length < source.length) {
+            throw new IllegalArgumentException("destination array of length " + destination.length
+                    + " cannot hold the " + source.length + " source elements");
+        }
+        for (int i = 0; i < source.length; ++i) {
+            destination[i] = source[i] != null ? map(source[i]) : null;
+        }
+        return source.length;
+    }
+    
+    /**
+     * Maps each instance of 'A' into the same position of the provided
+     * array of 'B'; null elements leave a null in the destination.
+     * 
+     * @param source
+     * @param destination
+     * @param context
+     * @return the number of elements written to the destination
+     */
+    default int mapInto(A[] source, B[] destination, MappingContext context) {
+        if (source == null) {
+            return 0;
+        }
+        if (destination.length < source.length) {
+            throw new IllegalArgumentException("destination array of length " + destination.length
+                    + " cannot hold the " + source.length + " source elements");
+        }
+        for (int i = 0; i < source.length; ++i) {
+            destination[i] = source[i] != null ? map(source[i], context) : null;
+        }
+        return source.length;
+    }
+    
+    /**
+     * Returns an Iterator which lazily maps each instance of 'A' returned by
+     * the source Iterator as it is requested; nothing is collected, so large
+     * sources can be mapped in constant memory. The built-in implementation
+     * reuses one MappingContext, reset after every element, until the source
+     * is exhausted; the context then goes back to the pool. An Iterator which
+     * is abandoned before <code>hasNext()</code> returns false never returns
+     * its context to the pool; the context is garbage collected with the
+     * Iterator, and the pool creates a new one.
+     * 
+     * @param source
+     * @return an Iterator over the mapped elements
+     */
+    default Iterator<B> mapAsIterator(final Iterator<A> source) {
+        return new Iterator<B>() {
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+            
+            public B next() {
+                return map(source.next());
+            }
+        };
+    }
 }
@@ -19,9 +19,15 @@
 package ma.glasnost.orika;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import ma.glasnost.orika.metadata.Type;
 
@@ -896,6 +902,367 @@ public interface MapperFacade {
     <Sk, Sv, D> D[] mapAsArray(D[] destination, Map<Sk, Sv> source, Type<? extends Map<Sk, Sv>> sourceType, Type<D> destinationType,
             MappingContext context);
     
+    /**
+     * Maps a batch of source objects into a new List, presized to the size of
+     * the source when it is a Collection. All elements are mapped within one
+     * MappingContext, and the MappingStrategy is resolved only once per
+     * distinct runtime class of the source elements. Null elements are
+     * skipped. The default implementation delegates to
+     * {@link #mapAsList(Iterable, Type, Type)}.
+     * 
+     * @param source
+     *            the source Iterable
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return a new List containing the mapped elements
+     */
+    default <S, D> List<D> mapAll(Iterable<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return source == null ? null : mapAsList(source, sourceType, destinationType);
+    }
+    
+    /**
+     * Maps a batch of source objects into a new List, presized to the length
+     * of the source array. The default implementation delegates to
+     * {@link #mapAsList(Object[], Type, Type)}.
+     * 
+     * @param source
+     *            the source Array
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return a new List containing the mapped elements
+     * @see #mapAll(Iterable, Type, Type)
+     */
+    default <S, D> List<D> mapAll(S[] source, Type<S> sourceType, Type<D> destinationType) {
+        return source == null ? null : mapAsList(source, sourceType, destinationType);
+    }
+    
+    /**
+     * Maps a batch of source objects into a List obtained from the provided
+     * supplier. The default implementation maps each element with
+     * {@link #map(Object, Type, Type)}.
+     * 
+     * @param source
+     *            the source Iterator
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @param destinationSupplier
+     *            supplies the List into which the mapped elements are added
+     * @return the supplied List
+     * @see #mapAll(Iterable, Type, Type)
+     */
+    default <S, D> List<D> mapAll(Iterator<S> source, Type<S> sourceType, Type<D> destinationType,
+            Supplier<? extends List<D>> destinationSupplier) {
+        if (source == null) {
+            return null;
+        }
+        List<D> destination = destinationSupplier.get();
+        while (source.hasNext()) {
+            S item = source.next();
+            if (item != null) {
+                destination.add(map(item, sourceType, destinationType));
+            }
+        }
+        return destination;
+    }
+    
+    /**
+     * Maps a batch of source objects into a List obtained from the provided
+     * supplier, using the provided MappingContext. The default implementation
+     * maps each element with {@link #map(Object, Type, Type, MappingContext)}.
+     * 
+     * @param source
+     *            the source Iterator
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @param destinationSupplier
+     *            supplies the List into which the mapped elements are added
+     * @param context
+     *            the current mapping context
+     * @return the supplied List
+     * @see #mapAll(Iterable, Type, Type)
+     */
+    default <S, D> List<D> mapAll(Iterator<S> source, Type<S> sourceType, Type<D> destinationType,
+            Supplier<? extends List<D>> destinationSupplier, MappingContext context) {
+        if (source == null) {
+            return null;
+        }
+        List<D> destination = destinationSupplier.get();
+        while (source.hasNext()) {
+            S item = source.next();
+            if (item != null) {
+                destination.add(map(item, sourceType, destinationType, context));
+            }
+        }
+        return destination;
+    }
+    
+    /**
+     * Maps each element of the source array into the same position of the
+     * caller-provided destination array; null elements leave a null in the
+     * destination. The default implementation maps each element with
+     * {@link #map(Object, Type, Type)}.
+     * 
+     * @param source
+     *            the source Array
+     * @param destination
+     *            the destination Array, at least as long as the source
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return the number of elements written to the destination
+     * @see #mapAll(Iterable, Type, Type)
+     */
+    default <S, D> int mapInto(S[] source, D[] destination, Type<S> sourceType, Type<D> destinationType) {
+        if (source == null) {
+            return 0;
+        }
+        if (destination.length < source.length) {
+            throw new IllegalArgumentException("destination array of length " + destination.length
+                    + " cannot hold the " + source.length + " source elements");
+        }
+        for (int i = 0; i < source.length; ++i) {
+            destination[i] = source[i] != null ? map(source[i], sourceType, destinationType) : null;
+        }
+        return source.length;
+    }
+    
+    /**
+     * Maps each element of the source array into the same position of the
+     * caller-provided destination array, using the provided MappingContext.
+     * The default implementation maps each element with
+     * {@link #map(Object, Type, Type, MappingContext)}.
+     * 
+     * @param source
+     *            the source Array
+     * @param destination
+     *            the destination Array, at least as long as the source
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @param context
+     *            the current mapping context
+     * @return the number of elements written to the destination
+     * @see #mapInto(Object[], Object[], Type, Type)
+     */
+    default <S, D> int mapInto(S[] source, D[] destination, Type<S> sourceType, Type<D> destinationType, MappingContext context) {
+        if (source == null) {
+            return 0;
+        }
+        if (destination.length < source.length) {
+            throw new IllegalArgumentException("destination array of length " + destination.length
+                    + " cannot hold the " + source.length + " source elements");
+        }
+        for (int i = 0; i < source.length; ++i) {
+            destination[i] = source[i] != null ? map(source[i], sourceType, destinationType, context) : null;
+        }
+        return source.length;
+    }
+    
+    /**
+     * Maps the elements returned by the source Iterator, in order, into the
+     * caller-provided destination array; null elements leave a null in the
+     * destination. The default implementation maps each element with
+     * {@link #map(Object, Type, Type, MappingContext)}.
+     * 
+     * @param source
+     *            the source Iterator
+     * @param destination
+     *            the destination Array, at least as long as the source
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @param context
+     *            the current mapping context
+     * @return the number of elements written to the destination
+     * @see #mapInto(Object[], Object[], Type, Type)
+     */
+    default <S, D> int mapInto(Iterator<S> source, D[] destination, Type<S> sourceType, Type<D> destinationType, MappingContext context) {
+        if (source == null) {
+            return 0;
+        }
+        int i = 0;
+        while (source.hasNext()) {
+            if (i == destination.length) {
+                throw new IllegalArgumentException("destination array of length " + destination.length
+                        + " cannot hold all of the source elements");
+            }
+            S item = source.next();
+            destination[i++] = item != null ? map(item, sourceType, destinationType, context) : null;
+        }
+        return i;
+    }
+    
+    /**
+     * Maps the source List into a new List, splitting large sources into
+     * chunks which are mapped concurrently on the common ForkJoinPool; the
+     * result keeps the order of the source, and null elements are skipped.
+     * (Arrays can be passed through <code>Arrays.asList</code>.)<br>
+     * <br>
+     * Each chunk is mapped within its own MappingContext, so object identity
+     * and cycles are only preserved within a chunk: an object referenced from
+     * elements of two different chunks is mapped once per chunk. The default
+     * implementation maps sequentially with
+     * {@link #mapAsList(Iterable, Type, Type)}.
+     * 
+     * @param source
+     *            the source List
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return a new List containing the mapped elements
+     */
+    default <S, D> List<D> mapAsListParallel(List<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return source == null ? null : mapAsList(source, sourceType, destinationType);
+    }
+    
+    /**
+     * Maps the source List into a new List, splitting large sources into
+     * chunks which are mapped concurrently on the provided Executor. The
+     * default implementation maps sequentially with
+     * {@link #mapAsList(Iterable, Type, Type)}.
+     * 
+     * @param source
+     *            the source List
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @param executor
+     *            the Executor on which chunks are mapped; the calling thread
+     *            maps one of the chunks itself
+     * @return a new List containing the mapped elements
+     * @see #mapAsListParallel(List, Type, Type)
+     */
+    default <S, D> List<D> mapAsListParallel(List<S> source, Type<S> sourceType, Type<D> destinationType, Executor executor) {
+        return source == null ? null : mapAsList(source, sourceType, destinationType);
+    }
+    
+    /**
+     * Returns a Stream which lazily maps the elements of the source Stream as
+     * they are consumed; null elements are mapped to null. The destination
+     * elements are never collected, so arbitrarily large sources can be
+     * mapped in constant memory.<br>
+     * <br>
+     * One MappingContext is reused for the whole (sequential) stream, and one
+     * per split of a parallel stream; it is reset after each element, so
+     * objects shared between elements are mapped once per element. A context
+     * goes back to the pool when its part of the source is exhausted, or else
+     * when the returned Stream is closed: close it (for example with
+     * try-with-resources) after a short-circuiting operation such as
+     * <code>findFirst</code>, <code>limit</code> or <code>anyMatch</code>.
+     * Closing the returned Stream also closes the source. The default
+     * implementation maps each element with {@link #map(Object, Type, Type)}.
+     * 
+     * @param source
+     *            the source Stream
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return a Stream of the mapped elements
+     */
+    default <S, D> Stream<D> mapAsStream(Stream<S> source, final Type<S> sourceType, final Type<D> destinationType) {
+        return source.map(new Function<S, D>() {
+            public D apply(S item) {
+                return item != null ? map(item, sourceType, destinationType) : null;
+            }
+        });
+    }
+    
+    /**
+     * Returns a Stream which lazily maps the elements of the source Stream as
+     * they are consumed. The default implementation maps each element with
+     * {@link #map(Object, Class)}.
+     * 
+     * @param source
+     *            the source Stream
+     * @param destinationClass
+     *            the destination class
+     * @return a Stream of the mapped elements
+     * @see #mapAsStream(Stream, Type, Type)
+     */
+    default <S, D> Stream<D> mapAsStream(Stream<S> source, final Class<D> destinationClass) {
+        return source.map(new Function<S, D>() {
+            public D apply(S item) {
+                return item != null ? map(item, destinationClass) : null;
+            }
+        });
+    }
+    
+    /**
+     * Returns a read-only List view over a snapshot of the source List, whose
+     * elements are mapped the first time they are accessed and then
+     * memoized; elements which are never read are never mapped. As with
+     * {@link #mapAsList(Iterable, Type, Type)}, null elements are skipped, so
+     * the view may be smaller than the source. Each element
+     * is mapped within its own MappingContext, and the view is not
+     * thread-safe. The default implementation maps the elements eagerly with
+     * {@link #mapAsList(Iterable, Type, Type)}.
+     * 
+     * @param source
+     *            the source List
+     * @param sourceType
+     *            the type of the source elements
+     * @param destinationType
+     *            the type of the destination elements
+     * @return a lazily mapped List view
+     */
+    default <S, D> List<D> mapAsLazyList(List<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return source == null ? null : Collections.unmodifiableList(mapAsList(source, sourceType, destinationType));
+    }
+    
+    /**
+     * Returns a read-only List view over a snapshot of the source List, whose
+     * elements are mapped the first time they are accessed; null elements are
+     * skipped. The default
+     * implementation maps the elements eagerly with
+     * {@link #mapAsList(Iterable, Class)}.
+     * 
+     * @param source
+     *            the source List
+     * @param destinationClass
+     *            the destination class
+     * @return a lazily mapped List view
+     * @see #mapAsLazyList(List, Type, Type)
+     */
+    default <S, D> List<D> mapAsLazyList(List<S> source, Class<D> destinationClass) {
+        return source == null ? null : Collections.unmodifiableList(mapAsList(source, destinationClass));
+    }
+    
+    /**
+     * Returns a read-only Map view over the source Map, in the iteration order
+     * of the source. The keys are mapped immediately, so that lookups work on
+     * the destination key type, but each value is mapped the first time it is
+     * accessed and then memoized. Each value is mapped within its own
+     * MappingContext, and the view is not thread-safe. The default
+     * implementation maps the entries eagerly with
+     * {@link #mapAsMap(Map, Type, Type)}.
+     * 
+     * @param source
+     *            the source Map
+     * @param sourceType
+     *            the parameterized type of the source Map
+     * @param destinationType
+     *            the parameterized type of the destination Map
+     * @return a lazily mapped Map view
+     */
+    default <Sk, Sv, Dk, Dv> Map<Dk, Dv> mapAsLazyMap(Map<Sk, Sv> source, Type<? extends Map<Sk, Sv>> sourceType,
+            Type<? extends Map<Dk, Dv>> destinationType) {
+        return source == null ? null : Collections.unmodifiableMap(mapAsMap(source, sourceType, destinationType));
+    }
+    
     /**
      * Create new instance of a destination class. <strong>Abstract types are
      * unsupported</code>.
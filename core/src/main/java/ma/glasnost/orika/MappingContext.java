@@ -19,17 +19,17 @@
 package ma.glasnost.orika;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 
-import ma.glasnost.orika.cern.colt.map.OpenIntObjectHashMap;
 import ma.glasnost.orika.metadata.ClassMap;
 import ma.glasnost.orika.metadata.MapperKey;
 import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.util.IdentityTypeTable;
+import ma.glasnost.orika.util.ObjectPool;
 
 /**
  * MappingContext provides storage for information shared among the various
@@ -38,34 +38,79 @@ import ma.glasnost.orika.metadata.Type;
  */
 public class MappingContext {
     
-    protected final Map<Type<?>, Type<?>> mapping;
-    protected final OpenIntObjectHashMap typeCache;
+    /**
+     * The default number of entries above which the internal maps are
+     * discarded on {@link #reset()}; see
+     * {@link OrikaSystemProperties#MAPPING_CONTEXT_TRIM_SIZE}
+     */
+    protected static final int DEFAULT_TRIM_SIZE = Integer.valueOf(System.getProperty(
+            OrikaSystemProperties.MAPPING_CONTEXT_TRIM_SIZE, "256"));
+    
+    protected Map<Type<?>, Type<?>> mapping;
+    private IdentityTypeTable typeCache;
+    protected int trimSize = DEFAULT_TRIM_SIZE;
     protected List<Map<MapperKey, ClassMap<?, ?>>> mappersSeen;
     protected Map<Object, Object> properties;
     protected Map<Object, Object> globalProperties;
     protected boolean isNew = true;
     protected boolean containsCycle = true;
+    private boolean cycleTrackingSuspended;
     protected int depth;
     protected Type<?> resolvedSourceType;
     protected Type<?> resolvedDestinationType;
     protected MappingStrategy resolvedStrategy;
-    protected List<Object[]> fieldMappingStack;
+    /**
+     * The fields being mapped, as consecutive frames of {@link StackElement}
+     * values; preallocated and grown as needed, so that capturing the field
+     * context doesn't allocate
+     */
+    private Object[] fieldMappingStack;
+    private int fieldMappingStackSize;
     protected boolean capturesFieldContext;
     
     public static enum StackElement {
         SOURCE_NAME, SOURCE_TYPE, SOURCE, DEST_NAME, DEST_TYPE, DEST;
     }
     
+    private static final int SOURCE_NAME = StackElement.SOURCE_NAME.ordinal();
+    private static final int SOURCE_TYPE = StackElement.SOURCE_TYPE.ordinal();
+    private static final int SOURCE = StackElement.SOURCE.ordinal();
+    private static final int DEST_NAME = StackElement.DEST_NAME.ordinal();
+    private static final int DEST_TYPE = StackElement.DEST_TYPE.ordinal();
+    private static final int DEST = StackElement.DEST.ordinal();
+    private static final int FRAME_SIZE = StackElement.values().length;
+    private static final int INITIAL_FIELD_MAPPING_DEPTH = 8;
+    
     /**
      * Factory constructs instances of the base MappingContext
      */
     public static class Factory implements MappingContextFactory {
         
-        LinkedBlockingQueue<MappingContext> contextQueue = new LinkedBlockingQueue<MappingContext>();
+        final ObjectPool<MappingContext> contextPool;
         ConcurrentHashMap<Object, Object> globalProperties = new ConcurrentHashMap<Object, Object>();
         
+        /**
+         * Constructs a new Factory pooling contexts as configured by the
+         * {@link OrikaSystemProperties#MAPPING_CONTEXT_POOL} and
+         * {@link OrikaSystemProperties#MAPPING_CONTEXT_POOL_SIZE} system
+         * properties
+         */
+        public Factory() {
+            this(newContextPool());
+        }
+        
+        /**
+         * Constructs a new Factory
+         * 
+         * @param contextPool
+         *            the pool of idle contexts
+         */
+        public Factory(ObjectPool<MappingContext> contextPool) {
+            this.contextPool = contextPool;
+        }
+        
         public MappingContext getContext() {
-            MappingContext context = contextQueue.poll();
+            MappingContext context = contextPool.poll();
             if (context == null) {
                 context = new MappingContext(globalProperties);
             }
@@ -75,7 +120,7 @@ public class MappingContext {
         
         public void release(MappingContext context) {
             context.reset();
-            contextQueue.offer(context);
+            contextPool.offer(context);
         }
         
         /*
@@ -88,6 +133,20 @@ public class MappingContext {
         }
     }
     
+    /**
+     * Creates a pool of idle contexts, as configured by the
+     * {@link OrikaSystemProperties#MAPPING_CONTEXT_POOL} and
+     * {@link OrikaSystemProperties#MAPPING_CONTEXT_POOL_SIZE} system
+     * properties.
+     * 
+     * @return a new pool of idle contexts
+     */
+    public static ObjectPool<MappingContext> newContextPool() {
+        ObjectPool.Mode mode = ObjectPool.Mode.of(System.getProperty(OrikaSystemProperties.MAPPING_CONTEXT_POOL, "queue"));
+        int maxSize = Integer.valueOf(System.getProperty(OrikaSystemProperties.MAPPING_CONTEXT_POOL_SIZE, "256"));
+        return ObjectPool.create(mode, maxSize);
+    }
+    
     /**
      * Constructs a new MappingContext with the specified (immutable) global
      * properties;
@@ -96,7 +155,7 @@ public class MappingContext {
      */
     public MappingContext(Map<Object, Object> globalProperties) {
         this.mapping = new HashMap<Type<?>, Type<?>>();
-        this.typeCache = new OpenIntObjectHashMap();
+        this.typeCache = new IdentityTypeTable();
         this.globalProperties = globalProperties;
         Boolean capture = globalProperties != null ? (Boolean)globalProperties.get(Properties.CAPTURE_FIELD_CONTEXT) : null;
         this.capturesFieldContext = capture == null || capture;
@@ -121,6 +180,34 @@ public class MappingContext {
         return containsCycle;
     }
     
+    /**
+     * Stops watching for cycles while mapping a part of the object graph
+     * which is known to be acyclic; unlike
+     * {@link #containsCycle(boolean) containsCycle(false)}, the suspension is
+     * lifted by {@link #resumeCycleTracking()}, including temporarily for any
+     * mapping below it which is not known to be acyclic.
+     */
+    public void suspendCycleTracking() {
+        this.containsCycle = false;
+        this.cycleTrackingSuspended = true;
+    }
+    
+    /**
+     * Watches for cycles again after {@link #suspendCycleTracking()}
+     */
+    public void resumeCycleTracking() {
+        this.containsCycle = true;
+        this.cycleTrackingSuspended = false;
+    }
+    
+    /**
+     * @return true if watching for cycles has been suspended by
+     *         {@link #suspendCycleTracking()}
+     */
+    public boolean isCycleTrackingSuspended() {
+        return cycleTrackingSuspended;
+    }
+    
     /**
      * @return the current mapping depth
      */
@@ -170,17 +257,9 @@ public class MappingContext {
      * @param destinationType
      * @param destination
      */
-    @SuppressWarnings("unchecked")
     public <S, D> void cacheMappedObject(S source, Type<Object> destinationType, D destination) {
         if (containsCycle) {
-            Map<Object, Object> localCache = (Map<Object, Object>) typeCache.get(destinationType.getUniqueIndex());
-            if (localCache == null) {
-                localCache = new IdentityHashMap<Object, Object>(2);
-                typeCache.put(destinationType.getUniqueIndex(), localCache);
-                
-            }
-            localCache.put(source, destination);
-            
+            typeCache.put(source, destinationType.getUniqueIndex(), destination);
             isNew = false;
         }
     }
@@ -200,8 +279,7 @@ public class MappingContext {
         if (isNew || !containsCycle) {
             return null;
         }
-        Map<Object, Object> localCache = (Map<Object, Object>) typeCache.get(destinationType.getUniqueIndex());
-        return (D) (localCache == null ? null : localCache.get(source));
+        return (D) typeCache.get(source, destinationType.getUniqueIndex());
     }
     
     /**
@@ -286,21 +364,37 @@ public class MappingContext {
      *            the destination object being mapped into
      */
     public void beginMappingField(String sourceName, Type<?> sourceType, Object source, String destName, Type<?> destType, Object dest) {
+        int offset = fieldMappingStackSize * FRAME_SIZE;
         if (fieldMappingStack == null) {
-            fieldMappingStack = new ArrayList<Object[]>();
+            fieldMappingStack = new Object[INITIAL_FIELD_MAPPING_DEPTH * FRAME_SIZE];
+        } else if (offset == fieldMappingStack.length) {
+            fieldMappingStack = Arrays.copyOf(fieldMappingStack, offset * 2);
         }
-        Object[] stackElement = new Object[StackElement.values().length];
-        stackElement[StackElement.SOURCE_NAME.ordinal()] = sourceName;
-        stackElement[StackElement.SOURCE_TYPE.ordinal()] = sourceType;
-        stackElement[StackElement.SOURCE.ordinal()] = source;
-        stackElement[StackElement.DEST_NAME.ordinal()] = destName;
-        stackElement[StackElement.DEST_TYPE.ordinal()] = destType;
-        stackElement[StackElement.DEST.ordinal()] = dest;
-        fieldMappingStack.add(stackElement);
+        Object[] stack = fieldMappingStack;
+        stack[offset + SOURCE_NAME] = sourceName;
+        stack[offset + SOURCE_TYPE] = sourceType;
+        stack[offset + SOURCE] = source;
+        stack[offset + DEST_NAME] = destName;
+        stack[offset + DEST_TYPE] = destType;
+        stack[offset + DEST] = dest;
+        ++fieldMappingStackSize;
     }
     
     public void endMappingField() {
-        fieldMappingStack.remove(fieldMappingStack.size() - 1);
+        --fieldMappingStackSize;
+        Arrays.fill(fieldMappingStack, fieldMappingStackSize * FRAME_SIZE, (fieldMappingStackSize + 1) * FRAME_SIZE, null);
+    }
+    
+    /**
+     * Copies one element of each frame of the field mapping stack, from the
+     * outermost to the innermost field, into the provided array
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] fieldMappingPath(int element, T[] path) {
+        for (int i = 0, offset = element; i < path.length; ++i, offset += FRAME_SIZE) {
+            path[i] = (T) fieldMappingStack[offset];
+        }
+        return path;
     }
     
     /**
@@ -312,9 +406,9 @@ public class MappingContext {
             return null;
         }
         StringBuilder path = new StringBuilder("source");
-        for (Object[] element : fieldMappingStack) {
+        for (String name : getSourceExpressionPaths()) {
             path.append(".");
-            path.append(element[StackElement.SOURCE_NAME.ordinal()]);
+            path.append(name);
         }
         return path.toString();
     }
@@ -329,12 +423,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        String[] path = new String[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = (String) element[StackElement.SOURCE_NAME.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(SOURCE_NAME, new String[fieldMappingStackSize]);
     }
     
     /**
@@ -346,12 +435,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        Object[] path = new Object[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = element[StackElement.SOURCE.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(SOURCE, new Object[fieldMappingStackSize]);
     }
     
     /**
@@ -364,12 +448,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        java.lang.reflect.Type[] path = new java.lang.reflect.Type[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = (java.lang.reflect.Type) element[StackElement.SOURCE_TYPE.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(SOURCE_TYPE, new java.lang.reflect.Type[fieldMappingStackSize]);
     }
     
     /**
@@ -381,9 +460,9 @@ public class MappingContext {
             return null;
         }
         StringBuilder path = new StringBuilder("destination");
-        for (Object[] element : fieldMappingStack) {
+        for (String name : getDestinationExpressionPaths()) {
             path.append(".");
-            path.append(element[StackElement.DEST_NAME.ordinal()]);
+            path.append(name);
         }
         return path.toString();
     }
@@ -398,12 +477,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        String[] path = new String[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = (String) element[StackElement.DEST_NAME.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(DEST_NAME, new String[fieldMappingStackSize]);
     }
     
     /**
@@ -415,12 +489,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        Object[] path = new Object[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = element[StackElement.DEST.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(DEST, new Object[fieldMappingStackSize]);
     }
     
     /**
@@ -432,12 +501,7 @@ public class MappingContext {
         if (!capturesFieldContext || fieldMappingStack == null) {
             return null;
         }
-        java.lang.reflect.Type[] path = new java.lang.reflect.Type[fieldMappingStack.size()];
-        int idx = 0;
-        for (Object[] element : fieldMappingStack) {
-            path[idx++] = (java.lang.reflect.Type) element[StackElement.DEST_TYPE.ordinal()];
-        }
-        return path;
+        return fieldMappingPath(DEST_TYPE, new java.lang.reflect.Type[fieldMappingStackSize]);
     }
     
     /**
@@ -452,16 +516,32 @@ public class MappingContext {
      * request
      */
     public void reset() {
-        mapping.clear();
-        typeCache.clear();
+        /*
+         * Maps grown by a large object graph are discarded rather than
+         * cleared, so that idle (pooled) contexts don't retain their capacity
+         */
+        if (mapping.size() > trimSize) {
+            mapping = new HashMap<Type<?>, Type<?>>();
+        } else {
+            mapping.clear();
+        }
+        if (typeCache.size() > trimSize) {
+            typeCache = new IdentityTypeTable();
+        } else {
+            typeCache.clear();
+        }
         if (properties != null) {
             properties.clear();
         }
         if (mappersSeen != null) {
             mappersSeen.clear();
         }
-        if (fieldMappingStack != null) {
-            fieldMappingStack.clear();
+        if (fieldMappingStackSize > 0) {
+            Arrays.fill(fieldMappingStack, 0, fieldMappingStackSize * FRAME_SIZE, null);
+            fieldMappingStackSize = 0;
+        }
+        if (cycleTrackingSuspended) {
+            resumeCycleTracking();
         }
         resolvedSourceType = null;
         resolvedDestinationType = null;
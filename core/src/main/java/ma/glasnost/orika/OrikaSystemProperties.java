@@ -171,4 +171,73 @@ public final class OrikaSystemProperties {
      * Default value is <code>false</code>
      */
     public static final String CAPTURE_FIELD_CONTEXT = "ma.glasnost.orika.captureFieldContext";
+    
+    /**
+     * Specifies the number of threads used to generate the mappers of the registered
+     * class-maps when the DefaultMapperFactory is built; a value greater than <code>1</code>
+     * generates and compiles them in parallel on a dedicated ForkJoinPool, provided that
+     * the configured compiler strategy supports concurrent compilation.
+     * <p>
+     * Default value is <code>1</code>
+     */
+    public static final String BUILD_PARALLELISM = "ma.glasnost.orika.buildParallelism";
+    
+    /**
+     * Specifies whether the classes generated ahead-of-time, which are listed in
+     * <code>META-INF/orika/precompiled-classes.properties</code> resources, should be
+     * loaded instead of compiling the equivalent generated classes.
+     * <p>
+     * Default value is <code>true</code>
+     */
+    public static final String USE_PRECOMPILED_CLASSES = "ma.glasnost.orika.usePrecompiledClasses";
+    
+    /**
+     * Specifies a directory in which the bytecode of the generated classes is cached,
+     * keyed by the fingerprint of their generated source, so that later starts load
+     * the cached classes instead of compiling them again; an entry whose fingerprint no
+     * longer matches the generated source is simply never used.
+     * <p>
+     * Default value is <code>null</code> (no class cache)
+     */
+    public static final String CLASS_CACHE_DIRECTORY = "ma.glasnost.orika.classCacheDirectory";
+    
+    /**
+     * Specifies how the built-in MappingContextFactory implementations pool idle
+     * mapping contexts: <code>queue</code> (a single queue shared by all threads),
+     * <code>threadLocal</code> (a few contexts per thread) or <code>striped</code>
+     * (lock-free slots, striped by thread).
+     * <p>
+     * Default value is <code>queue</code>
+     */
+    public static final String MAPPING_CONTEXT_POOL = "ma.glasnost.orika.mappingContextPool";
+    
+    /**
+     * Specifies the maximum number of idle mapping contexts retained by each
+     * MappingContextFactory (by each thread, for the <code>threadLocal</code> pool);
+     * <code>0</code> disables pooling.
+     * <p>
+     * Default value is <code>256</code>
+     */
+    public static final String MAPPING_CONTEXT_POOL_SIZE = "ma.glasnost.orika.mappingContextPoolSize";
+    
+    /**
+     * Specifies the number of entries above which the internal maps of a mapping
+     * context are discarded, rather than cleared, when the context is reset; this
+     * avoids that pooled contexts retain the capacity grown by the mapping of a
+     * single large object graph.
+     * <p>
+     * Default value is <code>256</code>
+     */
+    public static final String MAPPING_CONTEXT_TRIM_SIZE = "ma.glasnost.orika.mappingContextTrimSize";
+    
+    /**
+     * Specifies whether the registered class-maps should be analyzed when the
+     * MapperFactory is built, to find the type pairs whose mapping can never
+     * reach a cycle; mapping such a pair then skips the tracking of the objects
+     * already mapped. Note that a source object referenced more than once within
+     * such a pair is then mapped to distinct destination objects.
+     * <p>
+     * Default value is <code>false</code>
+     */
+    public static final String ANALYZE_CYCLES = "ma.glasnost.orika.analyzeCycles";
 }
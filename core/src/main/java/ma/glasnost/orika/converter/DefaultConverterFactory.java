@@ -29,7 +29,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ma.glasnost.orika.Converter;
+import ma.glasnost.orika.CustomConverter;
 import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MappingContext;
 import ma.glasnost.orika.StateReporter.Reportable;
 import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.ConverterKey;
@@ -44,8 +46,30 @@ import ma.glasnost.orika.metadata.TypeFactory;
  */
 public class DefaultConverterFactory implements ConverterFactory, Reportable {
     
+    /**
+     * Marks a (source, destination) pair for which no converter exists
+     */
+    private static final Converter<Object, Object> NO_CONVERTER = new CustomConverter<Object, Object>() {
+        public Object convert(Object source, Type<? extends Object> destinationType, MappingContext mappingContext) {
+            throw new UnsupportedOperationException();
+        }
+    };
+    
     private final Map<ConverterKey, Converter<Object, Object>> converterCache;
-    private Collection<Converter<Object, Object>> converters;
+    private volatile Collection<Converter<Object, Object>> converters;
+    
+    /**
+     * Resolved converters (or NO_CONVERTER) for pairs of non-parameterized
+     * types, indexed by their raw source and destination classes; this keeps
+     * the common lookups lock-free and allocation-free.
+     */
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Class<?>, Converter<Object, Object>>> resolvedByRawType;
+    
+    /**
+     * Resolved converters (or NO_CONVERTER) for pairs involving a
+     * parameterized type
+     */
+    private final ConcurrentHashMap<ConverterKey, Converter<Object, Object>> resolvedByType;
     private final Map<String, Converter<Object, Object>> convertersMap;
     private MapperFacade mapperFacade;
     
@@ -58,6 +82,8 @@ public class DefaultConverterFactory implements ConverterFactory, Reportable {
         this.converterCache = converterCache;
         this.converters = new CopyOnWriteArrayList<Converter<Object, Object>>();
         this.convertersMap = new ConcurrentHashMap<String, Converter<Object, Object>>();
+        this.resolvedByRawType = new ConcurrentHashMap<Class<?>, ConcurrentHashMap<Class<?>, Converter<Object, Object>>>();
+        this.resolvedByType = new ConcurrentHashMap<ConverterKey, Converter<Object, Object>>();
     }
     
     /**
@@ -81,6 +107,7 @@ public class DefaultConverterFactory implements ConverterFactory, Reportable {
         for (Converter<?, ?> converter : convertersMap.values()) {
             converter.setMapperFacade(mapperFacade);
         }
+        clearResolvedConverters();
     }
     
     /*
@@ -112,7 +139,61 @@ public class DefaultConverterFactory implements ConverterFactory, Reportable {
      * ma.glasnost.orika.converter.ConverterFactory#getConverter(java.lang.Class
      * , java.lang.Class)
      */
-    public synchronized Converter<Object, Object> getConverter(Type<?> sourceClass, Type<?> destinationClass) {
+    public Converter<Object, Object> getConverter(Type<?> sourceClass, Type<?> destinationClass) {
+        
+        Converter<Object, Object> converter = lookupResolvedConverter(sourceClass, destinationClass);
+        if (converter == null) {
+            converter = resolveConverter(sourceClass, destinationClass);
+        }
+        return converter == NO_CONVERTER ? null : converter;
+    }
+    
+    private Converter<Object, Object> lookupResolvedConverter(Type<?> sourceClass, Type<?> destinationClass) {
+        if (isIndexedByRawType(sourceClass, destinationClass)) {
+            Map<Class<?>, Converter<Object, Object>> byDestination = resolvedByRawType.get(sourceClass.getRawType());
+            return byDestination != null ? byDestination.get(destinationClass.getRawType()) : null;
+        } else {
+            return resolvedByType.get(new ConverterKey(sourceClass, destinationClass));
+        }
+    }
+    
+    private static boolean isIndexedByRawType(Type<?> sourceClass, Type<?> destinationClass) {
+        return !sourceClass.isParameterized() && !destinationClass.isParameterized();
+    }
+    
+    /**
+     * Resolves the converter for the given pair by scanning the registered
+     * converters, and records the outcome (including the absence of a
+     * converter) so that later lookups do not need to scan again.
+     */
+    private synchronized Converter<Object, Object> resolveConverter(Type<?> sourceClass, Type<?> destinationClass) {
+        Converter<Object, Object> converter = lookupResolvedConverter(sourceClass, destinationClass);
+        if (converter != null) {
+            return converter;
+        }
+        converter = findConverter(sourceClass, destinationClass);
+        if (converter == null) {
+            converter = NO_CONVERTER;
+        }
+        if (isIndexedByRawType(sourceClass, destinationClass)) {
+            ConcurrentHashMap<Class<?>, Converter<Object, Object>> byDestination = resolvedByRawType.get(sourceClass.getRawType());
+            if (byDestination == null) {
+                byDestination = new ConcurrentHashMap<Class<?>, Converter<Object, Object>>();
+                resolvedByRawType.put(sourceClass.getRawType(), byDestination);
+            }
+            byDestination.put(destinationClass.getRawType(), converter);
+        } else {
+            resolvedByType.put(new ConverterKey(sourceClass, destinationClass), converter);
+        }
+        return converter;
+    }
+    
+    private synchronized void clearResolvedConverters() {
+        resolvedByRawType.clear();
+        resolvedByType.clear();
+    }
+    
+    private Converter<Object, Object> findConverter(Type<?> sourceClass, Type<?> destinationClass) {
         
         // Step verify if converter exists for sourceClass and destination
         Converter<Object, Object> converter = _converter(sourceClass, destinationClass);
@@ -181,6 +262,7 @@ public class DefaultConverterFactory implements ConverterFactory, Reportable {
         if (converter instanceof BidirectionalConverter && !converter.getAType().equals(converter.getBType())) {
             converters.add((Converter<Object, Object>) ((BidirectionalConverter<?, ?>) converter).reverse());
         }
+        clearResolvedConverters();
     }
     
     /*
@@ -0,0 +1,61 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.converter;
+
+import ma.glasnost.orika.Converter;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * IntrinsicConverter may be implemented by a {@link Converter} whose
+ * conversion can be written as a Java source expression; generated mappers
+ * then compile that expression in place of a call to
+ * {@link Converter#convert(Object, Type, ma.glasnost.orika.MappingContext)}.<br>
+ * <br>
+ * The expression works on primitive values wherever possible: when the source
+ * type is a primitive or a primitive wrapper, the source expression is the
+ * (unboxed) primitive value, and when the destination type is a primitive or
+ * a primitive wrapper, the expression must evaluate to the primitive value,
+ * which is boxed by the caller if needed. The source value is never null, and
+ * the expression must evaluate it exactly once. As for all generated code, it
+ * may not rely on generics or autoboxing.<br>
+ * <br>
+ * The expression is only used for converters whose class declares
+ * {@link #generateConversion(String, Type, Type)}; a subclass which does not
+ * is called through its <code>convert</code> method as usual.
+ * 
+ * @see ma.glasnost.orika.impl.generator.specification.Convert
+ */
+public interface IntrinsicConverter {
+    
+    /**
+     * Generates the expression which converts the source value to the
+     * destination type.
+     * 
+     * @param source
+     *            the expression of the source value
+     * @param sourceType
+     *            the type of the source property
+     * @param destinationType
+     *            the type of the destination property
+     * @return the expression of the converted value, or null if this
+     *         conversion cannot be inlined
+     */
+    String generateConversion(String source, Type<?> sourceType, Type<?> destinationType);
+}
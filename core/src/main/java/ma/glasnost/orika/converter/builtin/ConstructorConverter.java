@@ -17,60 +17,173 @@
  */
 package ma.glasnost.orika.converter.builtin;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.converter.IntrinsicConverter;
 import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.Type;
-import ma.glasnost.orika.metadata.TypeFactory;
 
 /**
  * ConstructorConverter will converter from one type to another if there exists
  * a constructor for the destinationType with a single argument matching the
- * type of the source.
+ * type of the source.<br>
+ * <br>
+ * The constructor is resolved once per source class and destination class
+ * and invoked through a cached MethodHandle; generated mappers call it
+ * directly when it declares no checked exceptions and the source property
+ * type is final (or primitive), so that it resolves to the same constructor. Either way, an unchecked
+ * exception thrown by the constructor is propagated as is, while a checked
+ * one is wrapped in an IllegalArgumentException.
  * 
  * @author matt.deboer@gmail.com
  * @author elaatifi@gmail.com
  */
-public class ConstructorConverter extends BuiltinCustomConverter<Object, Object> {
+public class ConstructorConverter extends BuiltinCustomConverter<Object, Object> implements IntrinsicConverter {
+    
+    private static final MethodType CONVERT_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    /**
+     * Stands for a missing constructor, which converts any source to
+     * <code>false</code> as the reflective lookup used to
+     */
+    private static final MethodHandle NO_CONSTRUCTOR = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, Boolean.FALSE), 0, Object.class);
+    
+    /**
+     * Constructor handles, keyed by destination and then source class
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MethodHandle>> constructors = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, MethodHandle>>();
     
     public boolean canConvert(Type<?> sourceType, Type<?> destinationType) {
+        return findConstructor(destinationType.getRawType(), sourceType.getRawType()) != null;
+    }
+    
+    public Object convert(Object source, Type<?> destinationType, MappingContext context) {
         try {
-            return destinationType.getRawType().getConstructor(sourceType.getRawType()) != null;
-        } catch (NoSuchMethodException e) {
+            return (Object) getConstructor(destinationType.getRawType(), source.getClass()).invokeExact(source);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+    
+    public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+        Class<?> destination = destinationType.getRawType();
+        if (destination.isPrimitive() || destinationType.isPrimitiveWrapper() || Modifier.isAbstract(destination.getModifiers())
+                || !isPublic(destination)) {
+            return null;
+        }
+        /*
+         * convert() resolves the constructor from the runtime class of the
+         * (boxed) source, so the constructor can only be resolved here when
+         * the declared type fixes that class
+         */
+        Class<?> sourceClass = sourceType.getRawType();
+        if (sourceClass.isPrimitive()) {
+            sourceClass = ClassUtil.getWrapperType(sourceClass);
+        } else if (!Modifier.isFinal(sourceClass.getModifiers())) {
+            return null;
+        }
+        Constructor<?> constructor = findConstructor(destination, sourceClass);
+        if (constructor == null || throwsCheckedException(constructor)) {
+            return null;
+        }
+        Class<?> parameter = constructor.getParameterTypes()[0];
+        if ((sourceType.isPrimitive() || sourceType.isPrimitiveWrapper()) && !parameter.isPrimitive()) {
+            source = parameter.getCanonicalName() + ".valueOf(" + source + ")";
+        }
+        return "new " + destination.getCanonicalName() + "(" + source + ")";
+    }
+    
+    private MethodHandle getConstructor(Class<?> destination, Class<?> source) {
+        ConcurrentMap<Class<?>, MethodHandle> bySource = constructors.get(destination);
+        if (bySource == null) {
+            bySource = new ConcurrentHashMap<Class<?>, MethodHandle>();
+            ConcurrentMap<Class<?>, MethodHandle> existing = constructors.putIfAbsent(destination, bySource);
+            if (existing != null) {
+                bySource = existing;
+            }
+        }
+        MethodHandle constructor = bySource.get(source);
+        if (constructor == null) {
+            constructor = toMethodHandle(findConstructor(destination, source));
+            bySource.put(source, constructor);
+        }
+        return constructor;
+    }
+    
+    private static MethodHandle toMethodHandle(Constructor<?> constructor) {
+        if (constructor == null) {
+            return NO_CONSTRUCTOR;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor).asType(CONVERT_TYPE);
+        } catch (IllegalAccessException e) {
+            /*
+             * A public constructor of a class which is not itself public
+             */
             try {
-                if (sourceType.isPrimitive()) {
-                    return destinationType.getRawType().getConstructor(ClassUtil.getWrapperType(sourceType.getRawType())) != null;
-                } else if (sourceType.isPrimitiveWrapper()) {
-                    return destinationType.getRawType().getConstructor(ClassUtil.getPrimitiveType(sourceType.getRawType())) != null;
-                } else {
-                    return false;
-                }
-            } catch (NoSuchMethodException e1) {
-                return false;
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONVERT_TYPE);
+            } catch (Exception e1) {
+                return NO_CONSTRUCTOR;
             }
-        } catch (Exception e) {
-            return false;
         }
     }
     
-    public Object convert(Object source, Type<?> destinationType, MappingContext context) {
+    /**
+     * Finds the public constructor of the destination taking the source, or
+     * its primitive or wrapper counterpart.
+     * 
+     * @param destination
+     * @param source
+     * @return the constructor, or null if there is none
+     */
+    private static Constructor<?> findConstructor(Class<?> destination, Class<?> source) {
         try {
-            return destinationType.getRawType().getConstructor(source.getClass()).newInstance(source);
+            return destination.getConstructor(source);
         } catch (NoSuchMethodException e) {
-            Type<?> sourceType = TypeFactory.valueOf(source.getClass());
-            try {
-                if (sourceType.isPrimitive()) {
-                    return destinationType.getRawType().getConstructor(ClassUtil.getWrapperType(sourceType.getRawType())).newInstance(source);
-                } else if (sourceType.isPrimitiveWrapper()) {
-                    return destinationType.getRawType().getConstructor(ClassUtil.getPrimitiveType(sourceType.getRawType())).newInstance(source);
-                } else {
-                    return false;
+            Class<?> counterpart = source.isPrimitive() ? ClassUtil.getWrapperType(source) : ClassUtil.getPrimitiveType(source);
+            if (counterpart != null) {
+                try {
+                    return destination.getConstructor(counterpart);
+                } catch (NoSuchMethodException e1) {
+                    return null;
+                } catch (SecurityException e1) {
+                    return null;
                 }
-            } catch (Exception e1) {
-                return false;
             }
-        } catch (Exception e) {
-            throw new IllegalArgumentException(e);
+            return null;
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+    
+    private static boolean throwsCheckedException(Constructor<?> constructor) {
+        for (Class<?> exceptionType : constructor.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(exceptionType) && !Error.class.isAssignableFrom(exceptionType)) {
+                return true;
+            }
         }
+        return false;
     }
     
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
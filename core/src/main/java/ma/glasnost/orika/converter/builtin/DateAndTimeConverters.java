@@ -29,6 +29,8 @@ import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.converter.IntrinsicConverter;
+import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.Type;
 
 /**
@@ -335,7 +337,7 @@ public class DateAndTimeConverters {
     /**
      * Provides conversion between Long and Date
      */
-    public static class LongToDateConverter extends BuiltinBidirectionalConverter<Long, Date> {
+    public static class LongToDateConverter extends BuiltinBidirectionalConverter<Long, Date> implements IntrinsicConverter {
         
         @Override
         public Date convertTo(Long source, Type<Date> destinationType, MappingContext context) {
@@ -346,12 +348,16 @@ public class DateAndTimeConverters {
         public Long convertFrom(Date source, Type<Long> destinationType, MappingContext context) {
             return toLong(source);
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return millisConversion(source, sourceType, destinationType, Date.class);
+        }
     }
     
     /**
      * Provides conversion between Long and Date
      */
-    public static class LongToSqlDateConverter extends BuiltinBidirectionalConverter<Long, java.sql.Date> {
+    public static class LongToSqlDateConverter extends BuiltinBidirectionalConverter<Long, java.sql.Date> implements IntrinsicConverter {
         
         @Override
         public java.sql.Date convertTo(Long source, Type<java.sql.Date> destinationType, MappingContext context) {
@@ -362,12 +368,16 @@ public class DateAndTimeConverters {
         public Long convertFrom(java.sql.Date source, Type<Long> destinationType, MappingContext context) {
             return toLong(source);
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return millisConversion(source, sourceType, destinationType, java.sql.Date.class);
+        }
     }
     
     /**
      * Provides conversion between Long and Date
      */
-    public static class LongToTimeConverter extends BuiltinBidirectionalConverter<Long, Time> {
+    public static class LongToTimeConverter extends BuiltinBidirectionalConverter<Long, Time> implements IntrinsicConverter {
         
         @Override
         public Time convertTo(Long source, Type<Time> destinationType, MappingContext context) {
@@ -378,6 +388,10 @@ public class DateAndTimeConverters {
         public Long convertFrom(Time source, Type<Long> destinationType, MappingContext context) {
             return toLong(source);
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return millisConversion(source, sourceType, destinationType, Time.class);
+        }
     }
     
     /**
@@ -440,7 +454,7 @@ public class DateAndTimeConverters {
      * Provides conversion between Long and Timestamp
      */
     
-    public static class LongToTimestampConverter extends BuiltinBidirectionalConverter<Long, Timestamp> {
+    public static class LongToTimestampConverter extends BuiltinBidirectionalConverter<Long, Timestamp> implements IntrinsicConverter {
         
         @Override
         public Timestamp convertTo(Long source, Type<Timestamp> destinationType, MappingContext context) {
@@ -452,6 +466,10 @@ public class DateAndTimeConverters {
             return source.getTime();
         }
         
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return millisConversion(source, sourceType, destinationType, Timestamp.class);
+        }
+
     }
     
     /**
@@ -547,6 +565,25 @@ public class DateAndTimeConverters {
         return toXMLGregorianCalendar(new Date(source), factory);
     }
     
+    /**
+     * Generates the inline conversion between a long number of milliseconds
+     * and the specified Date type.
+     * 
+     * @param source
+     * @param sourceType
+     * @param destinationType
+     * @param dateType
+     * @return the conversion, or null if the types do not match
+     */
+    private static String millisConversion(String source, Type<?> sourceType, Type<?> destinationType, Class<? extends Date> dateType) {
+        if (ClassUtil.getPrimitiveForm(sourceType.getRawType()) == long.class && dateType.equals(destinationType.getRawType())) {
+            return "new " + dateType.getCanonicalName() + "(" + source + ")";
+        } else if (dateType.isAssignableFrom(sourceType.getRawType()) && ClassUtil.getPrimitiveForm(destinationType.getRawType()) == long.class) {
+            return source + ".getTime()";
+        }
+        return null;
+    }
+    
     private static Long toLong(Date source) {
         return source.getTime();
     }
@@ -17,7 +17,11 @@
  */
 package ma.glasnost.orika.converter.builtin;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.util.EnumUtil;
 import ma.glasnost.orika.metadata.Type;
 
 /**
@@ -28,6 +32,11 @@ import ma.glasnost.orika.metadata.Type;
  */
 public class EnumConverter extends BuiltinCustomConverter<Object, Object> {
     
+    /**
+     * Ordinal lookup tables, keyed by destination and then source enum
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Object[]>> ordinalTables = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Object[]>>();
+    
     public boolean canConvert(Type<?> sourceType, Type<?> destinationType) {
         return sourceType.isEnum() && destinationType.isEnum();
     }
@@ -39,8 +48,21 @@ public class EnumConverter extends BuiltinCustomConverter<Object, Object> {
      * ma.glasnost.orika.metadata.Type)
      */
     public Object convert(Object source, Type<? extends Object> destinationType, MappingContext context) {
-        @SuppressWarnings({ "unchecked", "rawtypes" })
-        Enum<?> result = (Enum<?>) Enum.valueOf((Class<Enum>) destinationType.getRawType(), ((Enum) source).name());
-        return result;
+        Class<?> destinationEnum = destinationType.getRawType();
+        ConcurrentMap<Class<?>, Object[]> bySource = ordinalTables.get(destinationEnum);
+        if (bySource == null) {
+            bySource = new ConcurrentHashMap<Class<?>, Object[]>();
+            ConcurrentMap<Class<?>, Object[]> existing = ordinalTables.putIfAbsent(destinationEnum, bySource);
+            if (existing != null) {
+                bySource = existing;
+            }
+        }
+        Class<?> sourceEnum = ((Enum<?>) source).getDeclaringClass();
+        Object[] table = bySource.get(sourceEnum);
+        if (table == null) {
+            table = EnumUtil.ordinalTable(sourceEnum, destinationEnum);
+            bySource.put(sourceEnum, table);
+        }
+        return EnumUtil.valueOf(table, (Enum<?>) source, destinationEnum);
     }
 }
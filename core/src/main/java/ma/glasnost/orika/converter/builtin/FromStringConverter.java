@@ -17,7 +17,12 @@
  */
 package ma.glasnost.orika.converter.builtin;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.util.EnumUtil;
 import ma.glasnost.orika.metadata.Type;
 
 /**
@@ -34,6 +39,11 @@ import ma.glasnost.orika.metadata.Type;
  */
 public class FromStringConverter extends BuiltinCustomConverter<Object, Object> {
     
+    /**
+     * Name lookup tables, keyed by destination enum
+     */
+    private final ConcurrentMap<Class<?>, Map<String, Object>> nameTables = new ConcurrentHashMap<Class<?>, Map<String, Object>>();
+    
     public boolean canConvert(Type<?> sourceType, Type<?> destinationType) {
         return String.class == sourceType.getRawType() && destinationType.isConvertibleFromString();
     }
@@ -48,9 +58,14 @@ public class FromStringConverter extends BuiltinCustomConverter<Object, Object>
         }
     }
     
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     private Object convertToEnum(String source, Type<? extends Object> destinationType) {
-        return Enum.valueOf((Class<Enum>) destinationType.getRawType(), source.toString());
+        Class<?> destinationEnum = destinationType.getRawType();
+        Map<String, Object> table = nameTables.get(destinationEnum);
+        if (table == null) {
+            table = EnumUtil.nameTable(destinationEnum);
+            nameTables.put(destinationEnum, table);
+        }
+        return EnumUtil.valueOf(table, source, destinationEnum);
     }
     
     private Object convertToPrimitive(String source, Type<? extends Object> destinationType) {
@@ -21,6 +21,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.converter.IntrinsicConverter;
+import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.Type;
 
 /**
@@ -42,7 +44,7 @@ public class NumericConverters {
      * @see BigDecimal#doubleValue()
      * @author matt.deboer@gmail.com
      */
-    public static class BigDecimalToDoubleConverter extends BuiltinBidirectionalConverter<BigDecimal, Double> {
+    public static class BigDecimalToDoubleConverter extends BuiltinBidirectionalConverter<BigDecimal, Double> implements IntrinsicConverter {
         
         /*
          * (non-Javadoc)
@@ -67,6 +69,10 @@ public class NumericConverters {
         public BigDecimal convertFrom(Double source, Type<BigDecimal> destinationType, MappingContext context) {
             return BigDecimal.valueOf(source.doubleValue());
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return bigDecimalConversion(source, sourceType, destinationType, double.class);
+        }
     }
     
     /**
@@ -78,7 +84,7 @@ public class NumericConverters {
      * @see BigDecimal#floatValue()
      * @author matt.deboer@gmail.com
      */
-    public static class BigDecimalToFloatConverter extends BuiltinBidirectionalConverter<BigDecimal, Float> {
+    public static class BigDecimalToFloatConverter extends BuiltinBidirectionalConverter<BigDecimal, Float> implements IntrinsicConverter {
         
         /*
          * (non-Javadoc)
@@ -103,6 +109,10 @@ public class NumericConverters {
         public BigDecimal convertFrom(Float source, Type<BigDecimal> destinationType, MappingContext context) {
             return BigDecimal.valueOf(source.doubleValue());
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return bigDecimalConversion(source, sourceType, destinationType, float.class);
+        }
     }
     
     /**
@@ -218,7 +228,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class IntegerToShortConverter extends BuiltinBidirectionalConverter<Integer, Short> {
+    public static class IntegerToShortConverter extends BuiltinBidirectionalConverter<Integer, Short> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -245,10 +255,7 @@ public class NumericConverters {
          */
         @Override
         public Short convertTo(Integer source, Type<Short> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((int) Short.MAX_VALUE) > 0 || source.compareTo((int) Short.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Short.class.getCanonicalName());
-            }
-            return source.shortValue();
+            return truncate ? source.shortValue() : toShort(source.intValue());
         }
         
         /*
@@ -262,6 +269,10 @@ public class NumericConverters {
         public Integer convertFrom(Short source, Type<Integer> destinationType, MappingContext context) {
             return source.intValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, int.class, short.class, truncate ? null : "toShort");
+        }
     }
     
     /**
@@ -269,7 +280,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class LongToShortConverter extends BuiltinBidirectionalConverter<Long, Short> {
+    public static class LongToShortConverter extends BuiltinBidirectionalConverter<Long, Short> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -296,10 +307,7 @@ public class NumericConverters {
          */
         @Override
         public Short convertTo(Long source, Type<Short> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((long) Short.MAX_VALUE) > 0 || source.compareTo((long) Short.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Short.class.getCanonicalName());
-            }
-            return source.shortValue();
+            return truncate ? source.shortValue() : toShort(source.longValue());
         }
         
         /*
@@ -313,6 +321,10 @@ public class NumericConverters {
         public Long convertFrom(Short source, Type<Long> destinationType, MappingContext context) {
             return source.longValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, long.class, short.class, truncate ? null : "toShort");
+        }
     }
     
     /**
@@ -320,7 +332,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class LongToIntegerConverter extends BuiltinBidirectionalConverter<Long, Integer> {
+    public static class LongToIntegerConverter extends BuiltinBidirectionalConverter<Long, Integer> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -347,10 +359,7 @@ public class NumericConverters {
          */
         @Override
         public Integer convertTo(Long source, Type<Integer> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((long) Integer.MAX_VALUE) > 0 || source.compareTo((long) Integer.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Integer.class.getCanonicalName());
-            }
-            return source.intValue();
+            return truncate ? source.intValue() : toInt(source.longValue());
         }
         
         /*
@@ -364,6 +373,10 @@ public class NumericConverters {
         public Long convertFrom(Integer source, Type<Long> destinationType, MappingContext context) {
             return source.longValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, long.class, int.class, truncate ? null : "toInt");
+        }
     }
     
     /**
@@ -371,7 +384,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class DoubleToLongConverter extends BuiltinBidirectionalConverter<Double, Long> {
+    public static class DoubleToLongConverter extends BuiltinBidirectionalConverter<Double, Long> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -398,10 +411,7 @@ public class NumericConverters {
          */
         @Override
         public Long convertTo(Double source, Type<Long> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((double) Long.MAX_VALUE) > 0 || source.compareTo((double) Long.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Long.class.getCanonicalName());
-            }
-            return source.longValue();
+            return truncate ? source.longValue() : toLong(source.doubleValue());
         }
         
         /*
@@ -415,6 +425,10 @@ public class NumericConverters {
         public Double convertFrom(Long source, Type<Double> destinationType, MappingContext context) {
             return source.doubleValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, double.class, long.class, truncate ? null : "toLong");
+        }
     }
     
     /**
@@ -422,7 +436,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class DoubleToIntegerConverter extends BuiltinBidirectionalConverter<Double, Integer> {
+    public static class DoubleToIntegerConverter extends BuiltinBidirectionalConverter<Double, Integer> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -449,10 +463,7 @@ public class NumericConverters {
          */
         @Override
         public Integer convertTo(Double source, Type<Integer> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((double) Integer.MAX_VALUE) > 0 || source.compareTo((double) Integer.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Integer.class.getCanonicalName());
-            }
-            return source.intValue();
+            return truncate ? source.intValue() : toInt(source.doubleValue());
         }
         
         /*
@@ -466,6 +477,10 @@ public class NumericConverters {
         public Double convertFrom(Integer source, Type<Double> destinationType, MappingContext context) {
             return source.doubleValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, double.class, int.class, truncate ? null : "toInt");
+        }
     }
     
     /**
@@ -473,7 +488,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class DoubleToShortConverter extends BuiltinBidirectionalConverter<Double, Short> {
+    public static class DoubleToShortConverter extends BuiltinBidirectionalConverter<Double, Short> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -500,10 +515,7 @@ public class NumericConverters {
          */
         @Override
         public Short convertTo(Double source, Type<Short> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((double) Short.MAX_VALUE) > 0 || source.compareTo((double) Short.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Short.class.getCanonicalName());
-            }
-            return source.shortValue();
+            return truncate ? source.shortValue() : toShort(source.doubleValue());
         }
         
         /*
@@ -517,6 +529,10 @@ public class NumericConverters {
         public Double convertFrom(Short source, Type<Double> destinationType, MappingContext context) {
             return source.doubleValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, double.class, short.class, truncate ? null : "toShort");
+        }
     }
     
     // ~
@@ -526,7 +542,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class FloatToLongConverter extends BuiltinBidirectionalConverter<Float, Long> {
+    public static class FloatToLongConverter extends BuiltinBidirectionalConverter<Float, Long> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -553,10 +569,7 @@ public class NumericConverters {
          */
         @Override
         public Long convertTo(Float source, Type<Long> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((float) Long.MAX_VALUE) > 0 || source.compareTo((float) Long.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Long.class.getCanonicalName());
-            }
-            return source.longValue();
+            return truncate ? source.longValue() : toLong(source.floatValue());
         }
         
         /*
@@ -570,6 +583,10 @@ public class NumericConverters {
         public Float convertFrom(Long source, Type<Float> destinationType, MappingContext context) {
             return source.floatValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, float.class, long.class, truncate ? null : "toLong");
+        }
     }
     
     /**
@@ -577,7 +594,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class FloatToIntegerConverter extends BuiltinBidirectionalConverter<Float, Integer> {
+    public static class FloatToIntegerConverter extends BuiltinBidirectionalConverter<Float, Integer> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -604,10 +621,7 @@ public class NumericConverters {
          */
         @Override
         public Integer convertTo(Float source, Type<Integer> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((float) Integer.MAX_VALUE) > 0 || source.compareTo((float) Integer.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Integer.class.getCanonicalName());
-            }
-            return source.intValue();
+            return truncate ? source.intValue() : toInt(source.floatValue());
         }
         
         /*
@@ -621,6 +635,10 @@ public class NumericConverters {
         public Float convertFrom(Integer source, Type<Float> destinationType, MappingContext context) {
             return source.floatValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, float.class, int.class, truncate ? null : "toInt");
+        }
     }
     
     /**
@@ -628,7 +646,7 @@ public class NumericConverters {
      * 
      * @author matt.deboer@gmail.com
      */
-    public static class FloatToShortConverter extends BuiltinBidirectionalConverter<Float, Short> {
+    public static class FloatToShortConverter extends BuiltinBidirectionalConverter<Float, Short> implements IntrinsicConverter {
         
         private final boolean truncate;
         
@@ -655,10 +673,7 @@ public class NumericConverters {
          */
         @Override
         public Short convertTo(Float source, Type<Short> destinationType, MappingContext context) {
-            if (!truncate && (source.compareTo((float) Short.MAX_VALUE) > 0 || source.compareTo((float) Short.MIN_VALUE) < 0)) {
-                throw new ArithmeticException("Overflow: " + source + " cannot be represented by " + Short.class.getCanonicalName());
-            }
-            return source.shortValue();
+            return truncate ? source.shortValue() : toShort(source.floatValue());
         }
         
         /*
@@ -672,6 +687,177 @@ public class NumericConverters {
         public Float convertFrom(Short source, Type<Float> destinationType, MappingContext context) {
             return source.floatValue();
         }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            return primitiveConversion(source, sourceType, destinationType, float.class, short.class, truncate ? null : "toShort");
+        }
+    }
+    
+    /**
+     * Generates the inline conversion between the primitive forms of a pair of
+     * numeric types: a call to the specified checked narrowing method, or a
+     * cast when narrowing with truncation or widening.
+     * 
+     * @param source
+     * @param sourceType
+     * @param destinationType
+     * @param wideType
+     *            the primitive form of the wider type of the pair
+     * @param narrowType
+     *            the primitive form of the narrower type of the pair
+     * @param checkedNarrowing
+     *            the name of the checked narrowing method, or null to truncate
+     * @return the conversion, or null if the types are not the pair
+     */
+    private static String primitiveConversion(String source, Type<?> sourceType, Type<?> destinationType, Class<?> wideType,
+            Class<?> narrowType, String checkedNarrowing) {
+        Class<?> from = ClassUtil.getPrimitiveForm(sourceType.getRawType());
+        Class<?> to = ClassUtil.getPrimitiveForm(destinationType.getRawType());
+        if (from == wideType && to == narrowType && checkedNarrowing != null) {
+            return NumericConverters.class.getCanonicalName() + "." + checkedNarrowing + "(" + source + ")";
+        } else if ((from == wideType && to == narrowType) || (from == narrowType && to == wideType)) {
+            return "((" + to.getName() + ")" + source + ")";
+        }
+        return null;
+    }
+    
+    /**
+     * Generates the inline conversion between BigDecimal and the primitive
+     * form of a floating point type.
+     * 
+     * @param source
+     * @param sourceType
+     * @param destinationType
+     * @param floatingType
+     * @return the conversion, or null if the types do not match
+     */
+    private static String bigDecimalConversion(String source, Type<?> sourceType, Type<?> destinationType, Class<?> floatingType) {
+        if (BigDecimal.class.equals(sourceType.getRawType()) && ClassUtil.getPrimitiveForm(destinationType.getRawType()) == floatingType) {
+            return source + "." + floatingType.getName() + "Value()";
+        } else if (ClassUtil.getPrimitiveForm(sourceType.getRawType()) == floatingType && BigDecimal.class.equals(destinationType.getRawType())) {
+            return BigDecimal.class.getCanonicalName() + ".valueOf((double)" + source + ")";
+        }
+        return null;
+    }
+    
+    private static ArithmeticException overflow(Object value, Class<?> type) {
+        return new ArithmeticException("Overflow: " + value + " cannot be represented by " + type.getCanonicalName());
+    }
+    
+    /**
+     * @param value
+     * @return the value as a short
+     * @throws ArithmeticException
+     *             if the value cannot be represented by a short
+     */
+    public static short toShort(int value) {
+        if (value > Short.MAX_VALUE || value < Short.MIN_VALUE) {
+            throw overflow(value, Short.class);
+        }
+        return (short) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as a short
+     * @throws ArithmeticException
+     *             if the value cannot be represented by a short
+     */
+    public static short toShort(long value) {
+        if (value > Short.MAX_VALUE || value < Short.MIN_VALUE) {
+            throw overflow(value, Short.class);
+        }
+        return (short) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as an int
+     * @throws ArithmeticException
+     *             if the value cannot be represented by an int
+     */
+    public static int toInt(long value) {
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            throw overflow(value, Integer.class);
+        }
+        return (int) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as a short, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of a short, or NaN
+     */
+    public static short toShort(float value) {
+        if (Float.compare(value, (float) Short.MAX_VALUE) > 0 || Float.compare(value, (float) Short.MIN_VALUE) < 0) {
+            throw overflow(value, Short.class);
+        }
+        return (short) value;
     }
     
+    /**
+     * @param value
+     * @return the value as an int, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of an int, or NaN
+     */
+    public static int toInt(float value) {
+        if (Float.compare(value, (float) Integer.MAX_VALUE) > 0 || Float.compare(value, (float) Integer.MIN_VALUE) < 0) {
+            throw overflow(value, Integer.class);
+        }
+        return (int) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as a long, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of a long, or NaN
+     */
+    public static long toLong(float value) {
+        if (Float.compare(value, (float) Long.MAX_VALUE) > 0 || Float.compare(value, (float) Long.MIN_VALUE) < 0) {
+            throw overflow(value, Long.class);
+        }
+        return (long) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as a short, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of a short, or NaN
+     */
+    public static short toShort(double value) {
+        if (Double.compare(value, (double) Short.MAX_VALUE) > 0 || Double.compare(value, (double) Short.MIN_VALUE) < 0) {
+            throw overflow(value, Short.class);
+        }
+        return (short) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as an int, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of an int, or NaN
+     */
+    public static int toInt(double value) {
+        if (Double.compare(value, (double) Integer.MAX_VALUE) > 0 || Double.compare(value, (double) Integer.MIN_VALUE) < 0) {
+            throw overflow(value, Integer.class);
+        }
+        return (int) value;
+    }
+    
+    /**
+     * @param value
+     * @return the value as a long, truncating any fractional part
+     * @throws ArithmeticException
+     *             if the value is out of the range of a long, or NaN
+     */
+    public static long toLong(double value) {
+        if (Double.compare(value, (double) Long.MAX_VALUE) > 0 || Double.compare(value, (double) Long.MIN_VALUE) < 0) {
+            throw overflow(value, Long.class);
+        }
+        return (long) value;
+    }
 }
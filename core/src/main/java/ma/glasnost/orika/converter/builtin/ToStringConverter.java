@@ -18,6 +18,7 @@
 package ma.glasnost.orika.converter.builtin;
 
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.converter.IntrinsicConverter;
 import ma.glasnost.orika.metadata.Type;
 
 /**
@@ -26,7 +27,7 @@ import ma.glasnost.orika.metadata.Type;
  * @author matt.deboer@gmail.com
  * @author elaatifi@gmail.com
  */
-public class ToStringConverter extends BuiltinCustomConverter<Object, Object> {
+public class ToStringConverter extends BuiltinCustomConverter<Object, Object> implements IntrinsicConverter {
     
     public boolean canConvert(Type<?> sourceType, Type<?> destinationType) {
         return destinationType.isString();
@@ -35,4 +36,11 @@ public class ToStringConverter extends BuiltinCustomConverter<Object, Object> {
     public Object convert(Object source, Type<? extends Object> destinationType, MappingContext context) {
         return "" + source;
     }
+    
+    public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+        if (sourceType.isPrimitive() || sourceType.isPrimitiveWrapper()) {
+            return "String.valueOf(" + source + ")";
+        }
+        return "String.valueOf((Object)" + source + ")";
+    }
 }
@@ -19,9 +19,13 @@
 package ma.glasnost.orika.impl;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import ma.glasnost.orika.BoundMapperFacade;
 import ma.glasnost.orika.MapperFacade;
@@ -383,6 +387,65 @@ public class ConfigurableMapper implements MapperFacade {
         return facade.mapAsArray(destination, source, sourceType, destinationType, context);
     }
     
+    public <S, D> List<D> mapAll(Iterable<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapAll(source, sourceType, destinationType);
+    }
+    
+    public <S, D> List<D> mapAll(S[] source, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapAll(source, sourceType, destinationType);
+    }
+    
+    public <S, D> List<D> mapAll(Iterator<S> source, Type<S> sourceType, Type<D> destinationType,
+            Supplier<? extends List<D>> destinationSupplier) {
+        return facade.mapAll(source, sourceType, destinationType, destinationSupplier);
+    }
+    
+    public <S, D> List<D> mapAll(Iterator<S> source, Type<S> sourceType, Type<D> destinationType,
+            Supplier<? extends List<D>> destinationSupplier, MappingContext context) {
+        return facade.mapAll(source, sourceType, destinationType, destinationSupplier, context);
+    }
+    
+    public <S, D> int mapInto(S[] source, D[] destination, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapInto(source, destination, sourceType, destinationType);
+    }
+    
+    public <S, D> int mapInto(S[] source, D[] destination, Type<S> sourceType, Type<D> destinationType, MappingContext context) {
+        return facade.mapInto(source, destination, sourceType, destinationType, context);
+    }
+    
+    public <S, D> int mapInto(Iterator<S> source, D[] destination, Type<S> sourceType, Type<D> destinationType, MappingContext context) {
+        return facade.mapInto(source, destination, sourceType, destinationType, context);
+    }
+    
+    public <S, D> List<D> mapAsListParallel(List<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapAsListParallel(source, sourceType, destinationType);
+    }
+    
+    public <S, D> List<D> mapAsListParallel(List<S> source, Type<S> sourceType, Type<D> destinationType, Executor executor) {
+        return facade.mapAsListParallel(source, sourceType, destinationType, executor);
+    }
+    
+    public <S, D> Stream<D> mapAsStream(Stream<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapAsStream(source, sourceType, destinationType);
+    }
+    
+    public <S, D> Stream<D> mapAsStream(Stream<S> source, Class<D> destinationClass) {
+        return facade.mapAsStream(source, destinationClass);
+    }
+    
+    public <S, D> List<D> mapAsLazyList(List<S> source, Type<S> sourceType, Type<D> destinationType) {
+        return facade.mapAsLazyList(source, sourceType, destinationType);
+    }
+    
+    public <S, D> List<D> mapAsLazyList(List<S> source, Class<D> destinationClass) {
+        return facade.mapAsLazyList(source, destinationClass);
+    }
+    
+    public <Sk, Sv, Dk, Dv> Map<Dk, Dv> mapAsLazyMap(Map<Sk, Sv> source, Type<? extends Map<Sk, Sv>> sourceType,
+            Type<? extends Map<Dk, Dv>> destinationType) {
+        return facade.mapAsLazyMap(source, sourceType, destinationType);
+    }
+    
     public <S, D> MappingStrategy resolveMappingStrategy(S sourceObject, java.lang.reflect.Type rawAType, java.lang.reflect.Type rawBType,
             boolean mapInPlace, MappingContext context) {
         return facade.resolveMappingStrategy(sourceObject, rawAType, rawBType, mapInPlace, context);
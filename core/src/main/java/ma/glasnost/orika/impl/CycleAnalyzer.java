@@ -0,0 +1,176 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import ma.glasnost.orika.converter.ConverterFactory;
+import ma.glasnost.orika.metadata.ClassMap;
+import ma.glasnost.orika.metadata.FieldMap;
+import ma.glasnost.orika.metadata.MapperKey;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * CycleAnalyzer finds the registered class-maps whose mapping can never reach
+ * a cycle, by walking the graph formed by the types of their mapped fields.<br>
+ * A class-map is followed from a field when one of its types is a subtype or
+ * a supertype of the field's type (or of its element, component, key or value
+ * types), on either side; a class-map is acyclic when none of the class-maps
+ * reachable from it (including itself) is reached twice on the same path.
+ * The analysis is conservative: a class-map with a custom mapper, or with a
+ * field whose type is neither immutable, converted nor matched by any
+ * registered class-map, is assumed to possibly reach a cycle. Subtypes which
+ * are not registered in a class-map are not known to the analysis; objects of
+ * such types are mapped by mappers which are not flagged as acyclic, and
+ * which therefore watch for cycles again.
+ */
+final class CycleAnalyzer {
+    
+    private final Map<MapperKey, ClassMap<Object, Object>> classMaps;
+    private final ConverterFactory converterFactory;
+    private final Map<MapperKey, Boolean> results = new HashMap<MapperKey, Boolean>();
+    private final Set<MapperKey> path = new HashSet<MapperKey>();
+    
+    /**
+     * @param classMaps
+     *            the registered class-maps
+     * @param converterFactory
+     *            the converters, used to recognize fields which are converted
+     *            rather than mapped
+     */
+    CycleAnalyzer(Map<MapperKey, ClassMap<Object, Object>> classMaps, ConverterFactory converterFactory) {
+        this.classMaps = classMaps;
+        this.converterFactory = converterFactory;
+    }
+    
+    /**
+     * @return the keys of the class-maps which can never reach a cycle
+     */
+    Set<MapperKey> findAcyclicMappings() {
+        Set<MapperKey> acyclicMappings = new HashSet<MapperKey>();
+        for (ClassMap<Object, Object> classMap : classMaps.values()) {
+            if (isAcyclic(classMap)) {
+                acyclicMappings.add(classMap.getMapperKey());
+            }
+        }
+        return acyclicMappings;
+    }
+    
+    private boolean isAcyclic(ClassMap<Object, Object> classMap) {
+        MapperKey key = classMap.getMapperKey();
+        Boolean result = results.get(key);
+        if (result != null) {
+            return result;
+        } else if (!path.add(key)) {
+            /*
+             * Reached again on the current path; the class-maps on the path
+             * are resolved as cyclic as the recursion unwinds
+             */
+            return false;
+        }
+        boolean acyclic = false;
+        Collection<ClassMap<Object, Object>> successors = successorsOf(classMap);
+        if (successors != null) {
+            acyclic = true;
+            for (ClassMap<Object, Object> successor : successors) {
+                if (!isAcyclic(successor)) {
+                    acyclic = false;
+                    break;
+                }
+            }
+        }
+        path.remove(key);
+        results.put(key, acyclic);
+        return acyclic;
+    }
+    
+    /**
+     * @return the class-maps which may be used to map the fields of the given
+     *         class-map, or <code>null</code> if they can't be known
+     */
+    private Collection<ClassMap<Object, Object>> successorsOf(ClassMap<Object, Object> classMap) {
+        if (classMap.getCustomizedMapper() != null) {
+            return null;
+        }
+        Set<ClassMap<Object, Object>> successors = new LinkedHashSet<ClassMap<Object, Object>>();
+        for (MapperKey usedMapper : classMap.getUsedMappers()) {
+            ClassMap<Object, Object> usedClassMap = classMaps.get(usedMapper);
+            if (usedClassMap == null) {
+                return null;
+            }
+            successors.add(usedClassMap);
+        }
+        for (FieldMap fieldMap : classMap.getFieldsMapping()) {
+            if (fieldMap.isExcluded()) {
+                continue;
+            }
+            Type<?> sourceType = fieldMap.getSource().getType();
+            Type<?> destinationType = fieldMap.getDestination().getType();
+            if (fieldMap.getConverterId() != null || converterFactory.canConvert(sourceType, destinationType)) {
+                continue;
+            }
+            if (!addClassMapsFor(sourceType, successors) || !addClassMapsFor(destinationType, successors)) {
+                return null;
+            }
+        }
+        return successors;
+    }
+    
+    /**
+     * Adds the class-maps which may be used to map a value of the given type
+     * 
+     * @return false if the mapping of such a value can't be known
+     */
+    private boolean addClassMapsFor(Type<?> type, Set<ClassMap<Object, Object>> successors) {
+        if (type.isImmutable()) {
+            return true;
+        } else if (type.isArray()) {
+            return addClassMapsFor(type.getComponentType(), successors);
+        } else if (type.isCollection() || type.isMap()) {
+            if (!type.isParameterized()) {
+                return false;
+            }
+            for (int i = 0; i < type.getActualTypeArguments().length; ++i) {
+                if (!addClassMapsFor(type.getNestedType(i), successors)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        boolean matched = false;
+        Class<?> rawType = type.getRawType();
+        for (ClassMap<Object, Object> classMap : classMaps.values()) {
+            if (isRelated(classMap.getAType().getRawType(), rawType) || isRelated(classMap.getBType().getRawType(), rawType)) {
+                successors.add(classMap);
+                matched = true;
+            }
+        }
+        return matched;
+    }
+    
+    private static boolean isRelated(Class<?> a, Class<?> b) {
+        return a.isAssignableFrom(b) || b.isAssignableFrom(a);
+    }
+}
@@ -17,7 +17,12 @@
  */
 package ma.glasnost.orika.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import ma.glasnost.orika.BoundMapperFacade;
 import ma.glasnost.orika.MapperFacade;
@@ -28,6 +33,7 @@ import ma.glasnost.orika.MappingStrategy;
 import ma.glasnost.orika.ObjectFactory;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.metrics.MappingMetricsListener;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
 
 /**
@@ -57,6 +63,7 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
     protected final Type<B> bType;
     protected final MapperFactory mapperFactory;
     protected final MappingContextFactory contextFactory;
+    private final MapperFacadeImpl metricsSource;
     
     
     /**
@@ -78,6 +85,15 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
         this.bToA = new BoundStrategyCache(bType, aType, mapperFactory.getMapperFacade(), mapperFactory.getUserUnenhanceStrategy(), false);
         this.aToBInPlace = new BoundStrategyCache(aType, bType, mapperFactory.getMapperFacade(), mapperFactory.getUserUnenhanceStrategy(), true);
         this.bToAInPlace = new BoundStrategyCache(bType, aType, mapperFactory.getMapperFacade(), mapperFactory.getUserUnenhanceStrategy(), true);
+        MapperFacade mapperFacade = mapperFactory.getMapperFacade();
+        this.metricsSource = mapperFacade instanceof MapperFacadeImpl ? (MapperFacadeImpl) mapperFacade : null;
+    }
+    
+    /**
+     * @return the metrics listener of the MapperFacade, or null if none
+     */
+    private MappingMetricsListener metricsListener() {
+        return metricsSource != null ? metricsSource.getMetricsListener() : null;
     }
     
     public Type<A> getAType() {
@@ -134,7 +150,7 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
     public B map(A instanceA, MappingContext context) {
         B result = (B) context.getMappedObject(instanceA, bType);
         if (result == null && instanceA != null) {
-            result = (B) aToB.getStrategy(instanceA, context).map(instanceA, null, context);
+            result = (B) MapperFacadeImpl.applyStrategy(metricsListener(), aToB.getStrategy(instanceA, context), instanceA, null, context);
         }
         return result;
     }
@@ -149,7 +165,7 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
     public A mapReverse(B instanceB, MappingContext context) {
         A result = (A) context.getMappedObject(instanceB, aType);
         if (result == null && instanceB != null) {
-            result = (A) bToA.getStrategy(instanceB, context).map(instanceB, null, context);
+            result = (A) MapperFacadeImpl.applyStrategy(metricsListener(), bToA.getStrategy(instanceB, context), instanceB, null, context);
         }
         return result;
     }
@@ -164,7 +180,7 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
     public B map(A instanceA, B instanceB, MappingContext context) {
         B result = (B) context.getMappedObject(instanceA, bType);
         if (result == null && instanceA != null) {
-            result = (B) aToBInPlace.getStrategy(instanceA, context).map(instanceA, instanceB, context);
+            result = (B) MapperFacadeImpl.applyStrategy(metricsListener(), aToBInPlace.getStrategy(instanceA, context), instanceA, instanceB, context);
         }
         return result;
     }
@@ -179,11 +195,66 @@ class DefaultBoundMapperFacade<A, B> implements BoundMapperFacade<A, B> {
     public A mapReverse(B instanceB, A instanceA, MappingContext context) {
         A result = (A) context.getMappedObject(instanceB, aType);
         if (result == null && instanceB != null) {
-            result = (A) bToAInPlace.getStrategy(instanceB, context).map(instanceB, instanceA, context);
+            result = (A) MapperFacadeImpl.applyStrategy(metricsListener(), bToAInPlace.getStrategy(instanceB, context), instanceB, instanceA, context);
         }
         return result;
     }
     
+    public List<B> mapAll(Iterable<A> source) {
+        if (source == null) {
+            return null;
+        }
+        final int size = source instanceof Collection ? ((Collection<?>) source).size() : 10;
+        MappingContext context = contextFactory.getContext();
+        try {
+            return mapAll(source.iterator(), new Supplier<List<B>>() {
+                public List<B> get() {
+                    return new ArrayList<B>(size);
+                }
+            }, context);
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public int mapInto(A[] source, B[] destination) {
+        MappingContext context = contextFactory.getContext();
+        try {
+            return mapInto(source, destination, context);
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public Iterator<B> mapAsIterator(final Iterator<A> source) {
+        return new Iterator<B>() {
+            private MappingContext context;
+            
+            public boolean hasNext() {
+                if (source.hasNext()) {
+                    return true;
+                }
+                if (context != null) {
+                    contextFactory.release(context);
+                    context = null;
+                }
+                return false;
+            }
+            
+            public B next() {
+                A instanceA = source.next();
+                if (context == null) {
+                    context = contextFactory.getContext();
+                }
+                try {
+                    return map(instanceA, context);
+                } finally {
+                    context.reset();
+                }
+            }
+        };
+    }
+    
     public String toString() {
     	String srcName = TypeFactory.nameOf(aType, bType);
     	String dstName = TypeFactory.nameOf(bType, aType);
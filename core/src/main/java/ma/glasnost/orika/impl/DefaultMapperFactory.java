@@ -24,14 +24,18 @@ import ma.glasnost.orika.StateReporter.Reportable;
 import ma.glasnost.orika.constructor.ConstructorResolverStrategy;
 import ma.glasnost.orika.converter.ConverterFactory;
 import ma.glasnost.orika.converter.builtin.BuiltinConverters;
+import ma.glasnost.orika.impl.generator.CachingCompilerStrategy;
 import ma.glasnost.orika.impl.generator.CodeGenerationStrategy;
 import ma.glasnost.orika.impl.generator.CompilerStrategy;
 import ma.glasnost.orika.impl.generator.CompilerStrategy.SourceCodeGenerationException;
 import ma.glasnost.orika.impl.generator.MapperGenerator;
 import ma.glasnost.orika.impl.generator.ObjectFactoryGenerator;
+import ma.glasnost.orika.impl.generator.PrecompiledCompilerStrategy;
 import ma.glasnost.orika.inheritance.DefaultSuperTypeResolverStrategy;
 import ma.glasnost.orika.inheritance.SuperTypeResolverStrategy;
 import ma.glasnost.orika.metadata.*;
+import ma.glasnost.orika.metrics.MappingMetrics;
+import ma.glasnost.orika.metrics.MappingMetricsListener;
 import ma.glasnost.orika.property.PropertyResolverStrategy;
 import ma.glasnost.orika.unenhance.BaseUnenhancer;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
@@ -41,11 +45,19 @@ import ma.glasnost.orika.util.SortedCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import static java.lang.Boolean.valueOf;
 import static java.lang.System.getProperty;
@@ -93,11 +105,38 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
     protected final boolean useAutoMapping;
     protected final boolean useBuiltinConverters;
     protected final boolean favorExtension;
+    protected final int buildParallelism;
+    protected final boolean analyzeCycles;
+    private volatile MappingMetricsListener metricsListener;
     protected volatile boolean isBuilt = false;
     protected volatile boolean isBuilding = false;
 
     protected final ExceptionUtility exceptionUtil;
     
+    private final Object lookupIndexLock = new Object();
+    private volatile MapperLookupIndex lookupIndex;
+    
+    /*
+     * The pool generating mappers, and the thread waiting for it, while a
+     * parallel build is in progress
+     */
+    private volatile ForkJoinPool buildPool;
+    private volatile Thread buildingThread;
+    
+    /*
+     * The mappers and object factories being generated on demand, by type
+     * pair, and the depth of the on-demand generation in progress in each
+     * thread
+     */
+    private final ConcurrentHashMap<ConverterKey, FutureTask<Mapper<Object, Object>>> pendingMappers = new ConcurrentHashMap<ConverterKey, FutureTask<Mapper<Object, Object>>>();
+    private final ConcurrentHashMap<ConverterKey, FutureTask<ObjectFactory<Object>>> pendingObjectFactories = new ConcurrentHashMap<ConverterKey, FutureTask<ObjectFactory<Object>>>();
+    private final ThreadLocal<int[]> generationDepth = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
+    
     /**
      * Constructs a new instance of DefaultMapperFactory
      * 
@@ -106,7 +145,11 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
     protected DefaultMapperFactory(MapperFactoryBuilder<?, ?> builder) {
         
         this.converterFactory = new ConverterFactoryFacade(builder.converterFactory);
-        this.compilerStrategy = builder.compilerStrategy;
+        CompilerStrategy strategy = builder.compilerStrategy;
+        if (builder.classCacheDirectory != null) {
+            strategy = new CachingCompilerStrategy(strategy, builder.classCacheDirectory);
+        }
+        this.compilerStrategy = builder.usePrecompiledClasses ? PrecompiledCompilerStrategy.decorate(strategy) : strategy;
         this.classMapRegistry = new ConcurrentHashMap<>();
         this.mappersRegistry = new SortedCollection<Mapper<Object, Object>>(Ordering.MAPPER);
         this.filtersRegistry = new SortedCollection<Filter<Object, Object>>(Ordering.FILTER);
@@ -138,18 +181,21 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         addClassMapBuilderFactory(new ClassMapBuilderForLists.Factory());
         addClassMapBuilderFactory(new ClassMapBuilderForMaps.Factory());
         
-        this.mapperGenerator = new MapperGenerator(this, builder.compilerStrategy);
-        this.objectFactoryGenerator = new ObjectFactoryGenerator(this, builder.constructorResolverStrategy, builder.compilerStrategy);
+        this.mapperGenerator = new MapperGenerator(this, this.compilerStrategy);
+        this.objectFactoryGenerator = new ObjectFactoryGenerator(this, builder.constructorResolverStrategy, this.compilerStrategy);
         this.useAutoMapping = builder.useAutoMapping;
         this.favorExtension = builder.favorExtension;
         this.useBuiltinConverters = builder.useBuiltinConverters;
+        this.buildParallelism = builder.buildParallelism;
+        this.analyzeCycles = builder.analyzeCycles;
+        setMetricsListener(builder.metricsListener);
         
         builder.codeGenerationStrategy.setMapperFactory(this);
         
         Map<Object, Object> props = this.contextFactory.getGlobalProperties();
         props.put(Properties.SHOULD_MAP_NULLS, builder.mapNulls);
         props.put(Properties.CODE_GENERATION_STRATEGY, builder.codeGenerationStrategy);
-        props.put(Properties.COMPILER_STRATEGY, builder.compilerStrategy);
+        props.put(Properties.COMPILER_STRATEGY, this.compilerStrategy);
         props.put(Properties.PROPERTY_RESOLVER_STRATEGY, builder.propertyResolverStrategy);
         props.put(Properties.UNENHANCE_STRATEGY, unenhanceStrategy);
         props.put(Properties.MAPPER_FACTORY, this);
@@ -263,6 +309,29 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
          * upon mapping of every field.
          */
         protected Boolean captureFieldContext;
+        /**
+         * The configured number of threads used to generate mappers when the
+         * MapperFactory is built.
+         */
+        protected Integer buildParallelism;
+        /**
+         * The configured value of whether classes generated ahead-of-time
+         * should be loaded instead of compiled.
+         */
+        protected Boolean usePrecompiledClasses;
+        /**
+         * The configured directory in which the generated classes are cached
+         */
+        protected File classCacheDirectory;
+        /**
+         * The configured value of whether the registered class-maps should be
+         * analyzed for type pairs which can never be part of a cycle.
+         */
+        protected Boolean analyzeCycles;
+        /**
+         * The configured listener of the mapping metrics
+         */
+        protected MappingMetricsListener metricsListener;
         /**
          * Internal Property to always use {@link MultipleMapperWrapper} even if there are no custom ObjectFactory and only one Mapper
          * found.
@@ -291,6 +360,11 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
             dumpStateOnException = valueOf(getProperty(DUMP_STATE_ON_EXCEPTION, "false"));
             favorExtension = valueOf(getProperty(FAVOR_EXTENSION, "false"));
             captureFieldContext = valueOf(getProperty(CAPTURE_FIELD_CONTEXT, "false"));
+            buildParallelism = Integer.valueOf(getProperty(BUILD_PARALLELISM, "1"));
+            usePrecompiledClasses = valueOf(getProperty(USE_PRECOMPILED_CLASSES, "true"));
+            String classCachePath = getProperty(CLASS_CACHE_DIRECTORY);
+            classCacheDirectory = classCachePath != null ? new File(classCachePath) : null;
+            analyzeCycles = valueOf(getProperty(ANALYZE_CYCLES, "false"));
             alwaysCreateMultipleMapperWrapper = valueOf(
                     getProperty("ma.glasnost.orika.alwaysCreateMultipleMapperWrapper", "false"));
             codeGenerationStrategy = new DefaultCodeGenerationStrategy();
@@ -506,6 +580,83 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
             return self();
         }
         
+        /**
+         * Configure the number of threads used to generate and compile the
+         * mappers of the registered class-maps when the MapperFactory is
+         * built; a value greater than <code>1</code> enables the parallel
+         * build, which is only used when the configured CompilerStrategy
+         * supports concurrent compilation.<br>
+         * Default value is <code>1</code> (sequential build)
+         * 
+         * @param buildParallelism
+         * @return a reference to <code>this</code> MapperFactoryBuilder
+         */
+        public B buildParallelism(int buildParallelism) {
+            this.buildParallelism = buildParallelism;
+            return self();
+        }
+        
+        /**
+         * Configure whether the classes generated ahead-of-time (listed in
+         * {@value PrecompiledCompilerStrategy#INDEX_RESOURCE} resources) should
+         * be loaded instead of compiling the equivalent generated classes.<br>
+         * Default value is <code>true</code>
+         * 
+         * @param usePrecompiledClasses
+         * @return a reference to <code>this</code> MapperFactoryBuilder
+         */
+        public B usePrecompiledClasses(boolean usePrecompiledClasses) {
+            this.usePrecompiledClasses = usePrecompiledClasses;
+            return self();
+        }
+        
+        /**
+         * Configure a directory in which the bytecode of the generated classes
+         * is cached, so that later MapperFactory instances (in this or later
+         * JVMs) load the cached classes instead of compiling them again; the
+         * configured CompilerStrategy must be able to provide the bytecode of
+         * the classes it compiles.<br>
+         * Default value is <code>null</code> (no class cache)
+         * 
+         * @param classCacheDirectory
+         * @return a reference to <code>this</code> MapperFactoryBuilder
+         */
+        public B classCacheDirectory(File classCacheDirectory) {
+            this.classCacheDirectory = classCacheDirectory;
+            return self();
+        }
+        
+        /**
+         * Configure whether the registered class-maps should be analyzed when
+         * the MapperFactory is built, to find the type pairs whose mapping can
+         * never reach a cycle; mapping those pairs skips the tracking of
+         * already mapped objects, as if they were mapped with a
+         * {@link NonCyclicMappingContext}.<br>
+         * Default value is <code>false</code>
+         * 
+         * @param analyzeCycles
+         * @return a reference to <code>this</code> MapperFactoryBuilder
+         */
+        public B analyzeCycles(boolean analyzeCycles) {
+            this.analyzeCycles = analyzeCycles;
+            return self();
+        }
+        
+        /**
+         * Configure a listener to receive the mapping metrics of the
+         * MapperFactory: per type pair mapping counts and times, strategy
+         * cache hits and misses, and mapper generation times; see
+         * {@link MappingMetrics}.<br>
+         * Default value is <code>null</code> (no metrics)
+         * 
+         * @param metricsListener
+         * @return a reference to <code>this</code> MapperFactoryBuilder
+         */
+        public B metricsListener(MappingMetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return self();
+        }
+        
         /**
          * Get a reference to the CodeGenerationStrategy associated with this
          * MapperFactory, which may be used to configure/customize the
@@ -695,62 +846,159 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
      *         identified by the passed MapperKey
      */
     @SuppressWarnings("unchecked")
-    public Mapper<Object, Object> lookupMapper(MapperKey mapperKey, MappingContext context) {
+    public Mapper<Object, Object> lookupMapper(final MapperKey mapperKey, final MappingContext context) {
         
         Mapper<?, ?> mapper = getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
         if (internalMapperMustBeGenerated(mapper, mapperKey)) {
             mapper = null;
         }
         if (mapper == null && useAutoMapping) {
-            synchronized (this) {
-                mapper = getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
-                boolean internalMapperMustBeGenerated = internalMapperMustBeGenerated(mapper, mapperKey);
-                if (internalMapperMustBeGenerated) {
-                    mapper = null;
+            if (mustGenerateWhileLocked()) {
+                synchronized (this) {
+                    awaitParallelBuild();
+                    mapper = generateMissingMapper(mapperKey, context, true);
                 }
-                if (mapper == null) {
-                    try {
+            } else {
+                ConverterKey key = new ConverterKey(mapperKey.getAType(), mapperKey.getBType());
+                mapper = generateOnce(pendingMappers, key, new Callable<Mapper<Object, Object>>() {
+                    public Mapper<Object, Object> call() {
+                        return generateMissingMapper(mapperKey, context, false);
+                    }
+                });
+            }
+        }
+        return (Mapper<Object, Object>) mapper;
+    }
+    
+    /**
+     * Generates and registers the mapper for the types identified by the
+     * provided MapperKey, unless a suitable mapper has been registered in the
+     * meantime. When not called while holding the lock on this factory, the
+     * mapper is generated without it, and the lock is only taken to register
+     * the generated mapper.
+     */
+    @SuppressWarnings("unchecked")
+    private Mapper<Object, Object> generateMissingMapper(MapperKey mapperKey, MappingContext context, boolean locked) {
+        int[] depth = generationDepth.get();
+        ++depth[0];
+        try {
+            Mapper<?, ?> mapper = getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
+            final boolean internalMapperMustBeGenerated = internalMapperMustBeGenerated(mapper, mapperKey);
+            if (mapper != null && !internalMapperMustBeGenerated) {
+                return (Mapper<Object, Object>) mapper;
+            }
+            try {
+                /*
+                 * We shouldn't create a mapper for an immutable type; although
+                 * it will succeed in generating an empty mapper, it won't
+                 * actually result in a valid mapping, so it's better to throw
+                 * an exception to indicate more clearly that something went
+                 * wrong. However, there is a possibility that a custom
+                 * ObjectFactory was registered for the immutable type, which
+                 * would be valid.
+                 */
+                if (mapperKey.getBType().isImmutable() && !objectFactoryRegistry.containsKey(mapperKey.getBType())) {
+                    throw new MappingException("No converter registered for conversion from " + mapperKey.getAType() + " to "
+                            + mapperKey.getBType() + ", nor any ObjectFactory which can generate " + mapperKey.getBType() + " from "
+                            + mapperKey.getAType());
+                }
+                
+                LOGGER.debug("No mapper registered for {}: attempting to generate", mapperKey);
+                
+                ClassMapBuilder<?, ?> builder = classMap(mapperKey.getAType(), mapperKey.getBType()).byDefault();
+                for (MapperKey key : discoverUsedMappers(builder)) {
+                    builder.use(key.getAType(), key.getBType());
+                }
+                final ClassMap<?, ?> classMap = builder.toClassMap();
+                
+                buildObjectFactories(classMap, context);
+                register(classMap.getAType(), classMap.getBType(), true);
+                register(classMap.getBType(), classMap.getAType(), true);
+                GeneratedMapperBase generatedMapper = generateMapper(classMap, true, context);
+                
+                if (locked) {
+                    return registerMissingMapper(mapperKey, classMap, generatedMapper, internalMapperMustBeGenerated, context);
+                }
+                synchronized (this) {
+                    awaitParallelBuild();
+                    mapper = getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
+                    if (mapper != null && !internalMapperMustBeGenerated(mapper, mapperKey)) {
                         /*
-                         * We shouldn't create a mapper for an immutable type;
-                         * although it will succeed in generating an empty
-                         * mapper, it won't actually result in a valid mapping,
-                         * so it's better to throw an exception to indicate more
-                         * clearly that something went wrong. However, there is
-                         * a possibility that a custom ObjectFactory was
-                         * registered for the immutable type, which would be
-                         * valid.
+                         * Registered by a nested generation in the meantime
                          */
-                        if (mapperKey.getBType().isImmutable() && !objectFactoryRegistry.containsKey(mapperKey.getBType())) {
-                            throw new MappingException("No converter registered for conversion from " + mapperKey.getAType() + " to "
-                                    + mapperKey.getBType() + ", nor any ObjectFactory which can generate " + mapperKey.getBType()
-                                    + " from " + mapperKey.getAType());
-                        }
-                        
-                        LOGGER.debug("No mapper registered for {}: attempting to generate", mapperKey);
-                        
-                        ClassMapBuilder<?, ?> builder = classMap(mapperKey.getAType(), mapperKey.getBType()).byDefault();
-                        for (MapperKey key : discoverUsedMappers(builder)) {
-                            builder.use(key.getAType(), key.getBType());
-                        }
-                        final ClassMap<?, ?> classMap = builder.toClassMap();
-                        
-                        buildObjectFactories(classMap, context);
-                        mapper = buildMapper(classMap, true, context);
-                        initializeUsedMappers(mapper, classMap, context);
-                        if (internalMapperMustBeGenerated || alwaysCreateMultipleMapperWrapper) {
-                            // regenerate MultipleMapperWrapper.
-                            mapper = getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
-                        }
-                    } catch (MappingException e) {
-                        e.setSourceType(mapperKey.getAType());
-                        e.setDestinationType(mapperKey.getBType());
-                        throw exceptionUtil.decorate(e);
+                        return (Mapper<Object, Object>) mapper;
                     }
+                    return registerMissingMapper(mapperKey, classMap, generatedMapper, internalMapperMustBeGenerated, context);
                 }
+            } catch (MappingException e) {
+                e.setSourceType(mapperKey.getAType());
+                e.setDestinationType(mapperKey.getBType());
+                throw exceptionUtil.decorate(e);
+            }
+        } finally {
+            --depth[0];
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Mapper<Object, Object> registerMissingMapper(MapperKey mapperKey, ClassMap<?, ?> classMap, GeneratedMapperBase mapper,
+            boolean internalMapperMustBeGenerated, MappingContext context) {
+        registerGeneratedMapper(classMap, mapper, true);
+        initializeUsedMappers(mapper, classMap, context);
+        if (internalMapperMustBeGenerated || alwaysCreateMultipleMapperWrapper) {
+            // regenerate MultipleMapperWrapper.
+            return (Mapper<Object, Object>) getRegisteredMapper(mapperKey.getAType(), mapperKey.getBType(), false);
+        }
+        return mapper;
+    }
+    
+    /**
+     * Whether a missing mapper or object factory must be generated while
+     * holding the lock on this factory: before the factory is built, during a
+     * parallel build, and for nested generations, which must never wait for
+     * a generation in progress in another thread.
+     */
+    private boolean mustGenerateWhileLocked() {
+        return !isBuilt || buildingThread != null || generationDepth.get()[0] > 0 || Thread.holdsLock(this);
+    }
+    
+    /**
+     * Runs the provided generation in the current thread, unless a generation
+     * for the same key is already in progress, in which case its result is
+     * awaited instead.
+     */
+    private <V> V generateOnce(ConcurrentHashMap<ConverterKey, FutureTask<V>> pending, ConverterKey key, Callable<V> generation) {
+        FutureTask<V> task = new FutureTask<V>(generation);
+        FutureTask<V> existing = pending.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                pending.remove(key, task);
+            }
+            existing = task;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return existing.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new MappingException(e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
             }
-            
         }
-        return (Mapper<Object, Object>) mapper;
     }
 
     private boolean internalMapperMustBeGenerated(Mapper<?, ?> mapper, MapperKey mapperKey) {
@@ -795,28 +1043,19 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
      */
     @SuppressWarnings("unchecked")
     private <A, B> Mapper<A, B> getRegisteredMapper(Type<A> typeA, Type<B> typeB, boolean includeAutoGeneratedMappers) {
-        List<Mapper<A, B>> foundMappers = new ArrayList<Mapper<A, B>>();
+        final MapperLookupIndex index = getLookupIndex();
         
-        boolean objFactoryBExists = customObjectFactoryForDestinationExists(typeA, typeB);
-        boolean objFactoryAExists = customObjectFactoryForDestinationExists(typeB, typeA);
+        boolean objFactoryBExists = index.customObjectFactoryExists(typeA, typeB);
+        boolean objFactoryAExists = index.customObjectFactoryExists(typeB, typeA);
         
-        for (Mapper<?, ?> mapper : mappersRegistry) {
-            if ((mapper.getAType().equals(typeA) && mapper.getBType().equals(typeB))
-                    || (mapper.getAType().equals(typeB) && mapper.getBType().equals(typeA))) {
-                foundMappers.add((Mapper<A, B>) mapper);
-            } else if ((mapper.getAType().isAssignableFrom(typeA) && mapper.getBType().isAssignableFrom(typeB))
-                    || (mapper.getBType().isAssignableFrom(typeA) && mapper.getAType().isAssignableFrom(typeB))
-                    || (mapper.getAType().isAssignableFrom(typeA) && typeB.isAssignableFrom(mapper.getBType()) && objFactoryBExists)
-                    || (mapper.getBType().isAssignableFrom(typeA) && typeB.isAssignableFrom(mapper.getAType()) && objFactoryAExists)) {
-                if (!favorsExtension(mapper) || !canBeExtended(typeA, typeB, mapper)) {
-                    if (includeAutoGeneratedMappers || !(mapper instanceof GeneratedMapperBase)) {
-                        foundMappers.add((Mapper<A, B>) mapper);
-                    } else if (!((GeneratedMapperBase) mapper).isFromAutoMapping()) {
-                        foundMappers.add((Mapper<A, B>) mapper);
-                    }
-                }
-            }
+        final ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>> results = index.getRegisteredMappers(includeAutoGeneratedMappers);
+        final ConverterKey key = new ConverterKey(typeA, typeB);
+        List<Mapper<A, B>> foundMappers = (List) results.get(key);
+        if (foundMappers == null) {
+            foundMappers = findRegisteredMappers(index, typeA, typeB, includeAutoGeneratedMappers, objFactoryAExists, objFactoryBExists);
+            results.put(key, (List) foundMappers);
         }
+        
         if ((objFactoryBExists || objFactoryAExists) && foundMappers.size() > 1) {
             if (LOGGER.isDebugEnabled()) {
                 StringBuilder msg = new StringBuilder();
@@ -841,6 +1080,80 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         return null;
     }
     
+    /**
+     * Finds the registered mappers able to map the specified types, in
+     * registry order; only the mappers indexed under a supertype of
+     * <code>typeA</code> are considered, since every match requires one of the
+     * mapper's types to be assignable from <code>typeA</code>.
+     * 
+     * @return the (unmodifiable) list of matching mappers
+     */
+    @SuppressWarnings("unchecked")
+    private <A, B> List<Mapper<A, B>> findRegisteredMappers(MapperLookupIndex index, Type<A> typeA, Type<B> typeB,
+            boolean includeAutoGeneratedMappers, boolean objFactoryAExists, boolean objFactoryBExists) {
+        List<Mapper<A, B>> foundMappers = new ArrayList<Mapper<A, B>>();
+        
+        for (Mapper<?, ?> mapper : index.getCandidates(typeA)) {
+            if ((mapper.getAType().equals(typeA) && mapper.getBType().equals(typeB))
+                    || (mapper.getAType().equals(typeB) && mapper.getBType().equals(typeA))) {
+                foundMappers.add((Mapper<A, B>) mapper);
+            } else if ((mapper.getAType().isAssignableFrom(typeA) && mapper.getBType().isAssignableFrom(typeB))
+                    || (mapper.getBType().isAssignableFrom(typeA) && mapper.getAType().isAssignableFrom(typeB))
+                    || (mapper.getAType().isAssignableFrom(typeA) && typeB.isAssignableFrom(mapper.getBType()) && objFactoryBExists)
+                    || (mapper.getBType().isAssignableFrom(typeA) && typeB.isAssignableFrom(mapper.getAType()) && objFactoryAExists)) {
+                if (!favorsExtension(mapper) || !canBeExtended(typeA, typeB, mapper)) {
+                    if (includeAutoGeneratedMappers || !(mapper instanceof GeneratedMapperBase)) {
+                        foundMappers.add((Mapper<A, B>) mapper);
+                    } else if (!((GeneratedMapperBase) mapper).isFromAutoMapping()) {
+                        foundMappers.add((Mapper<A, B>) mapper);
+                    }
+                }
+            }
+        }
+        return foundMappers.isEmpty() ? Collections.<Mapper<A, B>> emptyList() : Collections.unmodifiableList(foundMappers);
+    }
+    
+    /**
+     * @return the index of the registered mappers and custom object
+     *         factories, rebuilt from the registries if it has been discarded
+     */
+    private MapperLookupIndex getLookupIndex() {
+        MapperLookupIndex index = lookupIndex;
+        if (index == null) {
+            synchronized (lookupIndexLock) {
+                index = lookupIndex;
+                if (index == null) {
+                    Map<Type<?>, List<Type<?>>> customObjectFactoryDestinations = new HashMap<Type<?>, List<Type<?>>>();
+                    for (Entry<Type<? extends Object>, ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>>> entry : objectFactoryRegistry.entrySet()) {
+                        for (Entry<Type<? extends Object>, ObjectFactory<? extends Object>> factory : entry.getValue().entrySet()) {
+                            if (isCustomObjectFactory(factory.getValue())) {
+                                List<Type<?>> destinations = customObjectFactoryDestinations.get(factory.getKey());
+                                if (destinations == null) {
+                                    destinations = new ArrayList<Type<?>>();
+                                    customObjectFactoryDestinations.put(factory.getKey(), destinations);
+                                }
+                                destinations.add(entry.getKey());
+                            }
+                        }
+                    }
+                    index = new MapperLookupIndex(mappersRegistry, customObjectFactoryDestinations);
+                    lookupIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Discards the lookup index along with its memoized results; must be
+     * called after any change to the registered mappers or object factories.
+     */
+    private void invalidateLookupIndex() {
+        synchronized (lookupIndexLock) {
+            lookupIndex = null;
+        }
+    }
+    
     private boolean favorsExtension(Mapper<?, ?> mapper) {
         return mapper.favorsExtension() == null ? favorExtension : mapper.favorsExtension();
     }
@@ -872,10 +1185,11 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
      * 
      * Since getMapperFacade() triggers the build() process, it is important
      * that none of the methods called during the build() invoke
-     * getMapperFacade() again.
+     * getMapperFacade() again; the workers of a parallel build get the
+     * facade without waiting for the build they are part of.
      */
     public MapperFacade getMapperFacade() {
-        if (!isBuilt) {
+        if (!isBuilt && !isBuildWorker()) {
             synchronized (mapperFacade) {
                 if (!isBuilt) {
                     build();
@@ -900,6 +1214,7 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
             }
         }
         localCache.put(sourceType, objectFactory);
+        invalidateLookupIndex();
         if (isBuilding || isBuilt) {
             mapperFacade.factoryModified(this);
         }
@@ -1036,73 +1351,102 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
             return null;
         }
         
-        Type<T> targetType = destinationType;
-        ObjectFactory<T> result = lookupExistingObjectFactory(targetType, sourceType, context);
+        ObjectFactory<T> result = lookupExistingObjectFactory(destinationType, sourceType, context);
         
         if (result == null) {
-            // Check if we can use default constructor...
-            synchronized (this) {
-                if (!targetType.isConcrete()) {
-                    targetType = (Type<T>) resolveConcreteType(targetType, targetType);
-                }
-                if (targetType == null) {
-                    throw new IllegalStateException(String.format(
-                            "Cannot create ObjectFactory for \n\t destinationType = %s\n\t sourceType = %s",
-                            destinationType,
-                            sourceType));
+            if (mustGenerateWhileLocked()) {
+                synchronized (this) {
+                    result = createObjectFactory(destinationType, sourceType, context);
                 }
-                
-                Constructor<?>[] constructors = targetType.getRawType().getDeclaredConstructors();
-                if (useAutoMapping || !isBuilt) {
-                    if (constructors.length == 1 && constructors[0].getParameterTypes().length == 0) {
-                        /*
-                         * Use the default constructor in the case where it is
-                         * the only option
-                         */
-                        result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
-                    } else {
-                        try {
-                            result = (ObjectFactory<T>) objectFactoryGenerator.build(targetType, sourceType, context);
-                        } catch (MappingException e) {
-                            for (Constructor<?> c : constructors) {
-                                if (c.getParameterTypes().length == 0) {
-                                    result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
-                                    break;
+            } else {
+                result = (ObjectFactory<T>) generateOnce(pendingObjectFactories, new ConverterKey(sourceType, destinationType),
+                        new Callable<ObjectFactory<Object>>() {
+                            public ObjectFactory<Object> call() {
+                                ObjectFactory<T> objectFactory = lookupExistingObjectFactory(destinationType, sourceType, context);
+                                if (objectFactory == null) {
+                                    objectFactory = createObjectFactory(destinationType, sourceType, context);
                                 }
+                                return (ObjectFactory<Object>) objectFactory;
                             }
-                            if (result == null) {
-                                throw exceptionUtil.decorate(e);
+                        });
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Creates (and registers, when auto-generation is enabled) an
+     * ObjectFactory for the specified types
+     */
+    @SuppressWarnings("unchecked")
+    private <T, S> ObjectFactory<T> createObjectFactory(final Type<T> destinationType, final Type<S> sourceType, final MappingContext context) {
+        int[] depth = generationDepth.get();
+        ++depth[0];
+        try {
+            Type<T> targetType = destinationType;
+            ObjectFactory<T> result = null;
+            if (!targetType.isConcrete()) {
+                targetType = (Type<T>) resolveConcreteType(targetType, targetType);
+            }
+            if (targetType == null) {
+                throw new IllegalStateException(String.format(
+                        "Cannot create ObjectFactory for \n\t destinationType = %s\n\t sourceType = %s",
+                        destinationType,
+                        sourceType));
+            }
+            
+            Constructor<?>[] constructors = targetType.getRawType().getDeclaredConstructors();
+            if (useAutoMapping || !isBuilt) {
+                if (constructors.length == 1 && constructors[0].getParameterTypes().length == 0) {
+                    /*
+                     * Use the default constructor in the case where it is
+                     * the only option
+                     */
+                    result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
+                } else {
+                    try {
+                        result = (ObjectFactory<T>) objectFactoryGenerator.build(targetType, sourceType, context);
+                    } catch (MappingException e) {
+                        for (Constructor<?> c : constructors) {
+                            if (c.getParameterTypes().length == 0) {
+                                result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
+                                break;
                             }
                         }
-                    }
-                    
-                    ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>> localCache = objectFactoryRegistry.get(targetType);
-                    if (localCache == null) {
-                        localCache = new ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>>();
-                        ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>> existing = objectFactoryRegistry.putIfAbsent(
-                                targetType, localCache);
-                        if (existing != null) {
-                            localCache = existing;
+                        if (result == null) {
+                            throw exceptionUtil.decorate(e);
                         }
                     }
-                    
-                    ObjectFactory<T> existing = (ObjectFactory<T>) localCache.putIfAbsent(sourceType, result);
+                }
+                
+                ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>> localCache = objectFactoryRegistry.get(targetType);
+                if (localCache == null) {
+                    localCache = new ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>>();
+                    ConcurrentHashMap<Type<? extends Object>, ObjectFactory<? extends Object>> existing = objectFactoryRegistry.putIfAbsent(
+                            targetType, localCache);
                     if (existing != null) {
-                        result = existing;
-                    }
-                    
-                } else {
-                    for (Constructor<?> constructor : constructors) {
-                        if (constructor.getParameterTypes().length == 0) {
-                            result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
-                            break;
-                        }
+                        localCache = existing;
                     }
                 }
                 
+                ObjectFactory<T> existing = (ObjectFactory<T>) localCache.putIfAbsent(sourceType, result);
+                if (existing != null) {
+                    result = existing;
+                }
+                
+            } else {
+                for (Constructor<?> constructor : constructors) {
+                    if (constructor.getParameterTypes().length == 0) {
+                        result = new DefaultConstructorObjectFactory<T>(targetType.getRawType());
+                        break;
+                    }
+                }
             }
+            
+            return result;
+        } finally {
+            --depth[0];
         }
-        return result;
     }
     
     @SuppressWarnings("unchecked")
@@ -1187,17 +1531,7 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
     }
 
     private <S, D> boolean customObjectFactoryForDestinationExists(Type<S> sourceType, Type<D> destinationType) {
-        Set<Type<? extends Object>> objFactoryDestTypes = getKeys(objectFactoryRegistry);
-        for (Type<? extends Object> objFactoryDestType : objFactoryDestTypes) {
-            if (destinationType.isAssignableFrom(objFactoryDestType)
-                    && objectFactoryRegistry.get(objFactoryDestType).containsKey(sourceType)) {
-                ObjectFactory<? extends Object> objectFactory = objectFactoryRegistry.get(objFactoryDestType).get(sourceType);
-                if (isCustomObjectFactory(objectFactory)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getLookupIndex().customObjectFactoryExists(sourceType, destinationType);
     }
     
     private boolean isCustomObjectFactory(ObjectFactory<? extends Object> objectFactory) {
@@ -1244,6 +1578,7 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
 
     @SuppressWarnings("unchecked")
     public synchronized <A, B> void registerClassMap(ClassMap<A, B> classMap) {
+        awaitParallelBuild();
         classMapRegistry.put(new MapperKey(classMap.getAType(), classMap.getBType()), (ClassMap<Object, Object>) classMap);
         if (isBuilding || isBuilt) {
             MappingContext context = contextFactory.getContext();
@@ -1269,6 +1604,7 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
     
     public synchronized void build() {
         
+        awaitParallelBuild();
         if (!isBuilding && !isBuilt) {
             isBuilding = true;
             
@@ -1288,9 +1624,22 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
 
                 buildClassMapRegistry();
 
-                Map<ClassMap<?, ?>, GeneratedMapperBase> generatedMappers = new HashMap<ClassMap<?, ?>, GeneratedMapperBase>();
-                for (ClassMap<?, ?> classMap : classMapRegistry.values()) {
-                    generatedMappers.put(classMap, buildMapper(classMap, false, context));
+                long start = System.nanoTime();
+                Map<ClassMap<?, ?>, GeneratedMapperBase> generatedMappers;
+                if (buildParallelism > 1 && compilerStrategy.supportsConcurrentCompilation()) {
+                    generatedMappers = buildMappersInParallel();
+                } else {
+                    if (buildParallelism > 1) {
+                        LOGGER.warn("{} does not support concurrent compilation; building mappers sequentially",
+                                compilerStrategy.getClass().getSimpleName());
+                    }
+                    generatedMappers = new HashMap<ClassMap<?, ?>, GeneratedMapperBase>();
+                    for (ClassMap<?, ?> classMap : classMapRegistry.values()) {
+                        generatedMappers.put(classMap, buildMapper(classMap, false, context));
+                    }
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Generated {} mappers in {} ms", generatedMappers.size(), (System.nanoTime() - start) / 1000000);
                 }
                 
                 Set<Entry<ClassMap<?, ?>, GeneratedMapperBase>> generatedMapperEntries = generatedMappers.entrySet();
@@ -1299,6 +1648,16 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
                     initializeUsedMappers(generatedMapperEntry.getValue(), generatedMapperEntry.getKey(), context);
                 }
                 
+                if (analyzeCycles) {
+                    Set<MapperKey> acyclicMappings = new CycleAnalyzer(classMapRegistry, converterFactory).findAcyclicMappings();
+                    for (Entry<ClassMap<?, ?>, GeneratedMapperBase> generatedMapperEntry : generatedMapperEntries) {
+                        generatedMapperEntry.getValue().setAcyclic(acyclicMappings.contains(generatedMapperEntry.getKey().getMapperKey()));
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("{} of {} class-maps can never reach a cycle", acyclicMappings.size(), classMapRegistry.size());
+                    }
+                }
+                
             } finally {
                 contextFactory.release(context);
             }
@@ -1468,14 +1827,38 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         }
     }
     
-    @SuppressWarnings("unchecked")
     private GeneratedMapperBase buildMapper(ClassMap<?, ?> classMap, boolean isAutoGenerated, MappingContext context) {
         
         register(classMap.getAType(), classMap.getBType(), isAutoGenerated);
         register(classMap.getBType(), classMap.getAType(), isAutoGenerated);
         
-        final MapperKey mapperKey = new MapperKey(classMap.getAType(), classMap.getBType());
+        final GeneratedMapperBase mapper = generateMapper(classMap, isAutoGenerated, context);
+        registerGeneratedMapper(classMap, mapper, isAutoGenerated);
+        
+        return mapper;
+    }
+    
+    /**
+     * Generates and compiles the mapper for the specified class-map, logging
+     * the time it took.
+     */
+    private GeneratedMapperBase generateMapper(ClassMap<?, ?> classMap, boolean isAutoGenerated, MappingContext context) {
+        long start = System.nanoTime();
         final GeneratedMapperBase mapper = mapperGenerator.build(classMap, context);
+        MappingMetricsListener listener = metricsListener;
+        if (listener != null) {
+            listener.mapperGenerated(classMap.getMapperKey(), isAutoGenerated, System.nanoTime() - start);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Generated mapper {} for ({}, {}) in {} ms", mapper.getClass().getSimpleName(), classMap.getAType(),
+                    classMap.getBType(), (System.nanoTime() - start) / 1000000.0);
+        }
+        return mapper;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void registerGeneratedMapper(ClassMap<?, ?> classMap, GeneratedMapperBase mapper, boolean isAutoGenerated) {
+        final MapperKey mapperKey = new MapperKey(classMap.getAType(), classMap.getBType());
         mapper.setMapperFacade(mapperFacade);
         mapper.setFromAutoMapping(isAutoGenerated);
         if (classMap.getCustomizedMapper() != null) {
@@ -1484,9 +1867,160 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         }
         mappersRegistry.remove(mapper);
         mappersRegistry.add(mapper);
+        invalidateLookupIndex();
         classMapRegistry.put(mapperKey, (ClassMap<Object, Object>) classMap);
-        
-        return mapper;
+    }
+    
+    /**
+     * Generates the mappers of the registered class-maps on a ForkJoinPool.
+     * Class-maps are processed by levels of the used-mapper hierarchy: a
+     * class-map is generated once the class-maps it uses have been generated
+     * and registered, and the generated mappers are registered by the building
+     * thread, in registry order.<br>
+     * While waiting for the workers, the building thread releases the lock on
+     * this factory, so that workers may register the class-maps they discover
+     * or generate missing mappers; other threads wait for the build to
+     * complete.
+     * 
+     * @return the generated mappers, by class-map
+     */
+    private Map<ClassMap<?, ?>, GeneratedMapperBase> buildMappersInParallel() {
+        Map<ClassMap<?, ?>, GeneratedMapperBase> generatedMappers = new HashMap<ClassMap<?, ?>, GeneratedMapperBase>();
+        ForkJoinPool pool = new ForkJoinPool(buildParallelism);
+        buildPool = pool;
+        buildingThread = Thread.currentThread();
+        try {
+            for (List<ClassMap<Object, Object>> level : getUsedMapperLevels()) {
+                List<Future<GeneratedMapperBase>> futures = new ArrayList<Future<GeneratedMapperBase>>(level.size());
+                for (final ClassMap<Object, Object> classMap : level) {
+                    register(classMap.getAType(), classMap.getBType(), false);
+                    register(classMap.getBType(), classMap.getAType(), false);
+                    FutureTask<GeneratedMapperBase> future = new FutureTask<GeneratedMapperBase>(new Callable<GeneratedMapperBase>() {
+                        public GeneratedMapperBase call() {
+                            MappingContext context = contextFactory.getContext();
+                            try {
+                                return generateMapper(classMap, false, context);
+                            } finally {
+                                contextFactory.release(context);
+                            }
+                        }
+                    }) {
+                        @Override
+                        protected void done() {
+                            /*
+                             * Wakes up the building thread, waiting in
+                             * awaitBuildWorker()
+                             */
+                            synchronized (DefaultMapperFactory.this) {
+                                DefaultMapperFactory.this.notifyAll();
+                            }
+                        }
+                    };
+                    pool.execute(future);
+                    futures.add(future);
+                }
+                for (int i = 0; i < futures.size(); ++i) {
+                    GeneratedMapperBase mapper = awaitBuildWorker(futures.get(i));
+                    registerGeneratedMapper(level.get(i), mapper, false);
+                    generatedMappers.put(level.get(i), mapper);
+                }
+            }
+        } finally {
+            buildPool = null;
+            buildingThread = null;
+            pool.shutdownNow();
+            notifyAll();
+        }
+        return generatedMappers;
+    }
+    
+    /**
+     * Groups the registered class-maps by their depth in the used-mapper
+     * hierarchy, as recorded by {@link #buildClassMapRegistry()}.
+     * 
+     * @return the class-maps, by increasing depth, each level in registry
+     *         order
+     */
+    private List<List<ClassMap<Object, Object>>> getUsedMapperLevels() {
+        Map<ClassMap<Object, Object>, Integer> depths = new HashMap<ClassMap<Object, Object>, Integer>();
+        List<List<ClassMap<Object, Object>>> levels = new ArrayList<List<ClassMap<Object, Object>>>();
+        for (ClassMap<Object, Object> classMap : new ArrayList<ClassMap<Object, Object>>(classMapRegistry.values())) {
+            int depth = getUsedMapperDepth(classMap, depths);
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<ClassMap<Object, Object>>());
+            }
+            levels.get(depth).add(classMap);
+        }
+        return levels;
+    }
+    
+    private int getUsedMapperDepth(ClassMap<Object, Object> classMap, Map<ClassMap<Object, Object>, Integer> depths) {
+        Integer depth = depths.get(classMap);
+        if (depth == null) {
+            /*
+             * Guards against cycles in the used mappers
+             */
+            depths.put(classMap, 0);
+            int maxDepth = 0;
+            Set<ClassMap<Object, Object>> usedClassMaps = usedMapperMetadataRegistry.get(classMap.getMapperKey());
+            if (usedClassMaps != null) {
+                for (ClassMap<Object, Object> usedClassMap : usedClassMaps) {
+                    maxDepth = Math.max(maxDepth, getUsedMapperDepth(usedClassMap, depths) + 1);
+                }
+            }
+            depth = maxDepth;
+            depths.put(classMap, depth);
+        }
+        return depth;
+    }
+    
+    /**
+     * Waits for a mapper generated by a worker of the parallel build; the
+     * lock on this factory is released while waiting, and the worker notifies
+     * it once the mapper is done.
+     */
+    private GeneratedMapperBase awaitBuildWorker(Future<GeneratedMapperBase> future) {
+        try {
+            while (!future.isDone()) {
+                wait();
+            }
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("Interrupted while building mappers", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new MappingException(e.getCause());
+        }
+    }
+    
+    /**
+     * @return true if the current thread is a worker of the parallel build in
+     *         progress
+     */
+    private boolean isBuildWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == buildPool;
+    }
+    
+    /**
+     * Makes threads other than the building thread and its workers wait for a
+     * parallel build in progress; must be called while holding the lock on
+     * this factory.
+     */
+    private void awaitParallelBuild() {
+        while (buildingThread != null && buildingThread != Thread.currentThread() && !isBuildWorker()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MappingException("Interrupted while waiting for the mapper factory to be built", e);
+            }
+        }
     }
     
     /**
@@ -1502,7 +2036,7 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         
         Set<Type<?>> destinationSet = registry.get(sourceType);
         if (destinationSet == null) {
-            destinationSet = new TreeSet<Type<?>>();
+            destinationSet = new ConcurrentSkipListSet<Type<?>>();
             Set<Type<?>> existing = registry.putIfAbsent(sourceType, destinationSet);
             if (existing != null) {
                 destinationSet = existing;
@@ -1583,7 +2117,9 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
      */
     @SuppressWarnings("unchecked")
     public synchronized <A, B> void registerMapper(Mapper<A, B> mapper) {
+        awaitParallelBuild();
         this.mappersRegistry.add((Mapper<Object, Object>) mapper);
+        invalidateLookupIndex();
         mapper.setMapperFacade(this.mapperFacade);
         register(mapper.getAType(), mapper.getBType(), false);
         register(mapper.getBType(), mapper.getAType(), false);
@@ -1596,6 +2132,29 @@ public class DefaultMapperFactory implements MapperFactory, Reportable {
         return getMapperFacade(sourceType, destinationType, true);
     }
     
+    /**
+     * @return the listener receiving the mapping metrics of this factory, or
+     *         null if none is registered
+     */
+    public MappingMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+    
+    /**
+     * Registers the listener which receives the mapping metrics of this
+     * factory and of the facades it builds, replacing any previous one;
+     * <code>null</code> disables the metrics, after which their only cost is
+     * a volatile read per mapping.
+     * 
+     * @param metricsListener
+     */
+    public void setMetricsListener(MappingMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        if (mapperFacade instanceof MapperFacadeImpl) {
+            ((MapperFacadeImpl) mapperFacade).setMetricsListener(metricsListener);
+        }
+    }
+    
     /*
      * (non-Javadoc)
      * 
@@ -0,0 +1,35 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.impl;
+
+/**
+ * GeneratedBuilderObjectFactory is the base class of the object factories
+ * generated for protobuf message builders: besides creating a new builder, it
+ * finishes a mapping by building the message from that builder.
+ */
+public abstract class GeneratedBuilderObjectFactory extends GeneratedObjectFactory {
+    
+    /**
+     * @param builder
+     *            a builder created by this factory
+     * @return the message built from the provided builder
+     */
+    public abstract Object build(Object builder);
+    
+}
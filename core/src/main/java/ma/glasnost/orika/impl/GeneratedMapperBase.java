@@ -51,11 +51,24 @@ public abstract class GeneratedMapperBase extends GeneratedObjectBase implements
         return (mapper instanceof GeneratedMapperBase && ((GeneratedMapperBase) mapper).getUsedMappers() != null);
     }
     
+    /**
+     * Returns true if the given mapper (or the mapper it reverses) has been
+     * found, when the MapperFactory was built, to never reach a cycle.
+     * 
+     * @param mapper the mapper to check
+     * @return
+     */
+    public static boolean isAcyclic(Mapper<?, ?> mapper) {
+        Mapper<?, ?> resolvedMapper = mapper instanceof ReversedMapper ? ((ReversedMapper<?, ?>) mapper).getReversedMapper() : mapper;
+        return (resolvedMapper instanceof GeneratedMapperBase && ((GeneratedMapperBase) resolvedMapper).isAcyclic());
+    }
+    
     protected Mapper<Object, Object> customMapper;
     private Mapper<Object, Object>[] usedMappers;
     private Type<Object> aType;
     private Type<Object> bType;
     private Boolean favorsExtension;
+    private boolean acyclic;
     
     public Type<Object> getAType() {
         return aType;
@@ -142,6 +155,19 @@ public abstract class GeneratedMapperBase extends GeneratedObjectBase implements
         return favorsExtension;
     }
     
+    /**
+     * @return true if nothing reachable from the types mapped by this mapper
+     *         can refer back to an object being mapped, so that the mapped
+     *         objects need not be tracked
+     */
+    public boolean isAcyclic() {
+        return acyclic;
+    }
+    
+    public void setAcyclic(boolean acyclic) {
+        this.acyclic = acyclic;
+    }
+    
     public void mapBtoA(Object b, Object a, MappingContext context) {
         if (usedMappers == null) {
             return;
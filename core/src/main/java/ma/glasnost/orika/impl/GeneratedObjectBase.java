@@ -39,6 +39,7 @@ public abstract class GeneratedObjectBase {
     protected Converter<Object, Object>[] usedConverters;
     protected BoundMapperFacade<Object, Object>[] usedMapperFacades;
     protected Filter<Object, Object>[] usedFilters;
+    protected Object[] usedEnumTables;
     protected MapperFacade mapperFacade;
     protected boolean fromAutoMapping;
     
@@ -62,6 +63,10 @@ public abstract class GeneratedObjectBase {
         this.usedFilters = usedFilters;
     }
     
+    public void setUsedEnumTables(Object[] usedEnumTables) {
+        this.usedEnumTables = usedEnumTables;
+    }
+    
     public boolean isFromAutoMapping() {
         return fromAutoMapping;
     }
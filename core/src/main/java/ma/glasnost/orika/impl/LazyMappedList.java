@@ -0,0 +1,80 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import ma.glasnost.orika.BoundMapperFacade;
+
+/**
+ * LazyMappedList is a read-only List view over a snapshot of a source List,
+ * which maps each element through a BoundMapperFacade the first time it is
+ * accessed, and memoizes the result. Like
+ * {@link ma.glasnost.orika.MapperFacade#mapAsList(Iterable, ma.glasnost.orika.metadata.Type, ma.glasnost.orika.metadata.Type)
+ * mapAsList}, the snapshot skips null elements.<br>
+ * Each element is mapped within its own MappingContext; the view is not
+ * thread-safe.
+ * 
+ * @param <S>
+ *            the type of the source elements
+ * @param <D>
+ *            the type of the mapped elements
+ */
+class LazyMappedList<S, D> extends AbstractList<D> implements RandomAccess {
+    
+    private final BoundMapperFacade<S, D> mapper;
+    private final Object[] sources;
+    private final Object[] mapped;
+    
+    LazyMappedList(BoundMapperFacade<S, D> mapper, List<S> source) {
+        this.mapper = mapper;
+        this.sources = withoutNulls(source.toArray());
+        this.mapped = new Object[sources.length];
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public D get(int index) {
+        Object result = mapped[index];
+        if (result == null) {
+            result = mapper.map((S) sources[index]);
+            mapped[index] = result;
+        }
+        return (D) result;
+    }
+    
+    @Override
+    public int size() {
+        return sources.length;
+    }
+    
+    private static Object[] withoutNulls(Object[] elements) {
+        int size = 0;
+        for (Object element : elements) {
+            if (element != null) {
+                elements[size++] = element;
+            }
+        }
+        return size == elements.length ? elements : Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import ma.glasnost.orika.BoundMapperFacade;
+
+import static ma.glasnost.orika.impl.util.ClassUtil.hashCapacity;
+
+/**
+ * LazyMappedMap is a read-only Map view over a source Map; the keys are
+ * mapped up front (so that lookups work on the destination key type), while
+ * each value is mapped through a BoundMapperFacade the first time it is
+ * accessed, and memoized. Iteration follows the order of the source map.<br>
+ * Each value is mapped within its own MappingContext; the view is not
+ * thread-safe.
+ * 
+ * @param <Sv>
+ *            the type of the source values
+ * @param <Dk>
+ *            the type of the mapped keys
+ * @param <Dv>
+ *            the type of the mapped values
+ */
+class LazyMappedMap<Sv, Dk, Dv> extends AbstractMap<Dk, Dv> {
+    
+    private final BoundMapperFacade<Sv, Dv> valueMapper;
+    private final Map<Dk, Sv> sources;
+    private final Map<Dk, Dv> mapped;
+    private Set<Entry<Dk, Dv>> entrySet;
+    
+    <Sk> LazyMappedMap(BoundMapperFacade<Sk, Dk> keyMapper, BoundMapperFacade<Sv, Dv> valueMapper, Map<Sk, Sv> source) {
+        this.valueMapper = valueMapper;
+        this.sources = new LinkedHashMap<Dk, Sv>(hashCapacity(source.size()));
+        this.mapped = new HashMap<Dk, Dv>();
+        for (Entry<Sk, Sv> entry : source.entrySet()) {
+            sources.put(keyMapper.map(entry.getKey()), entry.getValue());
+        }
+    }
+    
+    @Override
+    public Dv get(Object key) {
+        Dv result = mapped.get(key);
+        if (result == null) {
+            Sv value = sources.get(key);
+            if (value != null) {
+                result = valueMapper.map(value);
+                @SuppressWarnings("unchecked")
+                Dk mappedKey = (Dk) key;
+                mapped.put(mappedKey, result);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return sources.containsKey(key);
+    }
+    
+    @Override
+    public int size() {
+        return sources.size();
+    }
+    
+    @Override
+    public Set<Entry<Dk, Dv>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<Dk, Dv>>() {
+                
+                @Override
+                public Iterator<Entry<Dk, Dv>> iterator() {
+                    final Iterator<Dk> keys = sources.keySet().iterator();
+                    return new Iterator<Entry<Dk, Dv>>() {
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+                        
+                        public Entry<Dk, Dv> next() {
+                            Dk key = keys.next();
+                            return new SimpleImmutableEntry<Dk, Dv>(key, get(key));
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return sources.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+}
@@ -28,6 +28,7 @@ import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.MapperKey;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.metrics.MappingMetricsListener;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,15 +37,33 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static ma.glasnost.orika.StateReporter.DIVIDER;
 import static ma.glasnost.orika.StateReporter.humanReadableSizeInMemory;
+import static ma.glasnost.orika.impl.util.ClassUtil.hashCapacity;
 
 /**
  * MapperFacadeImpl is the base implementation of MapperFacade
  */
 public class MapperFacadeImpl implements MapperFacade, Reportable {
     
+    /**
+     * The smallest number of elements handed to a separate worker by
+     * mapAsListParallel; smaller sources are mapped on the calling thread
+     */
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+    
     protected final MapperFactory mapperFactory;
     private final MappingContextFactory contextFactory;
     protected final UnenhanceStrategy unenhanceStrategy;
@@ -52,6 +71,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     private final ConcurrentHashMap<Key, MappingStrategy> strategyCache = new ConcurrentHashMap<>();
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ExceptionUtility exceptionUtil;
+    private volatile MappingMetricsListener metricsListener;
     
     /**
      * Constructs a new MapperFacadeImpl
@@ -146,6 +166,10 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
         
         Key key = new Key(getClass(sourceObject), initialSourceType, initialDestinationType, mapInPlace);
         MappingStrategy strategy = strategyCache.get(key);
+        MappingMetricsListener listener = metricsListener;
+        if (listener != null) {
+            listener.strategyLookup(key, strategy != null);
+        }
         
         if (strategy == null) {
             
@@ -190,12 +214,10 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
                 strategyRecorder.setResolvedDestinationType(resolvedDestinationType);
                 strategyRecorder.setResolvedMapper(resolveMapper(resolvedSourceType, resolvedDestinationType, context));
 
-                // ==================== Start ====================
-                if (!mapInPlace && !GeneratedMessageV3.Builder.class.isAssignableFrom(destinationType.getRawType())) {
+                if (!mapInPlace) {
                     strategyRecorder.setResolvedObjectFactory(
                             mapperFactory.lookupObjectFactory(resolvedDestinationType, resolvedSourceType, context));
                 }
-                // ==================== End ====================
             }
             strategy = strategyRecorder.playback();
             if (log.isDebugEnabled()) {
@@ -242,6 +264,44 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
         return map(sourceObject, sourceType, destinationType, context, null);
     }
     
+    /**
+     * Applies the strategy, reporting the time it took to the metrics
+     * listener, if any.
+     */
+    private Object applyStrategy(final MappingStrategy strategy, final Object sourceObject, final Object destinationObject, final MappingContext context) {
+        return applyStrategy(metricsListener, strategy, sourceObject, destinationObject, context);
+    }
+    
+    static Object applyStrategy(final MappingMetricsListener listener, final MappingStrategy strategy, final Object sourceObject,
+            final Object destinationObject, final MappingContext context) {
+        if (listener == null) {
+            return strategy.map(sourceObject, destinationObject, context);
+        }
+        long start = System.nanoTime();
+        Object result = strategy.map(sourceObject, destinationObject, context);
+        listener.objectMapped(strategy.getAType(), strategy.getBType(), System.nanoTime() - start);
+        return result;
+    }
+    
+    /**
+     * @return the listener receiving the mapping metrics of this facade, or
+     *         null if none is registered
+     */
+    public MappingMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+    
+    /**
+     * Registers the listener which receives the mapping metrics of this
+     * facade, and of the BoundMapperFacades built by its MapperFactory;
+     * <code>null</code> disables the metrics.
+     * 
+     * @param metricsListener
+     */
+    public void setMetricsListener(MappingMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+    
     @SuppressWarnings("unchecked")
     public <S, D> D map(final S sourceObject, final Type<S> sourceType, final Type<D> destinationType, final MappingContext context,
             final MappingStrategy suggestedStrategy) {
@@ -263,10 +323,10 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
                 if (strategy.getBType() != null && !strategy.getBType().equals(destinationType)) {
                     existingResult = context.getMappedObject(sourceObject, strategy.getBType());
                     if (existingResult == null) {
-                        existingResult = (D) strategy.map(sourceObject, null, context);
+                        existingResult = (D) applyStrategy(strategy, sourceObject, null, context);
                     }
                 } else {
-                    existingResult = (D) strategy.map(sourceObject, null, context);
+                    existingResult = (D) applyStrategy(strategy, sourceObject, null, context);
                 }
             }
             return existingResult;
@@ -329,7 +389,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
                   strategy =
                       resolveMappingStrategy(sourceObject, sourceType, destinationType, true, context);
                 }
-                strategy.map(sourceObject, destinationObject, context);
+                applyStrategy(strategy, sourceObject, destinationObject, context);
             }
         } catch (MappingException e) {
             throw exceptionUtil.decorate(e);
@@ -381,7 +441,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
             if (strategy == null) {
                 strategy = resolveMappingStrategy(sourceObject, null, destinationObject.getClass(), true, context);
             }
-            strategy.map(sourceObject, destinationObject, context);
+            applyStrategy(strategy, sourceObject, destinationObject, context);
             
         } catch (MappingException e) {
             /* don't wrap our own exceptions */
@@ -427,13 +487,13 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     
     public final <S, D> Set<D> mapAsSet(final Iterable<S> source, final Type<S> sourceType, final Type<D> destinationType,
             final MappingContext context) {
-        return (Set<D>) mapAsCollection(source, sourceType, destinationType, new HashSet<D>(), context);
+        return (Set<D>) mapAsCollection(source, sourceType, destinationType, MapperFacadeImpl.<D> newSet(source), context);
     }
     
     public final <S, D> List<D> mapAsList(final Iterable<S> source, final Type<S> sourceType, final Type<D> destinationType) {
         MappingContext context = contextFactory.getContext();
         try {
-            return (List<D>) mapAsCollection(source, sourceType, destinationType, new ArrayList<D>(), context);
+            return (List<D>) mapAsCollection(source, sourceType, destinationType, MapperFacadeImpl.<D> newList(source), context);
         } finally {
             contextFactory.release(context);
         }
@@ -441,7 +501,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     
     public final <S, D> List<D> mapAsList(final Iterable<S> source, final Type<S> sourceType, final Type<D> destinationType,
             final MappingContext context) {
-        return (List<D>) mapAsCollection(source, sourceType, destinationType, new ArrayList<D>(), context);
+        return (List<D>) mapAsCollection(source, sourceType, destinationType, MapperFacadeImpl.<D> newList(source), context);
     }
     
     public <S, D> D[] mapAsArray(final D[] destination, final Iterable<S> source, final Type<S> sourceType, final Type<D> destinationType) {
@@ -525,7 +585,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     }
     
     public <S, D> Set<D> mapAsSet(final S[] source, final Type<S> sourceType, final Type<D> destinationType, final MappingContext context) {
-        final Set<D> destination = new HashSet<D>(source.length);
+        final Set<D> destination = new HashSet<D>(hashCapacity(source.length));
         for (final S s : source) {
             destination.add(map(s, sourceType, destinationType, context));
         }
@@ -685,7 +745,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
             D result = context.getMappedObject(sourceObject, TypeFactory.valueOf(destinationClass));
             if (result == null) {
                 strategy = resolveMappingStrategy(sourceObject, null, destinationClass, false, context);
-                result = (D) strategy.map(sourceObject, null, context);
+                result = (D) applyStrategy(strategy, sourceObject, null, context);
             }
             return result;
             
@@ -766,6 +826,72 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
         }
     }
     
+    /**
+     * Tracks the strategies resolved while mapping a batch of elements; the
+     * first two runtime source classes are checked by identity, and any
+     * further classes fall back to a small map.
+     * 
+     * @param <S>
+     * @param <D>
+     */
+    private static final class BatchStrategyCache<S, D> {
+        
+        private final MappingContext mappingContext;
+        private final Type<S> sourceType;
+        private final Type<D> destinationType;
+        private Class<?> firstClass;
+        private MappingStrategy firstStrategy;
+        private Class<?> secondClass;
+        private MappingStrategy secondStrategy;
+        private Map<Class<?>, MappingStrategy> otherStrategies;
+        
+        private BatchStrategyCache(MappingContext mappingContext, Type<S> sourceType, Type<D> destinationType) {
+            this.mappingContext = mappingContext;
+            this.sourceType = sourceType;
+            this.destinationType = destinationType;
+        }
+    }
+    
+    /**
+     * Maps one element of a batch, resolving its strategy through the
+     * BatchStrategyCache.
+     * 
+     * @param source
+     * @param batch
+     * @return the mapped element
+     */
+    private <S, D> D mapBatchElement(S source, BatchStrategyCache<S, D> batch) {
+        Class<?> sourceClass = getClass(source);
+        MappingStrategy strategy;
+        if (sourceClass == batch.firstClass) {
+            strategy = batch.firstStrategy;
+        } else if (sourceClass == batch.secondClass) {
+            strategy = batch.secondStrategy;
+        } else {
+            strategy = batch.otherStrategies != null ? batch.otherStrategies.get(sourceClass) : null;
+            if (strategy == null) {
+                strategy = resolveMappingStrategy(source, batch.sourceType, batch.destinationType, false, batch.mappingContext);
+                if (batch.firstClass == null) {
+                    batch.firstClass = sourceClass;
+                    batch.firstStrategy = strategy;
+                } else if (batch.secondClass == null) {
+                    batch.secondClass = sourceClass;
+                    batch.secondStrategy = strategy;
+                } else {
+                    if (batch.otherStrategies == null) {
+                        batch.otherStrategies = new HashMap<Class<?>, MappingStrategy>();
+                    }
+                    batch.otherStrategies.put(sourceClass, strategy);
+                }
+                return map(source, batch.sourceType, batch.destinationType, batch.mappingContext, strategy);
+            }
+        }
+        batch.mappingContext.setResolvedSourceType(batch.sourceType);
+        batch.mappingContext.setResolvedDestinationType(batch.destinationType);
+        batch.mappingContext.setResolvedStrategy(strategy);
+        return map(source, batch.sourceType, batch.destinationType, batch.mappingContext, strategy);
+    }
+    
     /**
      * A context object used to track the strategy specific to mapping the
      * elements of a multi-occurrence object.
@@ -823,7 +949,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
         // mapperFactory.lookupConcreteDestinationType(sourceType,
         // destinationType, context);
         
-        Map<Dk, Dv> destination = new LinkedHashMap<Dk, Dv>(source.size());
+        Map<Dk, Dv> destination = new LinkedHashMap<Dk, Dv>(hashCapacity(source.size()));
         
         /*
          * Resolve the strategy used for the key and value; only re-resolve a
@@ -870,7 +996,8 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     public <S, Dk, Dv> Map<Dk, Dv> mapAsMap(final Iterable<S> source, final Type<S> sourceType,
             final Type<? extends Map<Dk, Dv>> destinationType, final MappingContext context) {
         
-        Map<Dk, Dv> destination = new HashMap<Dk, Dv>();
+        Map<Dk, Dv> destination = source instanceof Collection ? new HashMap<Dk, Dv>(hashCapacity(((Collection<?>) source).size()))
+                : new HashMap<Dk, Dv>();
         
         Type<?> entryType = TypeFactory.valueOf(Entry.class, destinationType.getNestedType(0), destinationType.getNestedType(1));
         ElementStrategyContext<S, Entry<Dk, Dv>> elementContext = new ElementStrategyContext<S, Entry<Dk, Dv>>(context, sourceType,
@@ -897,7 +1024,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
     public <S, Dk, Dv> Map<Dk, Dv> mapAsMap(final S[] source, final Type<S> sourceType, final Type<? extends Map<Dk, Dv>> destinationType,
             final MappingContext context) {
         
-        Map<Dk, Dv> destination = new HashMap<Dk, Dv>();
+        Map<Dk, Dv> destination = new HashMap<Dk, Dv>(hashCapacity(source.length));
         Type<MapEntry<Dk, Dv>> entryType = MapEntry.concreteEntryType(destinationType);
         ElementStrategyContext<S, MapEntry<Dk, Dv>> elementContext = new ElementStrategyContext<S, MapEntry<Dk, Dv>>(context, sourceType,
                 entryType);
@@ -950,7 +1077,7 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
          * Use map as collection to map the entry set to a list; requires an
          * existing mapping for Map.Entry to to type D.
          */
-        Set<D> destination = new HashSet<D>(source.size());
+        Set<D> destination = new HashSet<D>(hashCapacity(source.size()));
         Type<Entry<Sk, Sv>> entryType = resolveTypeOf(source.entrySet(), sourceType).getNestedType(0);
         return (Set<D>) mapAsCollection(source.entrySet(), entryType, destinationType, destination, context);
     }
@@ -973,6 +1100,389 @@ public class MapperFacadeImpl implements MapperFacade, Reportable {
         return mapAsArray(destination, MapEntry.entrySet(source), entryType, destinationType, context);
     }
     
+    public <S, D> List<D> mapAll(final Iterable<S> source, final Type<S> sourceType, final Type<D> destinationType) {
+        if (source == null) {
+            return null;
+        }
+        final List<D> destination = newList(source);
+        MappingContext context = contextFactory.getContext();
+        try {
+            return mapAll(source.iterator(), sourceType, destinationType, destination, context);
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public <S, D> List<D> mapAll(final S[] source, final Type<S> sourceType, final Type<D> destinationType) {
+        if (source == null) {
+            return null;
+        }
+        final List<D> destination = new ArrayList<D>(source.length);
+        MappingContext context = contextFactory.getContext();
+        try {
+            BatchStrategyCache<S, D> batch = new BatchStrategyCache<S, D>(context, sourceType, destinationType);
+            for (int i = 0; i < source.length; ++i) {
+                if (source[i] != null) {
+                    destination.add(mapBatchElement(source[i], batch));
+                }
+            }
+            return destination;
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public <S, D> List<D> mapAll(final Iterator<S> source, final Type<S> sourceType, final Type<D> destinationType,
+            final Supplier<? extends List<D>> destinationSupplier) {
+        MappingContext context = contextFactory.getContext();
+        try {
+            return mapAll(source, sourceType, destinationType, destinationSupplier, context);
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public <S, D> List<D> mapAll(final Iterator<S> source, final Type<S> sourceType, final Type<D> destinationType,
+            final Supplier<? extends List<D>> destinationSupplier, final MappingContext context) {
+        if (source == null) {
+            return null;
+        }
+        return mapAll(source, sourceType, destinationType, destinationSupplier.get(), context);
+    }
+    
+    private <S, D> List<D> mapAll(final Iterator<S> source, final Type<S> sourceType, final Type<D> destinationType,
+            final List<D> destination, final MappingContext context) {
+        BatchStrategyCache<S, D> batch = new BatchStrategyCache<S, D>(context, sourceType, destinationType);
+        while (source.hasNext()) {
+            S item = source.next();
+            if (item != null) {
+                destination.add(mapBatchElement(item, batch));
+            }
+        }
+        return destination;
+    }
+    
+    public <S, D> int mapInto(final S[] source, final D[] destination, final Type<S> sourceType, final Type<D> destinationType) {
+        MappingContext context = contextFactory.getContext();
+        try {
+            return mapInto(source, destination, sourceType, destinationType, context);
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    public <S, D> int mapInto(final S[] source, final D[] destination, final Type<S> sourceType, final Type<D> destinationType,
+            final MappingContext context) {
+        if (source == null) {
+            return 0;
+        }
+        if (destination.length < source.length) {
+            throw new IllegalArgumentException("destination array of length " + destination.length
+                    + " cannot hold the " + source.length + " source elements");
+        }
+        BatchStrategyCache<S, D> batch = new BatchStrategyCache<S, D>(context, sourceType, destinationType);
+        for (int i = 0; i < source.length; ++i) {
+            destination[i] = source[i] != null ? mapBatchElement(source[i], batch) : null;
+        }
+        return source.length;
+    }
+    
+    public <S, D> int mapInto(final Iterator<S> source, final D[] destination, final Type<S> sourceType, final Type<D> destinationType,
+            final MappingContext context) {
+        if (source == null) {
+            return 0;
+        }
+        BatchStrategyCache<S, D> batch = new BatchStrategyCache<S, D>(context, sourceType, destinationType);
+        int i = 0;
+        while (source.hasNext()) {
+            if (i == destination.length) {
+                throw new IllegalArgumentException("destination array of length " + destination.length
+                        + " cannot hold all of the source elements");
+            }
+            S item = source.next();
+            destination[i++] = item != null ? mapBatchElement(item, batch) : null;
+        }
+        return i;
+    }
+    
+    public <S, D> List<D> mapAsListParallel(final List<S> source, final Type<S> sourceType, final Type<D> destinationType) {
+        return mapAsListParallel(source, sourceType, destinationType, ForkJoinPool.commonPool());
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <S, D> List<D> mapAsListParallel(final List<S> source, final Type<S> sourceType, final Type<D> destinationType,
+            final Executor executor) {
+        if (source == null) {
+            return null;
+        }
+        final int size = source.size();
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int chunks = Math.min(parallelism * 2, size / MIN_PARALLEL_CHUNK_SIZE);
+        if (chunks <= 1) {
+            return mapAll(source, sourceType, destinationType);
+        }
+        
+        final Object[] elements = source.toArray();
+        final Object[] results = new Object[size];
+        Runnable[] tasks = new Runnable[chunks];
+        for (int c = 0; c < chunks; ++c) {
+            final int from = (int) ((long) size * c / chunks);
+            final int to = (int) ((long) size * (c + 1) / chunks);
+            tasks[c] = new Runnable() {
+                public void run() {
+                    mapChunk(elements, from, to, results, sourceType, destinationType);
+                }
+            };
+        }
+        runAll(tasks, executor);
+        
+        final List<D> destination = new ArrayList<D>(size);
+        for (int i = 0; i < size; ++i) {
+            if (results[i] != null) {
+                destination.add((D) results[i]);
+            }
+        }
+        return destination;
+    }
+    
+    public <S, D> Stream<D> mapAsStream(final Stream<S> source, final Type<S> sourceType, final Type<D> destinationType) {
+        final MappingSpliterator<S, D> spliterator = new MappingSpliterator<S, D>(source.spliterator(), sourceType, destinationType,
+                new ConcurrentLinkedQueue<MappingSpliterator<S, D>>());
+        Stream<D> mapped = StreamSupport.stream(spliterator, source.isParallel());
+        return mapped.onClose(new Runnable() {
+            public void run() {
+                try {
+                    spliterator.releaseAll();
+                } finally {
+                    source.close();
+                }
+            }
+        });
+    }
+    
+    public <S, D> Stream<D> mapAsStream(final Stream<S> source, final Class<D> destinationClass) {
+        return mapAsStream(source, null, TypeFactory.valueOf(destinationClass));
+    }
+    
+    public <S, D> List<D> mapAsLazyList(final List<S> source, final Type<S> sourceType, final Type<D> destinationType) {
+        if (source == null) {
+            return null;
+        }
+        return new LazyMappedList<S, D>(mapperFactory.getMapperFacade(sourceType, destinationType), source);
+    }
+    
+    public <S, D> List<D> mapAsLazyList(final List<S> source, final Class<D> destinationClass) {
+        if (source == null) {
+            return null;
+        }
+        return mapAsLazyList(source, elementTypeOf(source), TypeFactory.valueOf(destinationClass));
+    }
+    
+    public <Sk, Sv, Dk, Dv> Map<Dk, Dv> mapAsLazyMap(final Map<Sk, Sv> source, final Type<? extends Map<Sk, Sv>> sourceType,
+            final Type<? extends Map<Dk, Dv>> destinationType) {
+        if (source == null) {
+            return null;
+        }
+        BoundMapperFacade<Sk, Dk> keyMapper = mapperFactory.getMapperFacade(sourceType.<Sk> getNestedType(0),
+                destinationType.<Dk> getNestedType(0));
+        BoundMapperFacade<Sv, Dv> valueMapper = mapperFactory.getMapperFacade(sourceType.<Sv> getNestedType(1),
+                destinationType.<Dv> getNestedType(1));
+        return new LazyMappedMap<Sv, Dk, Dv>(keyMapper, valueMapper, source);
+    }
+    
+    /**
+     * Maps the elements of a source Spliterator as they are consumed. A
+     * MappingContext is taken from the context factory on the first element,
+     * reset after every element, and released once the source is exhausted;
+     * each split gets a context of its own.
+     */
+    private final class MappingSpliterator<S, D> implements Spliterator<D>, Consumer<S> {
+        
+        private final Spliterator<S> source;
+        private final Type<S> sourceType;
+        private final Type<D> destinationType;
+        /**
+         * This spliterator and those split from it, so that the contexts of
+         * the ones which were not exhausted are released when the stream is
+         * closed
+         */
+        private final Queue<MappingSpliterator<S, D>> spliterators;
+        private BatchStrategyCache<S, D> batch;
+        private Consumer<? super D> action;
+        
+        private MappingSpliterator(Spliterator<S> source, Type<S> sourceType, Type<D> destinationType,
+                Queue<MappingSpliterator<S, D>> spliterators) {
+            this.source = source;
+            this.sourceType = sourceType;
+            this.destinationType = destinationType;
+            this.spliterators = spliterators;
+            spliterators.add(this);
+        }
+        
+        public void accept(S item) {
+            D mapped = null;
+            if (item != null) {
+                if (batch == null) {
+                    batch = new BatchStrategyCache<S, D>(contextFactory.getContext(), sourceType, destinationType);
+                }
+                try {
+                    mapped = mapBatchElement(item, batch);
+                } finally {
+                    batch.mappingContext.reset();
+                }
+            }
+            action.accept(mapped);
+        }
+        
+        public boolean tryAdvance(Consumer<? super D> action) {
+            this.action = action;
+            if (source.tryAdvance(this)) {
+                return true;
+            }
+            release();
+            return false;
+        }
+        
+        public void forEachRemaining(Consumer<? super D> action) {
+            this.action = action;
+            try {
+                source.forEachRemaining(this);
+            } finally {
+                release();
+            }
+        }
+        
+        private void release() {
+            if (batch != null) {
+                contextFactory.release(batch.mappingContext);
+                batch = null;
+            }
+        }
+        
+        private void releaseAll() {
+            for (MappingSpliterator<S, D> spliterator : spliterators) {
+                spliterator.release();
+            }
+        }
+        
+        public Spliterator<D> trySplit() {
+            Spliterator<S> split = source.trySplit();
+            return split != null ? new MappingSpliterator<S, D>(split, sourceType, destinationType, spliterators) : null;
+        }
+        
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+        
+        public int characteristics() {
+            return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+    
+    /**
+     * Maps the elements [from, to) into the same positions of results, within
+     * a MappingContext of its own.
+     */
+    @SuppressWarnings("unchecked")
+    private <S, D> void mapChunk(final Object[] elements, final int from, final int to, final Object[] results, final Type<S> sourceType,
+            final Type<D> destinationType) {
+        MappingContext context = contextFactory.getContext();
+        try {
+            BatchStrategyCache<S, D> batch = new BatchStrategyCache<S, D>(context, sourceType, destinationType);
+            for (int i = from; i < to; ++i) {
+                if (elements[i] != null) {
+                    results[i] = mapBatchElement((S) elements[i], batch);
+                }
+            }
+        } finally {
+            contextFactory.release(context);
+        }
+    }
+    
+    /**
+     * @param source
+     * @return a new list presized for the source when its size is known
+     */
+    private static <D> List<D> newList(Iterable<?> source) {
+        return source instanceof Collection ? new ArrayList<D>(((Collection<?>) source).size()) : new ArrayList<D>();
+    }
+    
+    /**
+     * @param source
+     * @return a new set presized for the source when its size is known
+     */
+    private static <D> Set<D> newSet(Iterable<?> source) {
+        return source instanceof Collection ? new HashSet<D>(hashCapacity(((Collection<?>) source).size())) : new HashSet<D>();
+    }
+    
+    /**
+     * Runs all of the tasks and waits for them to complete; the first task is
+     * run on the calling thread. The first failure of any task is rethrown.
+     */
+    private static void runAll(final Runnable[] tasks, final Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            /*
+             * Workers of the pool fork the tasks onto their own queue, so that
+             * they are stolen or run back while joining
+             */
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            boolean inPool = ForkJoinTask.getPool() == pool;
+            ForkJoinTask<?>[] forkJoinTasks = new ForkJoinTask<?>[tasks.length];
+            for (int i = 1; i < tasks.length; ++i) {
+                forkJoinTasks[i] = ForkJoinTask.adapt(tasks[i]);
+                if (inPool) {
+                    forkJoinTasks[i].fork();
+                } else {
+                    pool.execute(forkJoinTasks[i]);
+                }
+            }
+            tasks[0].run();
+            for (int i = 1; i < tasks.length; ++i) {
+                forkJoinTasks[i].join();
+            }
+            return;
+        }
+        
+        final CountDownLatch done = new CountDownLatch(tasks.length - 1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        for (int i = 1; i < tasks.length; ++i) {
+            final Runnable task = tasks[i];
+            Runnable worker = new Runnable() {
+                public void run() {
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            };
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                worker.run();
+            }
+        }
+        tasks[0].run();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("Interrupted while waiting for the parallel mapping to complete", e);
+        }
+        
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new MappingException(t);
+        }
+    }
+    
     public <S, D> void mapAsCollection(final Iterable<S> source, final Collection<D> destination, final Class<D> destinationClass) {
         MappingContext context = contextFactory.getContext();
         try {
@@ -0,0 +1,211 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.impl;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ma.glasnost.orika.Mapper;
+import ma.glasnost.orika.metadata.ConverterKey;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * MapperLookupIndex is an immutable snapshot of the registered mappers and
+ * custom object factories of a {@link DefaultMapperFactory}, indexed by raw
+ * class so that finding the mappers able to map a given type only visits the
+ * mappers registered for that type's superclasses and interfaces, instead of
+ * every registered mapper.<br>
+ * It also memoizes the results of the lookups made against it; the factory
+ * discards the whole index whenever a mapper or an object factory is
+ * registered.
+ */
+final class MapperLookupIndex {
+    
+    private static final int[] NO_POSITIONS = new int[0];
+    
+    private final Mapper<Object, Object>[] mappers;
+    private final Map<Class<?>, int[]> positionsByRawType;
+    private final Map<Type<?>, List<Type<?>>> customObjectFactoryDestinations;
+    
+    private final ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>> registeredMappers = new ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>>();
+    private final ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>> registeredMappersWithAuto = new ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>>();
+    private final ConcurrentHashMap<ConverterKey, Boolean> customObjectFactories = new ConcurrentHashMap<ConverterKey, Boolean>();
+    
+    /**
+     * @param registry
+     *            the registered mappers, in lookup order
+     * @param customObjectFactoryDestinations
+     *            the destination types of the registered custom object
+     *            factories, keyed by their source type
+     */
+    @SuppressWarnings("unchecked")
+    MapperLookupIndex(Collection<Mapper<Object, Object>> registry, Map<Type<?>, List<Type<?>>> customObjectFactoryDestinations) {
+        this.mappers = registry.toArray(new Mapper[0]);
+        this.customObjectFactoryDestinations = customObjectFactoryDestinations;
+        
+        Map<Class<?>, List<Integer>> positions = new HashMap<Class<?>, List<Integer>>();
+        for (int i = 0; i < mappers.length; ++i) {
+            addPosition(positions, mappers[i].getAType().getRawType(), i);
+            addPosition(positions, mappers[i].getBType().getRawType(), i);
+        }
+        this.positionsByRawType = new HashMap<Class<?>, int[]>(positions.size() * 4 / 3 + 1);
+        for (Map.Entry<Class<?>, List<Integer>> entry : positions.entrySet()) {
+            List<Integer> list = entry.getValue();
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = list.get(i);
+            }
+            positionsByRawType.put(entry.getKey(), array);
+        }
+    }
+    
+    private static void addPosition(Map<Class<?>, List<Integer>> positions, Class<?> rawType, int position) {
+        List<Integer> list = positions.get(rawType);
+        if (list == null) {
+            list = new ArrayList<Integer>();
+            positions.put(rawType, list);
+        }
+        /*
+         * A mapper whose A and B types share a raw type is only indexed once
+         */
+        if (list.isEmpty() || list.get(list.size() - 1) != position) {
+            list.add(position);
+        }
+    }
+    
+    /**
+     * Returns the registered mappers having an A or B type whose raw type is
+     * assignable from the raw type of <code>type</code>; these are the only
+     * mappers which can possibly match a lookup of <code>type</code>, since
+     * {@link Type#isAssignableFrom(Type)} requires raw type assignability.
+     * 
+     * @param type
+     *            the type to find candidates for
+     * @return the candidate mappers, in registry order
+     */
+    List<Mapper<Object, Object>> getCandidates(Type<?> type) {
+        int[] merged = NO_POSITIONS;
+        int size = 0;
+        for (Class<?> rawType : getAssignableRawTypes(type.getRawType())) {
+            int[] positions = positionsByRawType.get(rawType);
+            if (positions != null) {
+                if (size + positions.length > merged.length) {
+                    merged = Arrays.copyOf(merged, Math.max(merged.length * 2, size + positions.length));
+                }
+                System.arraycopy(positions, 0, merged, size, positions.length);
+                size += positions.length;
+            }
+        }
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(merged, 0, size);
+        
+        List<Mapper<Object, Object>> candidates = new ArrayList<Mapper<Object, Object>>(size);
+        int previous = -1;
+        for (int i = 0; i < size; ++i) {
+            if (merged[i] != previous) {
+                previous = merged[i];
+                candidates.add(mappers[previous]);
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * @param includeAutoGeneratedMappers
+     *            whether auto-generated mappers are included in the lookup
+     * @return the memoized results of registered mapper lookups
+     */
+    ConcurrentHashMap<ConverterKey, List<Mapper<Object, Object>>> getRegisteredMappers(boolean includeAutoGeneratedMappers) {
+        return includeAutoGeneratedMappers ? registeredMappersWithAuto : registeredMappers;
+    }
+    
+    /**
+     * @param sourceType
+     * @param destinationType
+     * @return true if a custom object factory is registered for
+     *         <code>sourceType</code> and a destination type assignable to
+     *         <code>destinationType</code>
+     */
+    boolean customObjectFactoryExists(Type<?> sourceType, Type<?> destinationType) {
+        ConverterKey key = new ConverterKey(sourceType, destinationType);
+        Boolean exists = customObjectFactories.get(key);
+        if (exists == null) {
+            exists = Boolean.FALSE;
+            List<Type<?>> destinations = customObjectFactoryDestinations.get(sourceType);
+            if (destinations != null) {
+                for (Type<?> destination : destinations) {
+                    if (destinationType.isAssignableFrom(destination)) {
+                        exists = Boolean.TRUE;
+                        break;
+                    }
+                }
+            }
+            customObjectFactories.put(key, exists);
+        }
+        return exists;
+    }
+    
+    /**
+     * Collects the raw types assignable from <code>rawType</code>: the type
+     * itself, its superclasses and interfaces and, for arrays, the array
+     * types of the component's supertypes.
+     * 
+     * @param rawType
+     * @return the raw types assignable from <code>rawType</code>
+     */
+    static Set<Class<?>> getAssignableRawTypes(Class<?> rawType) {
+        Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+        if (rawType.isPrimitive()) {
+            types.add(rawType);
+            return types;
+        }
+        if (rawType.isArray() && !rawType.getComponentType().isPrimitive()) {
+            for (Class<?> componentType : getAssignableRawTypes(rawType.getComponentType())) {
+                types.add(Array.newInstance(componentType, 0).getClass());
+            }
+            types.add(Cloneable.class);
+            types.add(Serializable.class);
+        } else {
+            collectSuperTypes(rawType, types);
+        }
+        types.add(Object.class);
+        return types;
+    }
+    
+    private static void collectSuperTypes(Class<?> type, Set<Class<?>> types) {
+        if (type != null && types.add(type)) {
+            collectSuperTypes(type.getSuperclass(), types);
+            for (Class<?> superInterface : type.getInterfaces()) {
+                collectSuperTypes(superInterface, types);
+            }
+        }
+    }
+}
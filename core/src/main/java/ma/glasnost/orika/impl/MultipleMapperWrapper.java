@@ -22,9 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import ma.glasnost.orika.Mapper;
 import ma.glasnost.orika.MappingContext;
@@ -43,14 +41,18 @@ import ma.glasnost.orika.util.SortedCollection;
  */
 public final class MultipleMapperWrapper extends GeneratedMapperBase {
     private Collection<Mapper<Object, Object>> mappersRegistry;
-    private Map<MapperKey, Mapper<Object, Object>> mappersCache;
+    /**
+     * Mappers already resolved for a pair of runtime classes; copied on write
+     * so that lookups need neither locking nor allocation.
+     */
+    private volatile CachedMapper[] mappersCache;
     
     public MultipleMapperWrapper(Type<Object> typeA, Type<Object> typeB, List<Mapper<Object, Object>> mappers) {
         super();
         setAType(typeA);
         setBType(typeB);
         mappersRegistry = new SortedCollection<Mapper<Object, Object>>(mappers, Ordering.MAPPER);
-        mappersCache = new WeakHashMap<MapperKey, Mapper<Object, Object>>();
+        mappersCache = new CachedMapper[0];
     }
     
     @Override
@@ -76,12 +78,25 @@ public final class MultipleMapperWrapper extends GeneratedMapperBase {
     }
     
     private Mapper<Object, Object> getMapperFor(Object a, Object b) {
-        MapperKey mapperKey = createMapperKey(a, b);
-        Mapper<Object, Object> mapper = mappersCache.get(mapperKey);
-        if (mapper != null) {
-            return mapper;
+        Class<?> aClass = a.getClass();
+        Class<?> bClass = b.getClass();
+        for (CachedMapper cached : mappersCache) {
+            if (cached.aClass == aClass && cached.bClass == bClass) {
+                return cached.mapper;
+            }
+        }
+        return resolveMapperFor(a, b);
+    }
+    
+    private synchronized Mapper<Object, Object> resolveMapperFor(Object a, Object b) {
+        CachedMapper[] cache = mappersCache;
+        for (CachedMapper cached : cache) {
+            if (cached.aClass == a.getClass() && cached.bClass == b.getClass()) {
+                return cached.mapper;
+            }
         }
-        mapper = findMapperFor(mapperKey);
+        MapperKey mapperKey = createMapperKey(a, b);
+        Mapper<Object, Object> mapper = findMapperFor(mapperKey);
         if (mapper == null) {
             StringBuilder sb = new StringBuilder();
             sb.append(String.format("No matching Mapper found for %s <-> %s", mapperKey.getAType(), mapperKey.getBType()));
@@ -98,7 +113,9 @@ public final class MultipleMapperWrapper extends GeneratedMapperBase {
             }
             throw new IllegalStateException(sb.toString());
         }
-        mappersCache.put(mapperKey, mapper);
+        CachedMapper[] newCache = Arrays.copyOf(cache, cache.length + 1);
+        newCache[cache.length] = new CachedMapper(a.getClass(), b.getClass(), mapper);
+        mappersCache = newCache;
         return mapper;
     }
     
@@ -142,8 +159,30 @@ public final class MultipleMapperWrapper extends GeneratedMapperBase {
         return usedMappers.toArray(new Mapper[usedMappers.size()]);
     }
     
+    @Override
+    public boolean isAcyclic() {
+        for (Mapper<Object, Object> mapper : mappersRegistry) {
+            if (!isAcyclic(mapper)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     public Collection<Mapper<Object, Object>> getMappersRegistry() {
         return Collections.unmodifiableCollection(mappersRegistry);
     }
     
+    private static final class CachedMapper {
+        private final Class<?> aClass;
+        private final Class<?> bClass;
+        private final Mapper<Object, Object> mapper;
+        
+        private CachedMapper(Class<?> aClass, Class<?> bClass, Mapper<Object, Object> mapper) {
+            this.aClass = aClass;
+            this.bClass = bClass;
+            this.mapper = mapper;
+        }
+    }
+    
 }
\ No newline at end of file
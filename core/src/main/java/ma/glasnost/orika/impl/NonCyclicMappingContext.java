@@ -19,11 +19,11 @@
 package ma.glasnost.orika.impl;
 
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import ma.glasnost.orika.MappingContext;
 import ma.glasnost.orika.MappingContextFactory;
 import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.util.ObjectPool;
 
 /**
  * @author mattdeboer
@@ -36,18 +36,28 @@ public class NonCyclicMappingContext extends MappingContext {
      */
     public static class Factory implements MappingContextFactory {
         
-        final LinkedBlockingQueue<MappingContext> contextQueue = new LinkedBlockingQueue<MappingContext>();
+        final ObjectPool<MappingContext> contextPool;
         final Map<Object, Object> globalProperties;
         
         /**
          * @param globalProperties
          */
         public Factory(Map<Object, Object> globalProperties) {
+            this(globalProperties, MappingContext.newContextPool());
+        }
+        
+        /**
+         * @param globalProperties
+         * @param contextPool
+         *            the pool of idle contexts
+         */
+        public Factory(Map<Object, Object> globalProperties, ObjectPool<MappingContext> contextPool) {
             this.globalProperties = globalProperties;
+            this.contextPool = contextPool;
         }
         
         public MappingContext getContext() {
-            MappingContext context = contextQueue.poll();
+            MappingContext context = contextPool.poll();
             if (context == null) {
                 context = new NonCyclicMappingContext(globalProperties);
             }
@@ -57,7 +67,7 @@ public class NonCyclicMappingContext extends MappingContext {
         
         public void release(MappingContext context) {
             context.reset();
-            contextQueue.offer(context);
+            contextPool.offer(context);
         }
         
         /*
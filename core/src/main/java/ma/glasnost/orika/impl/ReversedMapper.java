@@ -58,6 +58,13 @@ public class ReversedMapper<A, B> implements Mapper<A, B> {
         this.reversedMapper = mapperToReverse;
     }
     
+    /**
+     * @return the mapper whose directions are reversed by this mapper
+     */
+    Mapper<B, A> getReversedMapper() {
+        return reversedMapper;
+    }
+    
     /* (non-Javadoc)
      * @see ma.glasnost.orika.Mapper#mapAtoB(java.lang.Object, java.lang.Object, ma.glasnost.orika.MappingContext)
      */
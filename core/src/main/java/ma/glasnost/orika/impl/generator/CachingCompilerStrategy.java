@@ -0,0 +1,144 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.impl.generator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CachingCompilerStrategy caches the bytecode of the generated classes in a
+ * local directory, so that later starts define the cached classes instead of
+ * compiling them again.<br>
+ * <br>
+ * 
+ * Each entry is named after the {@link SourceCodeContext#getFingerprint()
+ * fingerprint} of the generated source, which covers the class-map, its field
+ * maps, the converters used and the properties accessed; a class whose source
+ * changed has a new fingerprint and is compiled (and cached) again, while an
+ * entry which can no longer be loaded is deleted. The delegate compiler
+ * strategy must {@link CompilerStrategy#supportsBytecode() support bytecode};
+ * otherwise, classes are compiled without using the cache.
+ */
+public class CachingCompilerStrategy extends CompilerStrategy {
+    
+    private static final String ENTRY_SUFFIX = ".class";
+    
+    private static final Logger LOG = LoggerFactory.getLogger(CachingCompilerStrategy.class);
+    
+    private final CompilerStrategy delegate;
+    private final File cacheDirectory;
+    
+    /**
+     * Constructs a new CachingCompilerStrategy
+     * 
+     * @param delegate
+     *            the compiler strategy used to compile and define the classes
+     * @param cacheDirectory
+     *            the directory in which the compiled classes are cached
+     */
+    public CachingCompilerStrategy(CompilerStrategy delegate, File cacheDirectory) {
+        super("false", "false");
+        this.delegate = delegate;
+        this.cacheDirectory = cacheDirectory;
+    }
+    
+    /**
+     * @return the compiler strategy used to compile and define the classes
+     */
+    public CompilerStrategy getDelegate() {
+        return delegate;
+    }
+    
+    /**
+     * @return the directory in which the compiled classes are cached
+     */
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+    
+    public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+        if (!delegate.supportsBytecode()) {
+            return delegate.compileClass(sourceCode);
+        }
+        File entry = new File(cacheDirectory, sourceCode.getFingerprint() + ENTRY_SUFFIX);
+        
+        if (entry.isFile()) {
+            try {
+                return delegate.defineClass(Files.readAllBytes(entry.toPath()));
+            } catch (IOException e) {
+                LOG.warn("Cached class " + entry + " for " + sourceCode.getClassName() + " could not be read; compiling it", e);
+            } catch (SourceCodeGenerationException e) {
+                LOG.warn("Cached class " + entry + " for " + sourceCode.getClassName() + " could not be loaded; compiling it", e);
+                entry.delete();
+            } catch (LinkageError e) {
+                LOG.warn("Cached class " + entry + " for " + sourceCode.getClassName() + " could not be loaded; compiling it", e);
+                entry.delete();
+            }
+        }
+        
+        byte[] bytecode = delegate.compileBytecode(sourceCode);
+        if (bytecode == null) {
+            return delegate.compileClass(sourceCode);
+        }
+        try {
+            write(entry, bytecode);
+        } catch (IOException e) {
+            LOG.warn("Compiled class " + sourceCode.getClassName() + " could not be cached in " + entry, e);
+        }
+        return delegate.defineClass(bytecode);
+    }
+    
+    public void assureTypeIsAccessible(Class<?> type) throws SourceCodeGenerationException {
+        delegate.assureTypeIsAccessible(type);
+    }
+    
+    @Override
+    public boolean supportsConcurrentCompilation() {
+        return delegate.supportsConcurrentCompilation();
+    }
+    
+    /**
+     * Writes the entry through a temporary file, so that concurrent readers
+     * (possibly in other JVMs) never see a partially written class
+     */
+    private void write(File entry, byte[] bytecode) throws IOException {
+        if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs() && !cacheDirectory.isDirectory()) {
+            throw new IOException("Could not create " + cacheDirectory);
+        }
+        File temp = File.createTempFile(entry.getName(), ".tmp", cacheDirectory);
+        try {
+            OutputStream out = new FileOutputStream(temp);
+            try {
+                out.write(bytecode);
+            } finally {
+                out.close();
+            }
+            Files.move(temp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            temp.delete();
+        }
+    }
+}
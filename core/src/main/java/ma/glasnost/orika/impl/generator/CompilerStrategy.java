@@ -49,6 +49,60 @@ public abstract class CompilerStrategy {
      *             if the type is not accessible
      */
     public abstract void assureTypeIsAccessible(Class<?> type) throws SourceCodeGenerationException;
+    
+    /**
+     * Whether {@link #compileClass(SourceCodeContext)} and
+     * {@link #assureTypeIsAccessible(Class)} may be invoked concurrently from
+     * several threads; mappers are only generated in parallel for compiler
+     * strategies which return true.
+     * 
+     * @return true if this compiler strategy is thread-safe
+     */
+    public boolean supportsConcurrentCompilation() {
+        return false;
+    }
+    
+    /**
+     * Whether {@link #compileBytecode(SourceCodeContext)} and
+     * {@link #defineClass(byte[])} are supported; compiled classes are only
+     * cached for compiler strategies which return true.
+     * 
+     * @return true if this compiler strategy can compile classes into
+     *         bytecode and load them from it
+     */
+    public boolean supportsBytecode() {
+        return false;
+    }
+    
+    /**
+     * Compile the (generated) class into bytecode, without loading it; the
+     * bytecode may later be loaded using {@link #defineClass(byte[])}, which
+     * allows the compiled classes to be cached.
+     * 
+     * @return the bytecode of the (generated) class, or <code>null</code> if
+     *         this compiler strategy does not {@link #supportsBytecode()
+     *         support bytecode}
+     * @throws SourceCodeGenerationException
+     */
+    public byte[] compileBytecode(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+        return null;
+    }
+    
+    /**
+     * Load a class from the bytecode returned by a previous call to
+     * {@link #compileBytecode(SourceCodeContext)}, possibly from another JVM.
+     * 
+     * @param bytecode
+     *            the bytecode of the class
+     * @return the loaded class
+     * @throws SourceCodeGenerationException
+     *             if the class could not be defined, or this compiler
+     *             strategy does not {@link #supportsBytecode() support
+     *             bytecode}
+     */
+    public Class<?> defineClass(byte[] bytecode) throws SourceCodeGenerationException {
+        throw new SourceCodeGenerationException(getClass().getName() + " does not support loading compiled bytecode");
+    }
 
     protected final boolean writeSourceFiles;
     protected final boolean writeClassFiles;
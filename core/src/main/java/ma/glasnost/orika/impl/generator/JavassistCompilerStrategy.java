@@ -18,6 +18,7 @@
 
 package ma.glasnost.orika.impl.generator;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -62,9 +63,9 @@ public class JavassistCompilerStrategy extends CompilerStrategy {
     /**
      * Keep a set of class-loaders that have already been added to the javassist
      * class-pool Use a WeakHashMap to avoid retaining references to child
-     * class-loaders
+     * class-loaders; access is guarded by the map itself
      */
-    private WeakHashMap<ClassLoader, Boolean> referencedLoaders = new WeakHashMap<ClassLoader, Boolean>(8);
+    private final WeakHashMap<ClassLoader, Boolean> referencedLoaders = new WeakHashMap<ClassLoader, Boolean>(8);
     
     /**
      */
@@ -129,17 +130,28 @@ public class JavassistCompilerStrategy extends CompilerStrategy {
      *         false if the class-loader was already registered
      */
     private boolean registerClassLoader(ClassLoader cl) {
-        Boolean found = referencedLoaders.get(cl);
-        if (found == null) {
-            synchronized (cl) {
-                found = referencedLoaders.get(cl);
-                if (found == null) {
-                    referencedLoaders.put(cl, Boolean.TRUE);
-                    classPool.insertClassPath(new LoaderClassPath(cl));
-                }
+        synchronized (referencedLoaders) {
+            if (referencedLoaders.containsKey(cl)) {
+                return false;
             }
+            referencedLoaders.put(cl, Boolean.TRUE);
+            classPool.insertClassPath(new LoaderClassPath(cl));
+            return true;
         }
-        return found == null || !found;
+    }
+    
+    /**
+     * Javassist's ClassPool is safe for concurrent use, and each compiled
+     * class is built from its own CtClass.
+     */
+    @Override
+    public boolean supportsConcurrentCompilation() {
+        return true;
+    }
+    
+    @Override
+    public boolean supportsBytecode() {
+        return true;
     }
     
     /*
@@ -188,6 +200,83 @@ public class JavassistCompilerStrategy extends CompilerStrategy {
      */
     public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
         
+        Class<?> compiledClass;
+        
+        try {
+            CtClass byteCodeClass = makeClass(sourceCode);
+            
+            compiledClass = byteCodeClass.toClass(Thread.currentThread().getContextClassLoader(), this.getClass().getProtectionDomain());
+            
+            writeClassFile(sourceCode, byteCodeClass);
+            
+        } catch (NotFoundException e) {
+            throw new SourceCodeGenerationException(e);
+        } catch (CannotCompileException e) {
+            throw new SourceCodeGenerationException("Error compiling " + sourceCode.getClassName(), e);
+        } catch (IOException e) {
+            throw new SourceCodeGenerationException("Could not write files for " + sourceCode.getClassName(), e);
+        }
+        
+        return compiledClass;
+    }
+    
+    @Override
+    public byte[] compileBytecode(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+        try {
+            CtClass byteCodeClass = makeClass(sourceCode);
+            byte[] bytecode = byteCodeClass.toBytecode();
+            
+            writeClassFile(sourceCode, byteCodeClass);
+            byteCodeClass.detach();
+            
+            return bytecode;
+        } catch (NotFoundException e) {
+            throw new SourceCodeGenerationException(e);
+        } catch (CannotCompileException e) {
+            throw new SourceCodeGenerationException("Error compiling " + sourceCode.getClassName(), e);
+        } catch (IOException e) {
+            throw new SourceCodeGenerationException("Could not write files for " + sourceCode.getClassName(), e);
+        }
+    }
+    
+    /**
+     * Defines the class in the context class-loader, like the classes compiled
+     * by {@link #compileClass(SourceCodeContext)}, so that it shares the
+     * runtime package of the types it maps.
+     */
+    @Override
+    public Class<?> defineClass(byte[] bytecode) throws SourceCodeGenerationException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        CtClass byteCodeClass;
+        try {
+            byteCodeClass = classPool.makeClass(new ByteArrayInputStream(bytecode), false);
+        } catch (IOException e) {
+            throw new SourceCodeGenerationException("Invalid bytecode", e);
+        }
+        try {
+            Class<?> definedClass = byteCodeClass.toClass(classLoader, this.getClass().getProtectionDomain());
+            byteCodeClass.detach();
+            return definedClass;
+        } catch (CannotCompileException | RuntimeException e) {
+            /*
+             * The class may already have been defined in this class-loader,
+             * from the same bytecode, by another mapper factory (javassist
+             * does not always wrap the resulting LinkageError)
+             */
+            try {
+                return Class.forName(byteCodeClass.getName(), false, classLoader);
+            } catch (ClassNotFoundException e2) {
+                throw new SourceCodeGenerationException("Error defining " + byteCodeClass.getName(), e);
+            }
+        }
+    }
+    
+    /**
+     * Creates the javassist class for the provided source, writing the
+     * (optional) source file
+     */
+    private CtClass makeClass(SourceCodeContext sourceCode) throws NotFoundException, CannotCompileException, IOException {
+        
         StringBuilder className = new StringBuilder(sourceCode.getClassName());
         CtClass byteCodeClass = null;
         int attempts = 0;
@@ -207,59 +296,49 @@ public class JavassistCompilerStrategy extends CompilerStrategy {
         }
         
         CtClass abstractMapperClass;
-        Class<?> compiledClass;
         
-        try {
-            writeSourceFile(sourceCode);
-            
-            // TODO: do we really need this check here?
-            // assureTypeIsAccessible(this.getClass());
-            
-            Boolean existing = superClasses.put(sourceCode.getSuperClass(), true);
-            if (existing == null || !existing) {
-                classPool.insertClassPath(new ClassClassPath(sourceCode.getSuperClass()));
-            }
-            
-            if (registerClassLoader(Thread.currentThread().getContextClassLoader())) {
-                classPool.insertClassPath(new LoaderClassPath(Thread.currentThread().getContextClassLoader()));
-            }
-            
-            abstractMapperClass = classPool.get(sourceCode.getSuperClass().getCanonicalName());
-            byteCodeClass.setSuperclass(abstractMapperClass);
-            
-            for (String fieldDef : sourceCode.getFields()) {
-                try {
-                    byteCodeClass.addField(CtField.make(fieldDef, byteCodeClass));
-                } catch (CannotCompileException e) {
-                    LOG.error("An exception occured while compiling: " + fieldDef + " for " + sourceCode.getClassName(), e);
-                    throw e;
-                }
+        writeSourceFile(sourceCode);
+        
+        // TODO: do we really need this check here?
+        // assureTypeIsAccessible(this.getClass());
+        
+        if (!superClasses.containsKey(sourceCode.getSuperClass())) {
+            /*
+             * Insert the class path before publishing the super class, so
+             * that a concurrent compilation never skips a missing path
+             */
+            classPool.insertClassPath(new ClassClassPath(sourceCode.getSuperClass()));
+            superClasses.put(sourceCode.getSuperClass(), true);
+        }
+        
+        if (registerClassLoader(Thread.currentThread().getContextClassLoader())) {
+            classPool.insertClassPath(new LoaderClassPath(Thread.currentThread().getContextClassLoader()));
+        }
+        
+        abstractMapperClass = classPool.get(sourceCode.getSuperClass().getCanonicalName());
+        byteCodeClass.setSuperclass(abstractMapperClass);
+        
+        for (String fieldDef : sourceCode.getFields()) {
+            try {
+                byteCodeClass.addField(CtField.make(fieldDef, byteCodeClass));
+            } catch (CannotCompileException e) {
+                LOG.error("An exception occured while compiling: " + fieldDef + " for " + sourceCode.getClassName(), e);
+                throw e;
             }
-            
-            for (String methodDef : sourceCode.getMethods()) {
-                try {
-                    byteCodeClass.addMethod(CtNewMethod.make(methodDef, byteCodeClass));
-                } catch (CannotCompileException e) {
-                    LOG.error(
-                            "An exception occured while compiling the following method:\n\n " + methodDef + "\n\n for "
-                                    + sourceCode.getClassName() + "\n", e);
-                    throw e;
-                }
-                
+        }
+        
+        for (String methodDef : sourceCode.getMethods()) {
+            try {
+                byteCodeClass.addMethod(CtNewMethod.make(methodDef, byteCodeClass));
+            } catch (CannotCompileException e) {
+                LOG.error(
+                        "An exception occured while compiling the following method:\n\n " + methodDef + "\n\n for "
+                                + sourceCode.getClassName() + "\n", e);
+                throw e;
             }
-            compiledClass = byteCodeClass.toClass(Thread.currentThread().getContextClassLoader(), this.getClass().getProtectionDomain());
-            
-            writeClassFile(sourceCode, byteCodeClass);
             
-        } catch (NotFoundException e) {
-            throw new SourceCodeGenerationException(e);
-        } catch (CannotCompileException e) {
-            throw new SourceCodeGenerationException("Error compiling " + sourceCode.getClassName(), e);
-        } catch (IOException e) {
-            throw new SourceCodeGenerationException("Could not write files for " + sourceCode.getClassName(), e);
         }
-        
-        return compiledClass;
+        return byteCodeClass;
     }
     
 }
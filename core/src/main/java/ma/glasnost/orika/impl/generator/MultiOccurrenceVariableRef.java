@@ -19,13 +19,25 @@ package ma.glasnost.orika.impl.generator;
 
 import ma.glasnost.orika.MapEntry;
 import ma.glasnost.orika.impl.DefaultConcreteTypeMap;
+import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.Property;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.metadata.TypeFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * VariableRef represents a reference to a given variable or property; it
@@ -40,6 +52,19 @@ import java.util.SortedMap;
  */
 public class MultiOccurrenceVariableRef extends VariableRef {
     
+    /**
+     * Containers whose int constructor takes the expected number of elements
+     */
+    private static final Set<Class<?>> SIZED_CONTAINERS = new HashSet<Class<?>>(Arrays.<Class<?>> asList(ArrayList.class,
+            Vector.class, ArrayDeque.class, IdentityHashMap.class, ConcurrentHashMap.class));
+    
+    /**
+     * Containers whose int constructor takes a hash table capacity, which must
+     * account for the load factor
+     */
+    private static final Set<Class<?>> HASHED_CONTAINERS = new HashSet<Class<?>>(Arrays.<Class<?>> asList(HashSet.class,
+            LinkedHashSet.class, HashMap.class, LinkedHashMap.class, Hashtable.class));
+    
     private String iteratorName;
     private boolean iteratorDeclared;
     
@@ -206,24 +231,47 @@ public class MultiOccurrenceVariableRef extends VariableRef {
         return newInstance("");
     }
 
+    /**
+     * Generates code for a new instance of this collection, array or map,
+     * presized for the specified number of elements when the concrete type
+     * allows it
+     * 
+     * @param sizeExpr
+     *            the expression of the expected number of elements, or an
+     *            empty string when it is unknown
+     * @return
+     */
     public String newInstance(String sizeExpr) {
         if (isArray()) {
             return "new " + rawType().getComponentType().getCanonicalName() + "[" + sizeExpr + "]";
         } else {
             if (type().isConcrete()) {
-                return newInstance(type().getRawType());
+                return newInstance(type().getRawType(), sizeExpr);
             }
             else {
-                return newInstance(DefaultConcreteTypeMap.get(type().getRawType()));
+                return newInstance(DefaultConcreteTypeMap.get(type().getRawType()), sizeExpr);
             }
         }
     }
 
     public String newMap() {
+        return newMap("");
+    }
+    
+    /**
+     * Generates code for a new map, presized for the specified number of
+     * entries unless it is sorted
+     * 
+     * @param sizeExpr
+     *            the expression of the expected number of entries, or an
+     *            empty string when it is unknown
+     * @return
+     */
+    public String newMap(String sizeExpr) {
         if (SortedMap.class.isAssignableFrom(rawType())) {
             return "new java.util.TreeMap()";
         }
-        return "new java.util.LinkedHashMap(" + "" + ")";
+        return "new java.util.LinkedHashMap(" + initialCapacity(LinkedHashMap.class, sizeExpr) + ")";
     }
 
     /**
@@ -267,7 +315,11 @@ public class MultiOccurrenceVariableRef extends VariableRef {
         return iteratorName;
     }
 
-    private String newInstance(Class<?> type) {
+    private String newInstance(Class<?> type, String sizeExpr) {
+        String initialCapacity = initialCapacity(type, sizeExpr);
+        if (!"".equals(initialCapacity)) {
+            return "new " + type.getCanonicalName() + "(" + initialCapacity + ")";
+        }
         try {
             if (type.getConstructor() != null) {
                 return "new " + type.getCanonicalName() + "()";
@@ -282,6 +334,17 @@ public class MultiOccurrenceVariableRef extends VariableRef {
         }
     }
 
+    private static String initialCapacity(Class<?> type, String sizeExpr) {
+        if (sizeExpr == null || "".equals(sizeExpr)) {
+            return "";
+        } else if (HASHED_CONTAINERS.contains(type)) {
+            return ClassUtil.class.getCanonicalName() + ".hashCapacity(" + sizeExpr + ")";
+        } else if (SIZED_CONTAINERS.contains(type)) {
+            return sizeExpr;
+        }
+        return "";
+    }
+
     private static class EntrySetRef extends MultiOccurrenceVariableRef {
 
         private String name;
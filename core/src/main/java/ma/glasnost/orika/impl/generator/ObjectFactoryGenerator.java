@@ -17,11 +17,13 @@
  */
 package ma.glasnost.orika.impl.generator;
 
+import com.google.protobuf.GeneratedMessageV3;
 import ma.glasnost.orika.MapperFactory;
 import ma.glasnost.orika.MappingContext;
 import ma.glasnost.orika.MappingException;
 import ma.glasnost.orika.constructor.ConstructorResolverStrategy;
 import ma.glasnost.orika.constructor.ConstructorResolverStrategy.ConstructorMapping;
+import ma.glasnost.orika.impl.GeneratedBuilderObjectFactory;
 import ma.glasnost.orika.impl.GeneratedObjectFactory;
 import ma.glasnost.orika.metadata.*;
 import org.slf4j.Logger;
@@ -80,13 +82,21 @@ public class ObjectFactoryGenerator {
                 logDetails = null;
             }
             
-            final SourceCodeContext factoryCode = new SourceCodeContext(className, GeneratedObjectFactory.class, context, logDetails);
+            final boolean protobufBuilder = GeneratedMessageV3.Builder.class.isAssignableFrom(type.getRawType());
+            final SourceCodeContext factoryCode = new SourceCodeContext(className,
+                    protobufBuilder ? GeneratedBuilderObjectFactory.class : GeneratedObjectFactory.class, context, logDetails);
             
-            UsedTypesContext usedTypes = new UsedTypesContext();
-            UsedConvertersContext usedConverters = new UsedConvertersContext();
-            UsedMapperFacadesContext usedMapperFacades = new UsedMapperFacadesContext();
-            
-            addCreateMethod(factoryCode, usedTypes, usedConverters, usedMapperFacades, type, sourceType, context, logDetails);
+            if (protobufBuilder) {
+                addBuilderMethods(factoryCode, type);
+            } else if (GeneratedMessageV3.class.isAssignableFrom(type.getRawType())) {
+                addDefaultInstanceCreateMethod(factoryCode, type);
+            } else {
+                UsedTypesContext usedTypes = new UsedTypesContext();
+                UsedConvertersContext usedConverters = new UsedConvertersContext();
+                UsedMapperFacadesContext usedMapperFacades = new UsedMapperFacadesContext();
+                
+                addCreateMethod(factoryCode, usedTypes, usedConverters, usedMapperFacades, type, sourceType, context, logDetails);
+            }
             
             GeneratedObjectFactory objectFactory = (GeneratedObjectFactory) factoryCode.getInstance();
             objectFactory.setMapperFacade(mapperFactory.getMapperFacade());
@@ -130,6 +140,48 @@ public class ObjectFactoryGenerator {
         code.addMethod(out.toString());
     }
     
+    /**
+     * Adds the create method of a protobuf message builder factory, which
+     * calls the message's static <code>newBuilder()</code>, along with the
+     * matching <code>build()</code> step.
+     * 
+     * @param code
+     * @param type
+     *            the builder type
+     */
+    private void addBuilderMethods(SourceCodeContext code, Type<?> type) {
+        String builderName = type.getCanonicalName();
+        String messageName = type.getRawType().getEnclosingClass().getCanonicalName();
+        
+        StringBuilder out = new StringBuilder();
+        out.append("public Object create(Object s, " + MappingContext.class.getCanonicalName() + " mappingContext) {");
+        out.append(format("if(s == null) throw new %s(\"source object must be not null\");",
+                IllegalArgumentException.class.getCanonicalName()));
+        out.append(format("return %s.newBuilder();", messageName));
+        out.append("\n}");
+        code.addMethod(out.toString());
+        
+        code.addMethod(format("public Object build(Object builder) {\nreturn ((%s) builder).build();\n}", builderName));
+    }
+    
+    /**
+     * Adds the create method of a protobuf message factory; as messages are
+     * immutable, the message's default instance is returned.
+     * 
+     * @param code
+     * @param type
+     *            the message type
+     */
+    private void addDefaultInstanceCreateMethod(SourceCodeContext code, Type<?> type) {
+        StringBuilder out = new StringBuilder();
+        out.append("public Object create(Object s, " + MappingContext.class.getCanonicalName() + " mappingContext) {");
+        out.append(format("if(s == null) throw new %s(\"source object must be not null\");",
+                IllegalArgumentException.class.getCanonicalName()));
+        out.append(format("return %s.getDefaultInstance();", type.getCanonicalName()));
+        out.append("\n}");
+        code.addMethod(out.toString());
+    }
+    
     /**
      * @param code
      * @param destinationType
@@ -0,0 +1,194 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.impl.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PrecompiledCompilerStrategy loads classes generated ahead-of-time instead of
+ * compiling them.<br>
+ * <br>
+ * 
+ * Precompiled classes are listed in {@value #INDEX_RESOURCE} resources, which
+ * map the {@link SourceCodeContext#getFingerprint() fingerprint} of each
+ * generated class to the name of its precompiled class; such resources (and
+ * the class files) are produced at build time by the orika-aot-tools module.
+ * Classes without a precompiled counterpart are compiled by the delegate
+ * compiler strategy.
+ */
+public class PrecompiledCompilerStrategy extends CompilerStrategy {
+    
+    /**
+     * The name of the resources listing the precompiled classes
+     */
+    public static final String INDEX_RESOURCE = "META-INF/orika/precompiled-classes.properties";
+    
+    private static final Logger LOG = LoggerFactory.getLogger(PrecompiledCompilerStrategy.class);
+    
+    private static final Map<ClassLoader, Map<String, String>> INDEXES = new WeakHashMap<ClassLoader, Map<String, String>>();
+    
+    private final CompilerStrategy delegate;
+    private final ClassLoader classLoader;
+    private final Map<String, String> classNamesByFingerprint;
+    
+    /**
+     * Constructs a new PrecompiledCompilerStrategy loading the precompiled
+     * classes available to the context class-loader
+     * 
+     * @param delegate
+     *            the compiler strategy used for classes which were not
+     *            precompiled
+     */
+    public PrecompiledCompilerStrategy(CompilerStrategy delegate) {
+        this(delegate, Thread.currentThread().getContextClassLoader());
+    }
+    
+    /**
+     * Constructs a new PrecompiledCompilerStrategy
+     * 
+     * @param delegate
+     *            the compiler strategy used for classes which were not
+     *            precompiled
+     * @param classLoader
+     *            the class-loader from which the index resources and the
+     *            precompiled classes are loaded
+     */
+    public PrecompiledCompilerStrategy(CompilerStrategy delegate, ClassLoader classLoader) {
+        super("false", "false");
+        this.delegate = delegate;
+        this.classLoader = classLoader;
+        this.classNamesByFingerprint = getIndex(classLoader);
+    }
+    
+    /**
+     * Decorates the provided compiler strategy with a PrecompiledCompilerStrategy
+     * if precompiled classes are available to the context class-loader.
+     * 
+     * @param compilerStrategy
+     *            the compiler strategy to decorate
+     * @return a PrecompiledCompilerStrategy delegating to
+     *         <code>compilerStrategy</code>, or <code>compilerStrategy</code>
+     *         itself when there are no precompiled classes
+     */
+    public static CompilerStrategy decorate(CompilerStrategy compilerStrategy) {
+        if (compilerStrategy instanceof PrecompiledCompilerStrategy) {
+            return compilerStrategy;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (getIndex(classLoader).isEmpty()) {
+            return compilerStrategy;
+        }
+        return new PrecompiledCompilerStrategy(compilerStrategy, classLoader);
+    }
+    
+    /**
+     * @return the number of precompiled classes available to this strategy
+     */
+    public int getPrecompiledClassCount() {
+        return classNamesByFingerprint.size();
+    }
+    
+    /**
+     * @return the compiler strategy used for classes which were not
+     *         precompiled
+     */
+    public CompilerStrategy getDelegate() {
+        return delegate;
+    }
+    
+    public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+        if (!classNamesByFingerprint.isEmpty()) {
+            String className = classNamesByFingerprint.get(sourceCode.getFingerprint());
+            if (className != null) {
+                try {
+                    return Class.forName(className, true, classLoader);
+                } catch (ClassNotFoundException e) {
+                    LOG.warn("Precompiled class " + className + " for " + sourceCode.getClassName() + " could not be loaded; compiling it", e);
+                } catch (LinkageError e) {
+                    LOG.warn("Precompiled class " + className + " for " + sourceCode.getClassName() + " could not be loaded; compiling it", e);
+                }
+            }
+        }
+        return delegate.compileClass(sourceCode);
+    }
+    
+    public void assureTypeIsAccessible(Class<?> type) throws SourceCodeGenerationException {
+        delegate.assureTypeIsAccessible(type);
+    }
+    
+    @Override
+    public boolean supportsConcurrentCompilation() {
+        return delegate.supportsConcurrentCompilation();
+    }
+    
+    /**
+     * Loads (once per class-loader) the index of the precompiled classes
+     * available to the provided class-loader, merging all of the
+     * {@value #INDEX_RESOURCE} resources.
+     */
+    private static Map<String, String> getIndex(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return Collections.emptyMap();
+        }
+        synchronized (INDEXES) {
+            Map<String, String> index = INDEXES.get(classLoader);
+            if (index == null) {
+                index = loadIndex(classLoader);
+                INDEXES.put(classLoader, index);
+            }
+            return index;
+        }
+    }
+    
+    private static Map<String, String> loadIndex(ClassLoader classLoader) {
+        Map<String, String> index = new HashMap<String, String>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Properties properties = new Properties();
+                InputStream in = resource.openStream();
+                try {
+                    properties.load(in);
+                } finally {
+                    in.close();
+                }
+                for (String fingerprint : properties.stringPropertyNames()) {
+                    index.put(fingerprint, properties.getProperty(fingerprint));
+                }
+                LOG.debug("Loaded {} precompiled classes from {}", properties.size(), resource);
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read the precompiled classes index; generated classes will be compiled", e);
+            return Collections.emptyMap();
+        }
+        return index.isEmpty() ? Collections.<String, String> emptyMap() : Collections.unmodifiableMap(index);
+    }
+}
@@ -28,9 +28,13 @@ import ma.glasnost.orika.impl.generator.Node.NodeList;
 import ma.glasnost.orika.impl.generator.UsedMapperFacadesContext.UsedMapperFacadesIndex;
 import ma.glasnost.orika.impl.generator.specification.AbstractSpecification;
 import ma.glasnost.orika.impl.util.ClassUtil;
+import ma.glasnost.orika.impl.util.EnumUtil;
 import ma.glasnost.orika.metadata.*;
 import ma.glasnost.orika.property.PropertyResolverStrategy;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -61,6 +65,7 @@ public class SourceCodeContext {
     private final UsedConvertersContext usedConverters;
     private final UsedFiltersContext usedFilters;
     private final UsedMapperFacadesContext usedMapperFacades;
+    private final UsedEnumTablesContext usedEnumTables;
     private final MapperFactory mapperFactory;
     private final CodeGenerationStrategy codeGenerationStrategy;
     private final StringBuilder logDetails;
@@ -115,6 +120,7 @@ public class SourceCodeContext {
         
         this.mappingContext = mappingContext;
         this.usedMapperFacades = new UsedMapperFacadesContext();
+        this.usedEnumTables = new UsedEnumTablesContext();
         this.logDetails = logDetails;
         
         this.aggregateFieldMaps = new LinkedHashMap<AggregateSpecification, List<FieldMap>>();
@@ -215,6 +221,35 @@ public class SourceCodeContext {
         return sourceBuilder.toString() + "\n}";
     }
     
+    /**
+     * Computes a fingerprint of the generated class: a SHA-256 digest of its
+     * package, super class, fields and methods, in which the (unique) simple
+     * name of the class is normalized. Contexts generating equivalent classes,
+     * possibly in different JVMs, have the same fingerprint.
+     * 
+     * @return the hexadecimal fingerprint of the generated class
+     */
+    public String getFingerprint() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(("package " + packageName + "\nextends " + superClass.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+        for (String field : fields) {
+            digest.update(("field " + field.replace(classSimpleName, "$Generated") + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        for (String method : methods) {
+            digest.update(("method " + method.replace(classSimpleName, "$Generated") + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder fingerprint = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            fingerprint.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return fingerprint.toString();
+    }
+    
     /**
      * Compile and return the (generated) class; this will also cause the
      * generated class to be detached from the class-pool, and any (optional)
@@ -247,6 +282,7 @@ public class SourceCodeContext {
         Converter[] usedConvertersArray = usedConverters.toArray();
         BoundMapperFacade<Object, Object>[] usedMapperFacadesArray = usedMapperFacades.toArray();
         Filter<Object, Object>[] usedFiltersArray = usedFilters.toArray();
+        Object[] usedEnumTablesArray = usedEnumTables.toArray();
         if (logDetails != null) {
             if (usedTypesArray.length > 0) {
                 logDetails.append("\n\t" + Type.class.getSimpleName() + "s used: " + Arrays.toString(usedTypesArray));
@@ -265,6 +301,7 @@ public class SourceCodeContext {
         instance.setUsedConverters(usedConvertersArray);
         instance.setUsedMapperFacades(usedMapperFacadesArray);
         instance.setUsedFilters(usedFiltersArray);
+        instance.setUsedEnumTables(usedEnumTablesArray);
         
         return instance;
     }
@@ -284,6 +321,55 @@ public class SourceCodeContext {
         return "((" + Type.class.getCanonicalName() + ")usedTypes[" + index + "])";
     }
     
+    /**
+     * Generates the expression which maps an enum to the constant of the same
+     * name in the destination enum; the lookup is an array load indexed by
+     * ordinal from a table built once for the generated object. Types which
+     * do not resolve to a concrete enum, such as <code>Enum&lt;?&gt;</code>,
+     * fall back to {@link Enum#valueOf(Class, String)}.
+     * 
+     * @param source
+     *            the source enum expression, which must not be null
+     * @param sourceType
+     * @param destinationType
+     * @return the lookup expression
+     */
+    public String usedEnumByOrdinal(String source, Type<?> sourceType, Type<?> destinationType) {
+        Class<?> sourceEnum = EnumUtil.getEnumClass(sourceType.getRawType());
+        Class<?> destinationEnum = EnumUtil.getEnumClass(destinationType.getRawType());
+        if (sourceEnum == null || destinationEnum == null) {
+            return "Enum.valueOf(" + destinationType.getCanonicalName() + ".class, " + source + ".name())";
+        }
+        int index = usedEnumTables.getIndex(sourceEnum, destinationEnum);
+        String table = "((" + destinationEnum.getCanonicalName() + "[])usedEnumTables[" + index + "])";
+        if (EnumUtil.isComplete((Object[]) usedEnumTables.get(index))) {
+            return table + "[" + source + ".ordinal()]";
+        }
+        return "((" + destinationEnum.getCanonicalName() + ")" + EnumUtil.class.getCanonicalName() + ".valueOf(" + table + ", " + source
+                + ", " + destinationEnum.getCanonicalName() + ".class))";
+    }
+    
+    /**
+     * Generates the expression which maps a String to the constant of that
+     * name in the destination enum, using a name table built once for the
+     * generated object; a destination which does not resolve to a concrete
+     * enum falls back to {@link Enum#valueOf(Class, String)}.
+     * 
+     * @param source
+     *            the source String expression, which must not be null
+     * @param destinationType
+     * @return the lookup expression
+     */
+    public String usedEnumByName(String source, Type<?> destinationType) {
+        Class<?> destinationEnum = EnumUtil.getEnumClass(destinationType.getRawType());
+        if (destinationEnum == null) {
+            return "Enum.valueOf(" + destinationType.getCanonicalName() + ".class, \"\"+" + source + ")";
+        }
+        int index = usedEnumTables.getIndex(String.class, destinationEnum);
+        return "((" + destinationEnum.getCanonicalName() + ")" + EnumUtil.class.getCanonicalName() + ".valueOf((java.util.Map)usedEnumTables["
+                + index + "], " + source + ", " + destinationEnum.getCanonicalName() + ".class))";
+    }
+    
     private String usedMapperFacadeCall(Type<?> sourceType, Type<?> destinationType) {
         UsedMapperFacadesIndex usedFacade = usedMapperFacades.getIndex(sourceType, destinationType, mapperFactory);
         String mapInDirection = usedFacade.isReversed ? "mapReverse" : "map";
@@ -0,0 +1,80 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.impl.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ma.glasnost.orika.impl.util.EnumUtil;
+
+/**
+ * UsedEnumTablesContext collects the enum lookup tables used by a generated
+ * mapping object: ordinal tables for enum to enum mappings, and name tables
+ * for String to enum mappings.
+ */
+public class UsedEnumTablesContext {
+    
+    private final Map<Class<?>, Map<Class<?>, Integer>> indexes = new HashMap<Class<?>, Map<Class<?>, Integer>>();
+    private final List<Object> usedEnumTables = new ArrayList<Object>();
+    
+    /**
+     * @param sourceType
+     *            the source enum, or String for a name table
+     * @param destinationType
+     *            the destination enum
+     * @return the index of the lookup table in the array of enum tables used
+     *         by the associated mapping object
+     */
+    public int getIndex(Class<?> sourceType, Class<?> destinationType) {
+        if (sourceType == null || destinationType == null) {
+            throw new NullPointerException("types must not be null");
+        }
+        Map<Class<?>, Integer> byDestination = indexes.get(sourceType);
+        if (byDestination == null) {
+            byDestination = new HashMap<Class<?>, Integer>();
+            indexes.put(sourceType, byDestination);
+        }
+        Integer index = byDestination.get(destinationType);
+        if (index == null) {
+            index = Integer.valueOf(usedEnumTables.size());
+            byDestination.put(destinationType, index);
+            usedEnumTables.add(String.class == sourceType ? EnumUtil.nameTable(destinationType) : EnumUtil.ordinalTable(
+                    sourceType, destinationType));
+        }
+        return index;
+    }
+    
+    /**
+     * @param index
+     * @return the lookup table at the specified index
+     */
+    public Object get(int index) {
+        return usedEnumTables.get(index);
+    }
+    
+    /**
+     * @return the array of enum tables used by the associated mapping object
+     */
+    public Object[] toArray() {
+        return usedEnumTables.toArray();
+    }
+}
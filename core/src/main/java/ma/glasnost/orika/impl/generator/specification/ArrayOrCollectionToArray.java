@@ -20,6 +20,7 @@ package ma.glasnost.orika.impl.generator.specification;
 
 import ma.glasnost.orika.impl.generator.SourceCodeContext;
 import ma.glasnost.orika.impl.generator.VariableRef;
+import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.FieldMap;
 
 import static java.lang.String.format;
@@ -38,6 +39,11 @@ public class ArrayOrCollectionToArray extends AbstractSpecification {
     public String generateMappingCode(FieldMap fieldMap, VariableRef source, VariableRef destination, SourceCodeContext code) {
         
         final VariableRef arrayVar = destination.elementRef(destination.name()+"Array__");
+        
+        if (source.isArray() && ClassUtil.isPrimitiveAssignable(source.elementType().getRawType(), destination.elementType().getRawType())) {
+            return generatePrimitiveArrayCopy(fieldMap, source, destination, arrayVar, code);
+        }
+        
         String newArray = format("%s[] %s = new %s[%s]", destination.elementTypeName(), arrayVar.validVariableName(), destination.elementTypeName(), source.size());
         
         String mapArray;
@@ -57,4 +63,34 @@ public class ArrayOrCollectionToArray extends AbstractSpecification {
         return format(" %s { %s; %s; %s; } %s", source.ifNotNull(), newArray, mapArray, destination.assign(arrayVar), mapNull);
     }
     
+    /**
+     * Copies a primitive array into a new primitive array of the same or of a
+     * wider element type, without boxing the elements
+     */
+    private String generatePrimitiveArrayCopy(FieldMap fieldMap, VariableRef source, VariableRef destination, VariableRef arrayVar,
+            SourceCodeContext code) {
+        
+        final VariableRef sourceArray = new VariableRef(source.type(), destination.validVariableName() + "Source__");
+        final String array = arrayVar.validVariableName();
+        final String index = array + "Index";
+        
+        String copyArray;
+        if (source.elementType().equals(destination.elementType())) {
+            if (code.isDebugEnabled()) {
+                code.debugField(fieldMap, "copying primitive array");
+            }
+            copyArray = format("System.arraycopy(%s, 0, %s, 0, %s.length)", sourceArray, array, array);
+        } else {
+            if (code.isDebugEnabled()) {
+                code.debugField(fieldMap, "copying primitive array with widening");
+            }
+            copyArray = format("for (int %s = 0; %s < %s.length; ++%s) { %s[%s] = (%s) %s[%s]; }", index, index, array, index, array, index,
+                    destination.elementTypeName(), sourceArray, index);
+        }
+        String newArray = format("%s[] %s = new %s[%s.length]", destination.elementTypeName(), array, destination.elementTypeName(), sourceArray);
+        String mapNull = shouldMapNulls(fieldMap, code) ? format(" else { %s; }", destination.assignIfPossible("null")) : "";
+        return format(" %s { %s; %s; %s; %s; } %s", source.ifNotNull(), sourceArray.declare(source), newArray, copyArray,
+                destination.assign(arrayVar), mapNull);
+    }
+    
 }
@@ -22,6 +22,7 @@ import ma.glasnost.orika.MappingException;
 import ma.glasnost.orika.impl.generator.MultiOccurrenceVariableRef;
 import ma.glasnost.orika.impl.generator.SourceCodeContext;
 import ma.glasnost.orika.impl.generator.VariableRef;
+import ma.glasnost.orika.impl.util.ClassUtil;
 import ma.glasnost.orika.metadata.FieldMap;
 
 import static java.lang.String.format;
@@ -74,7 +75,20 @@ public class ArrayOrCollectionToCollection extends AbstractSpecification {
                 code.debugField(fieldMap, "mapping " + s.elementTypeName() + "[] to Collection<" + d.elementTypeName() + ">");
             }
             
-            if (s.elementType().isPrimitive()) {
+            final Class<?> wrapperClass = ClassUtil.getWrapperType(s.elementType().getRawType());
+            if (wrapperClass != null && destinationElementClass.isAssignableFrom(wrapperClass)) {
+                /*
+                 * Box the elements straight into the (presized) destination,
+                 * rather than through an intermediate list
+                 */
+                VariableRef sourceArray = new VariableRef(s.type(), newDest.validVariableName() + "Source__");
+                String index = sourceArray.validVariableName() + "Index";
+                out.append(statement(sourceArray.declare(s)));
+                append(out,
+                        format("for (int %s = 0; %s < %s.length; ++%s) {", index, index, sourceArray, index),
+                        format("    %s.add(%s.valueOf(%s[%s]));", newDest, wrapperClass.getCanonicalName(), sourceArray, index),
+                        "}");
+            } else if (s.elementType().isPrimitive()) {
                 out.append("\n");
                 out.append(statement("%s.addAll(asList(%s));", newDest, s));
             } else {
@@ -85,10 +99,21 @@ public class ArrayOrCollectionToCollection extends AbstractSpecification {
             if (code.isDebugEnabled()) {
                 code.debugField(fieldMap, "mapping Collection<" + s.elementTypeName() + "> to Collection<" + d.elementTypeName() + ">");
             }
+            /*
+             * Map each element through the dedicated BoundMapperFacade, straight
+             * into the (presized) destination; null elements are skipped, as
+             * by MapperFacade.mapAsCollection
+             */
+            String iterator = newDest.validVariableName() + "Iterator";
+            String element = newDest.validVariableName() + "Element";
             append(out,
-                    "\n",
-                    format("%s.addAll(mapperFacade.mapAs%s(%s, %s, %s, mappingContext))", newDest, d.collectionType(), s,
-                            code.usedType(s.elementType()), code.usedType(d.elementType())));
+                    format("java.util.Iterator %s = %s.iterator();", iterator, s),
+                    format("while (%s.hasNext()) {", iterator),
+                    format("    %s %s = (%s) %s.next();", s.elementTypeName(), element, s.elementTypeName(), iterator),
+                    format("    if (%s != null) {", element),
+                    format("        %s.add((%s) %s);", newDest, d.elementTypeName(), code.callMapper(s.elementType(), d.elementType(), element)),
+                    "    }",
+                    "}");
         }
         if (fieldMap.getInverse() != null) {
             final MultiOccurrenceVariableRef inverse = new MultiOccurrenceVariableRef(fieldMap.getInverse(), "orikaCollectionItem");
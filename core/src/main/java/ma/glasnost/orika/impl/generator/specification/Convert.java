@@ -18,10 +18,14 @@
 
 package ma.glasnost.orika.impl.generator.specification;
 
+import ma.glasnost.orika.Converter;
+import ma.glasnost.orika.converter.BidirectionalConverter;
+import ma.glasnost.orika.converter.IntrinsicConverter;
 import ma.glasnost.orika.converter.builtin.CopyByReferenceConverter;
 import ma.glasnost.orika.impl.generator.SourceCodeContext;
 import ma.glasnost.orika.impl.generator.VariableRef;
 import ma.glasnost.orika.metadata.FieldMap;
+import ma.glasnost.orika.metadata.Type;
 
 import static java.lang.String.format;
 import static ma.glasnost.orika.impl.generator.SourceCodeContext.statement;
@@ -30,7 +34,9 @@ import static ma.glasnost.orika.impl.generator.SourceCodeContext.statement;
  * Convert applies the conversion operation between two properties. There is a
  * special shortcut case applied when the converter is a
  * CopyByReferenceConverter -- we applied the code to assign the reference
- * directly rather than making an extra method call.
+ * directly rather than making an extra method call. Likewise, the conversion
+ * of an {@link IntrinsicConverter} is compiled inline, on primitive values
+ * where the types allow it.
  * 
  * @author elaatifi@gmail.com
  * @author matt.deboer@gmail.com
@@ -85,12 +91,19 @@ public class Convert extends AbstractSpecification {
 
         String statement;
         boolean canHandleNulls;
+        String inlineConversion;
         if (source.getConverter() instanceof CopyByReferenceConverter) {
             if (code.isDebugEnabled()) {
                 code.debugField(fieldMap, "copying " + source.type() + " by reference");
             }
             statement = destination.assignIfPossible(source);
             canHandleNulls = true;
+        } else if ((inlineConversion = inlineConversion(source, destination)) != null) {
+            if (code.isDebugEnabled()) {
+                code.debugField(fieldMap, "converting inline using " + source.getConverter());
+            }
+            statement = destination.assignIfPossible(inlineConversion);
+            canHandleNulls = false;
         } else {
             if (code.isDebugEnabled()) {
                 code.debugField(fieldMap, "converting using " + source.getConverter());
@@ -111,4 +124,53 @@ public class Convert extends AbstractSpecification {
             return statement(source.ifNotNull() + "{ \n" + statement) + "\n}" + elseSetNull;
         }
     }
+    
+    /**
+     * @param source
+     * @param destination
+     * @return the inline conversion supplied by the converter of the source,
+     *         boxed to the destination type, or null if the converter is not
+     *         an IntrinsicConverter declaring its own conversion, or cannot
+     *         inline this conversion
+     */
+    private static String inlineConversion(VariableRef source, VariableRef destination) {
+        Converter<?, ?> converter = source.getConverter();
+        if (converter instanceof BidirectionalConverter.Reversed) {
+            /*
+             * Intrinsic conversions are resolved from the source and
+             * destination types, so the reversed converter is inlined by the
+             * converter it reverses
+             */
+            converter = ((BidirectionalConverter<?, ?>) converter).reverse();
+        }
+        if (!(converter instanceof IntrinsicConverter) || !declaresConversion(converter)) {
+            return null;
+        }
+        String sourceValue = source.toString();
+        if (source.type().isPrimitiveWrapper()) {
+            sourceValue = format("%s.%sValue()", source, source.type().getPrimitiveType().getName());
+        }
+        String conversion = ((IntrinsicConverter) converter).generateConversion(sourceValue, source.type(), destination.type());
+        if (conversion != null && destination.type().isPrimitiveWrapper()) {
+            conversion = format("%s.valueOf(%s)", destination.type().getCanonicalName(), conversion);
+        }
+        return conversion;
+    }
+    
+    /**
+     * A subclass of an IntrinsicConverter may override the conversion itself,
+     * so the inline expression only stands for the class declaring it.
+     * 
+     * @param converter
+     * @return true if the runtime class of the converter declares
+     *         generateConversion
+     */
+    private static boolean declaresConversion(Converter<?, ?> converter) {
+        try {
+            return converter.getClass().getMethod("generateConversion", String.class, Type.class, Type.class).getDeclaringClass() == converter
+                    .getClass();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 }
@@ -43,7 +43,7 @@ public class EnumToEnum extends AbstractSpecification {
             code.debugField(fieldMap, "converting enum " + source.typeName() + " to enum " + destination.typeName());
         }
         
-        String assignEnum = destination.assign("Enum.valueOf(%s.class, %s.name())", destination.typeName(), source);
+        String assignEnum = destination.assign(code.usedEnumByOrdinal(source.toString(), source.type(), destination.type()));
         String mapNull = shouldMapNulls(fieldMap, code) ? format(" else {\n %s;\n}", destination.assignIfPossible("null")): "";
         return statement("%s { %s; } %s", source.ifNotNull(), assignEnum, mapNull);
     }
@@ -45,7 +45,7 @@ public class StringToEnum extends AbstractSpecification {
             code.debugField(fieldMap, "converting String to enum " + destination.type());
         }
         
-        String assignEnum = destination.assign("Enum.valueOf(%s.class, \"\"+%s)", destination.typeName(), source);
+        String assignEnum = destination.assign(code.usedEnumByName(source.toString(), destination.type()));
         String mapNull = shouldMapNulls(fieldMap, code) ? format(" else {\n %s;\n}", destination.assignIfPossible("null")): "";
         return statement("%s { %s; } %s", source.ifNotNull(), assignEnum, mapNull);
     }
@@ -0,0 +1,54 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.impl.mapping.strategy;
+
+import ma.glasnost.orika.Mapper;
+import ma.glasnost.orika.impl.GeneratedBuilderObjectFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.unenhance.UnenhanceStrategy;
+
+/**
+ * InstantiateAndUseCustomMapperBuilderStrategy maps into a protobuf message
+ * builder created by a generated object factory, and then builds the message
+ * through that same factory, so that neither step involves reflection.
+ */
+public class InstantiateAndUseCustomMapperBuilderStrategy extends InstantiateAndUseCustomMapperStrategy {
+    
+    private final GeneratedBuilderObjectFactory builderFactory;
+    
+    /**
+     * Creates a new instance of InstantiateAndUseCustomMapperBuilderStrategy
+     * 
+     * @param sourceType
+     * @param destinationType
+     * @param customMapper
+     * @param builderFactory
+     * @param unenhancer
+     */
+    public InstantiateAndUseCustomMapperBuilderStrategy(Type<Object> sourceType, Type<Object> destinationType,
+            Mapper<Object, Object> customMapper, GeneratedBuilderObjectFactory builderFactory, UnenhanceStrategy unenhancer) {
+        super(sourceType, destinationType, customMapper, builderFactory, unenhancer);
+        this.builderFactory = builderFactory;
+    }
+    
+    @Override
+    protected Object afterMap(Object destinationObject) {
+        return builderFactory.build(destinationObject);
+    }
+}
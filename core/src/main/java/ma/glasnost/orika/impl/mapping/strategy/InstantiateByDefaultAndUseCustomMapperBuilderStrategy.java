@@ -20,11 +20,13 @@ package ma.glasnost.orika.impl.mapping.strategy;
 
 import ma.glasnost.orika.Mapper;
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.MappingException;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
  * InstantiateByDefaultAndUseCustomMapperStrategy uses a custom mapper and creates instances
@@ -32,6 +34,19 @@ import java.lang.reflect.Method;
  */
 public class InstantiateByDefaultAndUseCustomMapperBuilderStrategy extends UseCustomMapperStrategy {
 
+    private static final MethodType NEW_BUILDER_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType BUILD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * gRPC 类的 newBuilder 方法句柄，在构造策略时解析一次
+     */
+    private final MethodHandle newBuilder;
+
+    /**
+     * Builder 的 build 方法句柄，在构造策略时解析一次
+     */
+    private final MethodHandle build;
+
     /**
      * Creates a new instance of InstantiateByDefaultAndUseCustomMapperStrategy
      *
@@ -42,6 +57,14 @@ public class InstantiateByDefaultAndUseCustomMapperBuilderStrategy extends UseCu
      */
     public InstantiateByDefaultAndUseCustomMapperBuilderStrategy(Type<Object> sourceType, Type<Object> destinationType, Mapper<Object, Object> customMapper, UnenhanceStrategy unenhancer) {
         super(sourceType, destinationType, customMapper, unenhancer);
+        Class<?> builderClass = destinationType.getRawType();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.newBuilder = lookup.unreflect(builderClass.getEnclosingClass().getMethod("newBuilder")).asType(NEW_BUILDER_TYPE);
+            this.build = lookup.unreflect(builderClass.getMethod("build")).asType(BUILD_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new MappingException("Cannot resolve newBuilder()/build() for " + builderClass.getName(), e);
+        }
     }
 
     /**
@@ -50,10 +73,9 @@ public class InstantiateByDefaultAndUseCustomMapperBuilderStrategy extends UseCu
     protected Object getInstance(Object sourceObject, Object destinationObject, MappingContext context) {
         try {
             // 通过调用 gRPC 类的 newBuilder 方法，生成其内部类 Builder 的实例
-            Method newBuilder = destinationType.getRawType().getEnclosingClass().getMethod("newBuilder");
-            return newBuilder.invoke(null);
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+            return (Object) newBuilder.invokeExact();
+        } catch (Throwable e) {
+            throw rethrow(e);
         }
     }
 
@@ -61,10 +83,18 @@ public class InstantiateByDefaultAndUseCustomMapperBuilderStrategy extends UseCu
     protected Object afterMap(Object destinationObject) {
         try {
             // 通过调用 Builder 的 build 方法，生成 gRPC 类实例
-            Method build = destinationType.getRawType().getMethod("build");
-            return build.invoke(destinationObject);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
+            return (Object) build.invokeExact(destinationObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
         }
+        return new MappingException(e);
     }
 }
@@ -24,6 +24,7 @@ import ma.glasnost.orika.Mapper;
 import ma.glasnost.orika.MappingStrategy;
 import ma.glasnost.orika.MappingStrategy.Key;
 import ma.glasnost.orika.ObjectFactory;
+import ma.glasnost.orika.impl.GeneratedBuilderObjectFactory;
 import ma.glasnost.orika.impl.ReversedMapper;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
@@ -216,8 +217,14 @@ public class MappingStrategyRecorder {
             // ==================== Start ====================
             // 当目标类型为 GeneratedMessageV3.Builder 子类，则使用自定义的 CustomMapper 策略
             if (GeneratedMessageV3.Builder.class.isAssignableFrom(resolvedDestinationType.getRawType())) {
-                resolvedStrategy = new InstantiateByDefaultAndUseCustomMapperBuilderStrategy(resolvedSourceType, resolvedDestinationType, resolvedMapper,
-                        unenhanceStrategy);
+                if (resolvedObjectFactory instanceof GeneratedBuilderObjectFactory) {
+                    // 使用生成的 ObjectFactory 创建 Builder 并调用其 build 方法
+                    resolvedStrategy = new InstantiateAndUseCustomMapperBuilderStrategy(resolvedSourceType, resolvedDestinationType, resolvedMapper,
+                            (GeneratedBuilderObjectFactory) resolvedObjectFactory, unenhanceStrategy);
+                } else {
+                    resolvedStrategy = new InstantiateByDefaultAndUseCustomMapperBuilderStrategy(resolvedSourceType, resolvedDestinationType, resolvedMapper,
+                            unenhanceStrategy);
+                }
             }
             // ==================== End ====================
 
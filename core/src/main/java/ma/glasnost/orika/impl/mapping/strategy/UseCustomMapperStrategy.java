@@ -22,6 +22,7 @@ import java.util.Map;
 
 import ma.glasnost.orika.Mapper;
 import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.GeneratedMapperBase;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.unenhance.UnenhanceStrategy;
 
@@ -38,6 +39,11 @@ public abstract class UseCustomMapperStrategy extends AbstractMappingStrategy {
      * The Unenhancer to be used for this strategy
      */
     protected final UnenhanceStrategy unenhancer;
+    /**
+     * Whether nothing reachable from the mapped types can refer back to an
+     * object being mapped
+     */
+    protected final boolean acyclic;
     
     /**
      * Creates a new instance of UseCustomMapperStrategy
@@ -52,10 +58,35 @@ public abstract class UseCustomMapperStrategy extends AbstractMappingStrategy {
         super(sourceType, destinationType);
         this.customMapper = customMapper;
         this.unenhancer = unenhancer;
+        this.acyclic = GeneratedMapperBase.isAcyclic(customMapper);
     }
     
     public Object map(final Object sourceObject, final Object destinationObject, final MappingContext context) {
         
+        if (acyclic && context.containsCycle()) {
+            /*
+             * No cycle can be reached from here, so the objects mapped below
+             * this one need not be tracked
+             */
+            context.suspendCycleTracking();
+            try {
+                return map(sourceObject, destinationObject, context);
+            } finally {
+                context.resumeCycleTracking();
+            }
+        } else if (!acyclic && context.isCycleTrackingSuspended()) {
+            /*
+             * Reached below an acyclic mapping through a type which the
+             * analysis did not know of, such as an unregistered subtype
+             */
+            context.resumeCycleTracking();
+            try {
+                return map(sourceObject, destinationObject, context);
+            } finally {
+                context.suspendCycleTracking();
+            }
+        }
+        
         Object resolvedSourceObject = unenhancer.unenhanceObject(sourceObject, sourceType);
         
         Object cachedObject = context.getMappedObject(sourceObject, destinationType);
@@ -81,5 +81,74 @@ public final class ClassUtil {
 			return null;
 		}
     }
+    
+    /**
+     * Returns the given type if it is primitive, the corresponding primitive
+     * type if it is a primitive wrapper, or null otherwise.
+     * 
+     * @param type
+     * @return the primitive form of the type
+     */
+    public static Class<?> getPrimitiveForm(Class<?> type) {
+        return type.isPrimitive() ? type : getPrimitiveType(type);
+    }
+    
+    /**
+     * Returns the initial capacity of a hash based container (with the
+     * default load factor) which holds the specified number of elements
+     * without rehashing.
+     * 
+     * @param size
+     * @return the initial capacity
+     */
+    public static int hashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+    
+    /**
+     * Returns true if a value of the primitive type <code>from</code> can be
+     * assigned to the primitive type <code>to</code>, either because they are
+     * the same type or through a widening primitive conversion (such as
+     * <code>int</code> to <code>long</code>).
+     * 
+     * @param from
+     * @param to
+     * @return true if the assignment needs no explicit narrowing
+     */
+    public static boolean isPrimitiveAssignable(Class<?> from, Class<?> to) {
+        if (!from.isPrimitive() || !to.isPrimitive()) {
+            return false;
+        } else if (from.equals(to)) {
+            return true;
+        } else if (char.class.equals(from)) {
+            return getWideningRank(to) >= getWideningRank(int.class);
+        }
+        int fromRank = getWideningRank(from);
+        return fromRank > 0 && fromRank < getWideningRank(to);
+    }
+    
+    /**
+     * @return the position of the given numeric primitive type in the chain
+     *         of widening conversions from <code>byte</code> to
+     *         <code>double</code>, or 0 for <code>char</code> and
+     *         <code>boolean</code>
+     */
+    private static int getWideningRank(Class<?> primitiveType) {
+        if (byte.class.equals(primitiveType)) {
+            return 1;
+        } else if (short.class.equals(primitiveType)) {
+            return 2;
+        } else if (int.class.equals(primitiveType)) {
+            return 3;
+        } else if (long.class.equals(primitiveType)) {
+            return 4;
+        } else if (float.class.equals(primitiveType)) {
+            return 5;
+        } else if (double.class.equals(primitiveType)) {
+            return 6;
+        } else {
+            return 0;
+        }
+    }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.impl.util;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EnumUtil builds the lookup tables used to map enumerations by constant name
+ * without going through <code>Enum.valueOf</code> on every call.
+ */
+public final class EnumUtil {
+    
+    private EnumUtil() {
+        
+    }
+    
+    /**
+     * Returns the enumeration declaring the specified type, which may be the
+     * class of a constant with a body.
+     * 
+     * @param type
+     * @return the enum class, or null if the type is not an enum
+     */
+    public static Class<?> getEnumClass(Class<?> type) {
+        if (type.isEnum()) {
+            return type;
+        } else if (type.getSuperclass() != null && type.getSuperclass().isEnum()) {
+            return type.getSuperclass();
+        }
+        return null;
+    }
+    
+    /**
+     * Builds the table of destination constants indexed by the ordinal of the
+     * source constant with the same name. The returned array has the
+     * destination enum as its component type, and holds null for the source
+     * constants which have no counterpart.
+     * 
+     * @param sourceEnum
+     * @param destinationEnum
+     * @return the ordinal lookup table
+     */
+    public static Object[] ordinalTable(Class<?> sourceEnum, Class<?> destinationEnum) {
+        Class<?> destinationClass = getEnumClass(destinationEnum);
+        Map<String, Object> destinationConstants = nameTable(destinationClass);
+        Object[] sourceConstants = getEnumClass(sourceEnum).getEnumConstants();
+        Object[] table = (Object[]) Array.newInstance(destinationClass, sourceConstants.length);
+        for (int i = 0; i < sourceConstants.length; ++i) {
+            table[i] = destinationConstants.get(((Enum<?>) sourceConstants[i]).name());
+        }
+        return table;
+    }
+    
+    /**
+     * @param table
+     *            an ordinal lookup table
+     * @return true if every source constant has a destination counterpart
+     */
+    public static boolean isComplete(Object[] table) {
+        for (Object constant : table) {
+            if (constant == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Looks up the destination constant in an ordinal lookup table, falling
+     * back to <code>Enum.valueOf</code> (and its exception) when the source
+     * constant has no counterpart.
+     * 
+     * @param table
+     * @param source
+     * @param destinationEnum
+     * @return the destination constant with the name of the source constant
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Object valueOf(Object[] table, Enum<?> source, Class<?> destinationEnum) {
+        Object constant = table[source.ordinal()];
+        return constant != null ? constant : Enum.valueOf((Class<Enum>) getEnumClass(destinationEnum), source.name());
+    }
+    
+    /**
+     * Looks up the destination constant in a name lookup table, falling back
+     * to <code>Enum.valueOf</code> (and its exception) for unknown names.
+     * 
+     * @param table
+     * @param name
+     * @param destinationEnum
+     * @return the destination constant with the specified name
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Object valueOf(Map<String, Object> table, String name, Class<?> destinationEnum) {
+        Object constant = table.get(name);
+        return constant != null ? constant : Enum.valueOf((Class<Enum>) getEnumClass(destinationEnum), name);
+    }
+    
+    /**
+     * Builds the table of the constants of an enumeration keyed by their name.
+     * 
+     * @param enumType
+     * @return the name lookup table
+     */
+    public static Map<String, Object> nameTable(Class<?> enumType) {
+        Object[] constants = getEnumClass(enumType).getEnumConstants();
+        Map<String, Object> table = new HashMap<String, Object>(ClassUtil.hashCapacity(constants.length));
+        for (Object constant : constants) {
+            table.put(((Enum<?>) constant).name(), constant);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import ma.glasnost.orika.MappingException;
+import ma.glasnost.orika.MappingStrategy;
+import ma.glasnost.orika.metadata.MapperKey;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * MappingMetrics is a MappingMetricsListener which aggregates the events it
+ * receives per type pair, per strategy key and per generated mapper, and
+ * which can be exposed as a JMX MBean through {@link #registerMBean(String)}.<br>
+ * Latencies are recorded in a histogram of power-of-two buckets, so the
+ * reported percentiles are upper bounds, within a factor of two.
+ */
+public class MappingMetrics implements MappingMetricsListener, MappingMetricsMBean {
+    
+    private static final double NANOS_PER_MILLI = 1000000.0;
+    
+    private final ConcurrentMap<Type<?>, ConcurrentMap<Type<?>, TypePairMetrics>> typePairs = new ConcurrentHashMap<Type<?>, ConcurrentMap<Type<?>, TypePairMetrics>>();
+    private final ConcurrentMap<MappingStrategy.Key, StrategyCacheMetrics> strategyLookups = new ConcurrentHashMap<MappingStrategy.Key, StrategyCacheMetrics>();
+    private final ConcurrentMap<MapperKey, GenerationMetrics> generations = new ConcurrentHashMap<MapperKey, GenerationMetrics>();
+    
+    public void objectMapped(Type<?> sourceType, Type<?> destinationType, long elapsedNanos) {
+        ConcurrentMap<Type<?>, TypePairMetrics> bySource = typePairs.get(sourceType);
+        if (bySource == null) {
+            bySource = new ConcurrentHashMap<Type<?>, TypePairMetrics>();
+            ConcurrentMap<Type<?>, TypePairMetrics> existing = typePairs.putIfAbsent(sourceType, bySource);
+            if (existing != null) {
+                bySource = existing;
+            }
+        }
+        TypePairMetrics metrics = bySource.get(destinationType);
+        if (metrics == null) {
+            metrics = new TypePairMetrics(sourceType, destinationType);
+            TypePairMetrics existing = bySource.putIfAbsent(destinationType, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        metrics.record(elapsedNanos);
+    }
+    
+    public void strategyLookup(MappingStrategy.Key key, boolean cacheHit) {
+        StrategyCacheMetrics metrics = strategyLookups.get(key);
+        if (metrics == null) {
+            metrics = new StrategyCacheMetrics(key);
+            StrategyCacheMetrics existing = strategyLookups.putIfAbsent(key, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        (cacheHit ? metrics.hits : metrics.misses).increment();
+    }
+    
+    public void mapperGenerated(MapperKey mapperKey, boolean autoGenerated, long elapsedNanos) {
+        GenerationMetrics metrics = generations.get(mapperKey);
+        if (metrics == null) {
+            metrics = new GenerationMetrics(mapperKey);
+            GenerationMetrics existing = generations.putIfAbsent(mapperKey, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        metrics.count.increment();
+        if (autoGenerated) {
+            metrics.autoGenerated.increment();
+        }
+        metrics.totalNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * @return the metrics of every type pair mapped so far, ordered by
+     *         decreasing cumulative mapping time
+     */
+    public List<TypePairMetrics> getTypePairMetrics() {
+        List<TypePairMetrics> result = new ArrayList<TypePairMetrics>();
+        for (ConcurrentMap<Type<?>, TypePairMetrics> bySource : typePairs.values()) {
+            result.addAll(bySource.values());
+        }
+        Collections.sort(result, new Comparator<TypePairMetrics>() {
+            public int compare(TypePairMetrics a, TypePairMetrics b) {
+                return Long.compare(b.getTotalNanos(), a.getTotalNanos());
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * @param sourceType
+     * @param destinationType
+     * @return the metrics of the given type pair, or null if it has not been
+     *         mapped
+     */
+    public TypePairMetrics getTypePairMetrics(Type<?> sourceType, Type<?> destinationType) {
+        ConcurrentMap<Type<?>, TypePairMetrics> bySource = typePairs.get(sourceType);
+        return bySource != null ? bySource.get(destinationType) : null;
+    }
+    
+    /**
+     * @return the strategy cache metrics of every strategy key looked up so
+     *         far
+     */
+    public List<StrategyCacheMetrics> getStrategyCacheMetrics() {
+        return new ArrayList<StrategyCacheMetrics>(strategyLookups.values());
+    }
+    
+    /**
+     * @return the metrics of every mapper generated so far
+     */
+    public List<GenerationMetrics> getGenerationMetrics() {
+        return new ArrayList<GenerationMetrics>(generations.values());
+    }
+    
+    public long getMappingCount() {
+        long count = 0;
+        for (TypePairMetrics metrics : getTypePairMetrics()) {
+            count += metrics.getCount();
+        }
+        return count;
+    }
+    
+    public long getMappingTimeMillis() {
+        long nanos = 0;
+        for (TypePairMetrics metrics : getTypePairMetrics()) {
+            nanos += metrics.getTotalNanos();
+        }
+        return (long) (nanos / NANOS_PER_MILLI);
+    }
+    
+    public long getStrategyCacheHits() {
+        long hits = 0;
+        for (StrategyCacheMetrics metrics : strategyLookups.values()) {
+            hits += metrics.getHits();
+        }
+        return hits;
+    }
+    
+    public long getStrategyCacheMisses() {
+        long misses = 0;
+        for (StrategyCacheMetrics metrics : strategyLookups.values()) {
+            misses += metrics.getMisses();
+        }
+        return misses;
+    }
+    
+    public long getGeneratedMapperCount() {
+        long count = 0;
+        for (GenerationMetrics metrics : generations.values()) {
+            count += metrics.getCount();
+        }
+        return count;
+    }
+    
+    public long getAutoGeneratedMapperCount() {
+        long count = 0;
+        for (GenerationMetrics metrics : generations.values()) {
+            count += metrics.getAutoGeneratedCount();
+        }
+        return count;
+    }
+    
+    public long getGenerationTimeMillis() {
+        long nanos = 0;
+        for (GenerationMetrics metrics : generations.values()) {
+            nanos += metrics.getTotalNanos();
+        }
+        return (long) (nanos / NANOS_PER_MILLI);
+    }
+    
+    public String[] getTypePairs() {
+        List<TypePairMetrics> metrics = getTypePairMetrics();
+        String[] lines = new String[metrics.size()];
+        for (int i = 0; i < lines.length; ++i) {
+            lines[i] = metrics.get(i).toString();
+        }
+        return lines;
+    }
+    
+    public void reset() {
+        typePairs.clear();
+        strategyLookups.clear();
+        generations.clear();
+    }
+    
+    /**
+     * Registers this instance with the platform MBeanServer, under the name
+     * <code>ma.glasnost.orika:type=MappingMetrics,name=<i>name</i></code>
+     * 
+     * @param name
+     *            a name distinguishing this instance from those of other
+     *            MapperFactory instances
+     * @return the ObjectName under which this instance was registered
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName objectName = new ObjectName("ma.glasnost.orika:type=MappingMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new MappingException("Could not register the MappingMetrics MBean '" + name + "'", e);
+        }
+    }
+    
+    /**
+     * The count and latency histogram of the mappings of one type pair
+     */
+    public static final class TypePairMetrics {
+        
+        private static final int BUCKETS = 64;
+        
+        private final Type<?> sourceType;
+        private final Type<?> destinationType;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        /*
+         * Bucket i counts the latencies in [2^i, 2^(i+1)) nanoseconds (bucket
+         * 0 also counts those of 0 nanoseconds)
+         */
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        
+        private TypePairMetrics(Type<?> sourceType, Type<?> destinationType) {
+            this.sourceType = sourceType;
+            this.destinationType = destinationType;
+        }
+        
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            histogram.incrementAndGet(elapsedNanos <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(elapsedNanos) - 1);
+        }
+        
+        public Type<?> getSourceType() {
+            return sourceType;
+        }
+        
+        public Type<?> getDestinationType() {
+            return destinationType;
+        }
+        
+        public long getCount() {
+            return count.sum();
+        }
+        
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+        
+        /**
+         * @param percentile
+         *            the percentile, between 0 and 100
+         * @return an upper bound of the given latency percentile, in
+         *         nanoseconds; 0 if nothing has been recorded
+         */
+        public long getPercentileNanos(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; ++i) {
+                counts[i] = histogram.get(i);
+                total += counts[i];
+            }
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; ++i) {
+                seen += counts[i];
+                if (seen > 0 && seen >= rank) {
+                    return i >= BUCKETS - 2 ? Long.MAX_VALUE : 1L << (i + 1);
+                }
+            }
+            return 0;
+        }
+        
+        public String toString() {
+            return String.format("%s -> %s: count=%d, total=%.1f ms, p50=%.1f us, p99=%.1f us", sourceType, destinationType, getCount(),
+                    getTotalNanos() / NANOS_PER_MILLI, getPercentileNanos(50) / 1000.0, getPercentileNanos(99) / 1000.0);
+        }
+    }
+    
+    /**
+     * The strategy cache hits and misses of one strategy key
+     */
+    public static final class StrategyCacheMetrics {
+        
+        private final MappingStrategy.Key key;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        
+        private StrategyCacheMetrics(MappingStrategy.Key key) {
+            this.key = key;
+        }
+        
+        public MappingStrategy.Key getKey() {
+            return key;
+        }
+        
+        public long getHits() {
+            return hits.sum();
+        }
+        
+        public long getMisses() {
+            return misses.sum();
+        }
+    }
+    
+    /**
+     * The generation count and time of the mapper of one type pair
+     */
+    public static final class GenerationMetrics {
+        
+        private final MapperKey mapperKey;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder autoGenerated = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        
+        private GenerationMetrics(MapperKey mapperKey) {
+            this.mapperKey = mapperKey;
+        }
+        
+        public MapperKey getMapperKey() {
+            return mapperKey;
+        }
+        
+        public long getCount() {
+            return count.sum();
+        }
+        
+        public long getAutoGeneratedCount() {
+            return autoGenerated.sum();
+        }
+        
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.metrics;
+
+import ma.glasnost.orika.MappingStrategy;
+import ma.glasnost.orika.metadata.MapperKey;
+import ma.glasnost.orika.metadata.Type;
+
+/**
+ * MappingMetricsListener receives instrumentation events from a MapperFactory
+ * and the facades it builds; it is registered through
+ * <code>DefaultMapperFactory.Builder.metricsListener()</code> or
+ * <code>DefaultMapperFactory.setMetricsListener()</code>.<br>
+ * Events are delivered on the mapping threads, so implementations must be
+ * thread-safe and cheap. {@link MappingMetrics} is an aggregating
+ * implementation.
+ */
+public interface MappingMetricsListener {
+    
+    /**
+     * Called after an object has been mapped through a MapperFacade or
+     * BoundMapperFacade; the time of nested mappings is included in that of
+     * the enclosing ones.
+     * 
+     * @param sourceType
+     *            the (resolved) type of the source object
+     * @param destinationType
+     *            the (resolved) type of the destination object
+     * @param elapsedNanos
+     *            the time spent mapping the object
+     */
+    void objectMapped(Type<?> sourceType, Type<?> destinationType, long elapsedNanos);
+    
+    /**
+     * Called when a MapperFacade looks up the MappingStrategy for a source
+     * object in its strategy cache.
+     * 
+     * @param key
+     *            the strategy key
+     * @param cacheHit
+     *            whether a cached strategy was found
+     */
+    void strategyLookup(MappingStrategy.Key key, boolean cacheHit);
+    
+    /**
+     * Called after a mapper has been generated and compiled.
+     * 
+     * @param mapperKey
+     *            the type pair of the generated mapper
+     * @param autoGenerated
+     *            whether the mapper was generated on demand, for a type pair
+     *            with no registered class-map
+     * @param elapsedNanos
+     *            the time spent generating and compiling the mapper
+     */
+    void mapperGenerated(MapperKey mapperKey, boolean autoGenerated, long elapsedNanos);
+}
@@ -0,0 +1,73 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.metrics;
+
+/**
+ * The JMX management interface of {@link MappingMetrics}
+ */
+public interface MappingMetricsMBean {
+    
+    /**
+     * @return the number of objects mapped
+     */
+    long getMappingCount();
+    
+    /**
+     * @return the cumulative time spent mapping objects, in milliseconds
+     */
+    long getMappingTimeMillis();
+    
+    /**
+     * @return the number of strategy lookups answered from the strategy cache
+     */
+    long getStrategyCacheHits();
+    
+    /**
+     * @return the number of strategy lookups which had to resolve a strategy
+     */
+    long getStrategyCacheMisses();
+    
+    /**
+     * @return the number of mappers generated
+     */
+    long getGeneratedMapperCount();
+    
+    /**
+     * @return the number of mappers generated on demand
+     */
+    long getAutoGeneratedMapperCount();
+    
+    /**
+     * @return the cumulative time spent generating mappers, in milliseconds
+     */
+    long getGenerationTimeMillis();
+    
+    /**
+     * @return one line per type pair, ordered by decreasing cumulative
+     *         mapping time, giving its count, cumulative time and latency
+     *         percentiles
+     */
+    String[] getTypePairs();
+    
+    /**
+     * Discards all of the recorded metrics
+     */
+    void reset();
+}
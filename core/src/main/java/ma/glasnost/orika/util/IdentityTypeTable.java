@@ -0,0 +1,162 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.util;
+
+/**
+ * IdentityTypeTable maps a (source object, destination type index) pair to the
+ * object it was mapped to, comparing source objects by identity; it is the
+ * cycle-tracking cache of a MappingContext.<br>
+ * All entries live in a single open-addressing (linear probing) table of
+ * parallel arrays, rather than in one identity map per destination type, and
+ * the slots in use are recorded so that {@link #clear()} only visits those
+ * slots instead of the whole table.
+ */
+public class IdentityTypeTable {
+    
+    private static final int DEFAULT_CAPACITY = 32;
+    
+    /**
+     * Stands in for a <code>null</code> source, since an empty slot is marked
+     * by a <code>null</code> key
+     */
+    private static final Object NULL_KEY = new Object();
+    
+    private Object[] keys;
+    private int[] typeIndexes;
+    private Object[] values;
+    /**
+     * The occupied slots, in insertion order
+     */
+    private int[] usedSlots;
+    private int size;
+    
+    /**
+     * @param source
+     *            the source object
+     * @param typeIndex
+     *            the unique index of the destination type
+     * @return the object mapped for the source and destination type, or
+     *         <code>null</code> if none
+     */
+    public Object get(Object source, int typeIndex) {
+        if (size == 0) {
+            return null;
+        }
+        Object key = source == null ? NULL_KEY : source;
+        Object[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int slot = hash(key, typeIndex) & mask;; slot = (slot + 1) & mask) {
+            Object k = keys[slot];
+            if (k == null) {
+                return null;
+            } else if (k == key && typeIndexes[slot] == typeIndex) {
+                return values[slot];
+            }
+        }
+    }
+    
+    /**
+     * Associates the mapped object with the source and destination type,
+     * replacing any previous association
+     * 
+     * @param source
+     *            the source object
+     * @param typeIndex
+     *            the unique index of the destination type
+     * @param value
+     *            the object the source was mapped to
+     */
+    public void put(Object source, int typeIndex, Object value) {
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        Object key = source == null ? NULL_KEY : source;
+        int mask = keys.length - 1;
+        int slot = hash(key, typeIndex) & mask;
+        for (Object k; (k = keys[slot]) != null; slot = (slot + 1) & mask) {
+            if (k == key && typeIndexes[slot] == typeIndex) {
+                values[slot] = value;
+                return;
+            }
+        }
+        keys[slot] = key;
+        typeIndexes[slot] = typeIndex;
+        values[slot] = value;
+        usedSlots[size++] = slot;
+    }
+    
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Removes all entries, keeping the allocated table; only the occupied
+     * slots are cleared, so that the cost is proportional to the number of
+     * entries, not to the capacity of the table
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            int slot = usedSlots[i];
+            keys[slot] = null;
+            values[slot] = null;
+        }
+        size = 0;
+    }
+    
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        typeIndexes = new int[capacity];
+        values = new Object[capacity];
+        usedSlots = new int[capacity / 2];
+    }
+    
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldTypeIndexes = typeIndexes;
+        Object[] oldValues = values;
+        int[] oldUsedSlots = usedSlots;
+        int oldSize = size;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldSize; ++i) {
+            int oldSlot = oldUsedSlots[i];
+            Object key = oldKeys[oldSlot];
+            int typeIndex = oldTypeIndexes[oldSlot];
+            int slot = hash(key, typeIndex) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            typeIndexes[slot] = typeIndex;
+            values[slot] = oldValues[oldSlot];
+            usedSlots[i] = slot;
+        }
+    }
+    
+    private static int hash(Object key, int typeIndex) {
+        int h = (System.identityHashCode(key) * 31 + typeIndex) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.util;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ObjectPool retains a bounded number of idle, reusable instances; objects
+ * offered while the pool is full are simply dropped.
+ * 
+ * @param <T>
+ *            the type of pooled objects
+ */
+public abstract class ObjectPool<T> {
+    
+    /**
+     * The available pooling strategies
+     */
+    public enum Mode {
+        /**
+         * A single (blocking) queue shared by all threads
+         */
+        QUEUE,
+        /**
+         * A small stack of idle objects per thread; pooled objects are never
+         * shared between threads, but are retained by every thread which used
+         * the pool, until it terminates
+         */
+        THREAD_LOCAL,
+        /**
+         * Lock-free slots, striped by thread
+         */
+        STRIPED;
+        
+        /**
+         * Resolves a mode from its name, ignoring case and underscores (so
+         * that both <code>THREAD_LOCAL</code> and <code>threadLocal</code> are
+         * accepted)
+         * 
+         * @param name
+         *            the name of the mode
+         * @return the resolved mode
+         * @throws IllegalArgumentException
+         *             if there is no such mode
+         */
+        public static Mode of(String name) {
+            String normalized = name.replace("_", "").trim();
+            for (Mode mode : values()) {
+                if (mode.name().replace("_", "").equalsIgnoreCase(normalized)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Unknown pool mode: " + name);
+        }
+    }
+    
+    /**
+     * The maximum number of idle objects retained by each thread in
+     * {@link Mode#THREAD_LOCAL} mode
+     */
+    public static final int MAX_PER_THREAD = 4;
+    
+    /**
+     * Creates a new pool
+     * 
+     * @param mode
+     *            the pooling strategy
+     * @param maxSize
+     *            the maximum number of idle objects retained by the pool (by
+     *            each thread, in {@link Mode#THREAD_LOCAL} mode, where it is
+     *            further limited to {@value #MAX_PER_THREAD}); 0 disables
+     *            pooling
+     * @return a new pool
+     */
+    public static <T> ObjectPool<T> create(Mode mode, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Illegal pool size: " + maxSize);
+        }
+        switch (mode) {
+        case THREAD_LOCAL:
+            return new ThreadLocalPool<T>(Math.min(maxSize, MAX_PER_THREAD));
+        case STRIPED:
+            return new StripedPool<T>(maxSize);
+        default:
+            return new QueuePool<T>(maxSize);
+        }
+    }
+    
+    /**
+     * @return an idle object, or <code>null</code> if none is available
+     */
+    public abstract T poll();
+    
+    /**
+     * Returns an object to the pool
+     * 
+     * @param object
+     *            the idle object
+     * @return true if the object was retained, false if the pool is full
+     */
+    public abstract boolean offer(T object);
+    
+    private static final class QueuePool<T> extends ObjectPool<T> {
+        
+        private final LinkedBlockingQueue<T> queue;
+        
+        QueuePool(int maxSize) {
+            this.queue = maxSize > 0 ? new LinkedBlockingQueue<T>(maxSize) : null;
+        }
+        
+        public T poll() {
+            return queue != null ? queue.poll() : null;
+        }
+        
+        public boolean offer(T object) {
+            return queue != null && queue.offer(object);
+        }
+    }
+    
+    private static final class ThreadLocalPool<T> extends ObjectPool<T> {
+        
+        private final int maxSize;
+        private final ThreadLocal<Stack> stacks = new ThreadLocal<Stack>() {
+            @Override
+            protected Stack initialValue() {
+                return new Stack(maxSize);
+            }
+        };
+        
+        ThreadLocalPool(int maxSize) {
+            this.maxSize = maxSize;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public T poll() {
+            Stack stack = stacks.get();
+            return stack.size > 0 ? (T) stack.pop() : null;
+        }
+        
+        public boolean offer(T object) {
+            Stack stack = stacks.get();
+            if (stack.size == stack.objects.length) {
+                return false;
+            }
+            stack.objects[stack.size++] = object;
+            return true;
+        }
+        
+        private static final class Stack {
+            final Object[] objects;
+            int size;
+            
+            Stack(int capacity) {
+                this.objects = new Object[capacity];
+            }
+            
+            Object pop() {
+                Object object = objects[--size];
+                objects[size] = null;
+                return object;
+            }
+        }
+    }
+    
+    private static final class StripedPool<T> extends ObjectPool<T> {
+        
+        /*
+         * Each thread probes the slots of its own stripe only, so that idle
+         * objects are found without scanning the whole pool; stripes have at
+         * least MIN_STRIPE_SIZE slots (when the pool is large enough), as
+         * nested mappings use several objects from the same thread
+         */
+        private static final int MIN_STRIPE_SIZE = 4;
+        
+        private final AtomicReferenceArray<T> slots;
+        private final int stripeMask;
+        private final int slotsPerStripe;
+        
+        StripedPool(int maxSize) {
+            int stripes = 1;
+            int maxStripes = Math.min(maxSize / MIN_STRIPE_SIZE, Runtime.getRuntime().availableProcessors() * 2);
+            while (stripes * 2 <= maxStripes) {
+                stripes *= 2;
+            }
+            this.stripeMask = stripes - 1;
+            this.slotsPerStripe = maxSize / stripes;
+            this.slots = new AtomicReferenceArray<T>(stripes * slotsPerStripe);
+        }
+        
+        private int firstSlot() {
+            long id = Thread.currentThread().getId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return ((hash ^ (hash >>> 16)) & stripeMask) * slotsPerStripe;
+        }
+        
+        public T poll() {
+            for (int i = firstSlot(), end = i + slotsPerStripe; i < end; ++i) {
+                T object = slots.get(i);
+                if (object != null && slots.compareAndSet(i, object, null)) {
+                    return object;
+                }
+            }
+            return null;
+        }
+        
+        public boolean offer(T object) {
+            for (int i = firstSlot(), end = i + slotsPerStripe; i < end; ++i) {
+                if (slots.get(i) == null && slots.compareAndSet(i, null, object)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.aot;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.impl.generator.CompilerStrategy;
+import ma.glasnost.orika.impl.generator.JavassistCompilerStrategy;
+import ma.glasnost.orika.impl.generator.SourceCodeContext;
+
+/**
+ * Verifies that the classes cached in the configured class cache directory
+ * are loaded instead of compiled, as long as their fingerprint matches.
+ */
+public class ClassCacheTestCase {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testCachedClassesAreLoaded() throws Exception {
+        File cacheDirectory = temporaryFolder.newFolder();
+        
+        CountingCompilerStrategy compiler = new CountingCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        Assert.assertTrue(compiler.compiled.get() > 0);
+        Assert.assertEquals(compiler.compiled.get(), cacheDirectory.listFiles().length);
+        
+        compiler = new CountingCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        Assert.assertEquals(0, compiler.compiled.get());
+    }
+    
+    @Test
+    public void testChangedClassMapIsCompiled() throws Exception {
+        File cacheDirectory = temporaryFolder.newFolder();
+        
+        CountingCompilerStrategy compiler = new CountingCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        int entries = cacheDirectory.listFiles().length;
+        
+        compiler = new CountingCompilerStrategy();
+        MapperFactory factory = newFactory(compiler, cacheDirectory, false);
+        Invoice invoice = newInvoice();
+        InvoiceDto dto = factory.getMapperFacade().map(invoice, InvoiceDto.class);
+        Assert.assertEquals(invoice.number, dto.number);
+        Assert.assertNull(dto.customerName);
+        Assert.assertTrue(compiler.compiled.get() > 0);
+        Assert.assertEquals(entries + compiler.compiled.get(), cacheDirectory.listFiles().length);
+    }
+    
+    @Test
+    public void testInvalidEntryIsReplaced() throws Exception {
+        File cacheDirectory = temporaryFolder.newFolder();
+        
+        CountingCompilerStrategy compiler = new CountingCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        int compiled = compiler.compiled.get();
+        for (File entry : cacheDirectory.listFiles()) {
+            OutputStream out = new FileOutputStream(entry);
+            try {
+                out.write(new byte[] { 1, 2, 3 });
+            } finally {
+                out.close();
+            }
+        }
+        
+        compiler = new CountingCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        Assert.assertEquals(compiled, compiler.compiled.get());
+        for (File entry : cacheDirectory.listFiles()) {
+            Assert.assertTrue(entry.length() > 3);
+        }
+    }
+    
+    @Test
+    public void testCacheIsBypassedWithoutBytecodeSupport() throws Exception {
+        File cacheDirectory = temporaryFolder.newFolder();
+        assertMapsInvoice(newFactory(new CountingCompilerStrategy(), cacheDirectory, true));
+        int entries = cacheDirectory.listFiles().length;
+        
+        SourceOnlyCompilerStrategy compiler = new SourceOnlyCompilerStrategy();
+        assertMapsInvoice(newFactory(compiler, cacheDirectory, true));
+        Assert.assertTrue(compiler.compiled.get() > 0);
+        Assert.assertEquals(entries, cacheDirectory.listFiles().length);
+    }
+    
+    private static MapperFactory newFactory(CompilerStrategy compiler, File cacheDirectory, boolean mapCustomer) {
+        MapperFactory factory = new DefaultMapperFactory.Builder().compilerStrategy(compiler)
+                .classCacheDirectory(cacheDirectory)
+                .usePrecompiledClasses(false)
+                .build();
+        if (mapCustomer) {
+            factory.classMap(Invoice.class, InvoiceDto.class).field("customer", "customerName").byDefault().register();
+        } else {
+            factory.classMap(Invoice.class, InvoiceDto.class).byDefault().register();
+        }
+        return factory;
+    }
+    
+    private static Invoice newInvoice() {
+        Invoice invoice = new Invoice();
+        invoice.number = 1234L;
+        invoice.customer = "customer";
+        return invoice;
+    }
+    
+    private static void assertMapsInvoice(MapperFactory factory) {
+        Invoice invoice = newInvoice();
+        InvoiceDto dto = factory.getMapperFacade().map(invoice, InvoiceDto.class);
+        Assert.assertEquals(invoice.number, dto.number);
+        Assert.assertEquals(invoice.customer, dto.customerName);
+    }
+    
+    public static class CountingCompilerStrategy extends JavassistCompilerStrategy {
+        
+        final AtomicInteger compiled = new AtomicInteger();
+        
+        @Override
+        public byte[] compileBytecode(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+            compiled.incrementAndGet();
+            return super.compileBytecode(sourceCode);
+        }
+    }
+    
+    /**
+     * Compiles classes directly, without bytecode support
+     */
+    public static class SourceOnlyCompilerStrategy extends JavassistCompilerStrategy {
+        
+        final AtomicInteger compiled = new AtomicInteger();
+        
+        @Override
+        public boolean supportsBytecode() {
+            return false;
+        }
+        
+        @Override
+        public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+            compiled.incrementAndGet();
+            return super.compileClass(sourceCode);
+        }
+        
+        @Override
+        public byte[] compileBytecode(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public Class<?> defineClass(byte[] bytecode) throws SourceCodeGenerationException {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    public static class Invoice {
+        public long number;
+        public String customer;
+    }
+    
+    public static class InvoiceDto {
+        public long number;
+        public String customerName;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.aot;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.OrikaSystemProperties;
+import ma.glasnost.orika.aot.MapperPrecompiler;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.impl.generator.JavassistCompilerStrategy;
+import ma.glasnost.orika.impl.generator.PrecompiledCompilerStrategy;
+import ma.glasnost.orika.impl.generator.SourceCodeContext;
+
+/**
+ * Verifies that classes generated ahead-of-time by {@link MapperPrecompiler}
+ * are loaded instead of compiled.
+ */
+public class PrecompiledMapperTestCase {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testPrecompiledClassesAreLoaded() throws Exception {
+        File outputDirectory = temporaryFolder.newFolder();
+        String compilerStrategyProperty = System.getProperty(OrikaSystemProperties.COMPILER_STRATEGY);
+        int count = new MapperPrecompiler(outputDirectory).precompile(Collections.<Class<?>> singletonList(OrderMapperFactory.class));
+        Assert.assertTrue(count > 0);
+        
+        Properties index = new Properties();
+        InputStream in = new FileInputStream(new File(outputDirectory, PrecompiledCompilerStrategy.INDEX_RESOURCE));
+        try {
+            index.load(in);
+        } finally {
+            in.close();
+        }
+        Assert.assertEquals(count, index.size());
+        for (String fingerprint : index.stringPropertyNames()) {
+            String classFile = index.getProperty(fingerprint).replace('.', File.separatorChar) + ".class";
+            Assert.assertTrue(classFile, new File(outputDirectory, classFile).isFile());
+        }
+        Assert.assertEquals(compilerStrategyProperty, System.getProperty(OrikaSystemProperties.COMPILER_STRATEGY));
+        
+        CountingCompilerStrategy compiler = new CountingCompilerStrategy();
+        PrecompiledCompilerStrategy precompiled = new PrecompiledCompilerStrategy(compiler, new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader()));
+        Assert.assertEquals(count, precompiled.getPrecompiledClassCount());
+        
+        MapperFactory factory = OrderMapperFactory.configure(OrderMapperFactory.newBuilder().compilerStrategy(precompiled).build());
+        Order order = new Order();
+        order.id = 42L;
+        order.customer = "customer";
+        OrderDto dto = factory.getMapperFacade().map(order, OrderDto.class);
+        
+        Assert.assertEquals(42L, dto.id);
+        Assert.assertEquals("customer", dto.customerName);
+        Assert.assertEquals(0, compiler.compiled.get());
+    }
+    
+    @Test
+    public void testMissingClassesAreCompiled() throws Exception {
+        CountingCompilerStrategy compiler = new CountingCompilerStrategy();
+        PrecompiledCompilerStrategy precompiled = new PrecompiledCompilerStrategy(compiler);
+        
+        MapperFactory factory = OrderMapperFactory.configure(OrderMapperFactory.newBuilder().compilerStrategy(precompiled).build());
+        Order order = new Order();
+        order.id = 7L;
+        Assert.assertEquals(7L, factory.getMapperFacade().map(order, OrderDto.class).id);
+        Assert.assertTrue(compiler.compiled.get() > 0);
+    }
+    
+    public static class OrderMapperFactory implements Callable<MapperFactory> {
+        
+        static DefaultMapperFactory.Builder newBuilder() {
+            return new DefaultMapperFactory.Builder();
+        }
+        
+        static MapperFactory configure(MapperFactory factory) {
+            factory.classMap(Order.class, OrderDto.class).field("customer", "customerName").byDefault().register();
+            return factory;
+        }
+        
+        public MapperFactory call() {
+            return configure(newBuilder().build());
+        }
+    }
+    
+    public static class CountingCompilerStrategy extends JavassistCompilerStrategy {
+        
+        final AtomicInteger compiled = new AtomicInteger();
+        
+        @Override
+        public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+            compiled.incrementAndGet();
+            return super.compileClass(sourceCode);
+        }
+    }
+    
+    public static class Order {
+        public long id;
+        public String customer;
+    }
+    
+    public static class OrderDto {
+        public long id;
+        public String customerName;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.array;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class PrimitiveArrayTestCase {
+    
+    public static class Samples {
+        public double[] values;
+        public int[] counts;
+        public char[] codes;
+        public long[] totals;
+    }
+    
+    public static class SamplesCopy {
+        public double[] values;
+        public long[] counts;
+        public int[] codes;
+        public int[] totals;
+    }
+    
+    public static class SampleLists {
+        public Set<Double> values;
+        public List<Number> counts;
+        public List<Character> codes;
+        public List<Long> totals;
+    }
+    
+    private static Samples newSamples() {
+        Samples samples = new Samples();
+        samples.values = new double[] { 0.5, 1.5, -2.25 };
+        samples.counts = new int[] { 1, Integer.MAX_VALUE, -3 };
+        samples.codes = new char[] { 'a', 'z' };
+        samples.totals = new long[] { 7L, 8L };
+        return samples;
+    }
+    
+    @Test
+    public void testPrimitiveArrayToPrimitiveArray() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Samples source = newSamples();
+        
+        SamplesCopy result = mapper.map(source, SamplesCopy.class);
+        
+        Assert.assertArrayEquals(source.values, result.values, 0d);
+        Assert.assertNotSame(source.values, result.values);
+        Assert.assertArrayEquals(new long[] { 1L, Integer.MAX_VALUE, -3L }, result.counts);
+        Assert.assertArrayEquals(new int[] { 'a', 'z' }, result.codes);
+        Assert.assertArrayEquals(new int[] { 7, 8 }, result.totals);
+    }
+    
+    @Test
+    public void testEmptyAndNullPrimitiveArrays() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Samples source = new Samples();
+        source.values = new double[0];
+        
+        SamplesCopy result = mapper.map(source, SamplesCopy.class);
+        
+        Assert.assertEquals(0, result.values.length);
+        Assert.assertNull(result.counts);
+        Assert.assertNull(result.codes);
+    }
+    
+    @Test
+    public void testPrimitiveArrayToCollection() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Samples source = newSamples();
+        
+        SampleLists result = mapper.map(source, SampleLists.class);
+        
+        Assert.assertEquals(new TreeSet<Double>(Arrays.asList(-2.25, 0.5, 1.5)), new TreeSet<Double>(result.values));
+        Assert.assertEquals(Arrays.<Number> asList(1, Integer.MAX_VALUE, -3), result.counts);
+        Assert.assertEquals(Arrays.asList('a', 'z'), result.codes);
+        Assert.assertEquals(Arrays.asList(7L, 8L), result.totals);
+    }
+}
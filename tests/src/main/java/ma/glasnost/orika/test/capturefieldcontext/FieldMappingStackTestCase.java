@@ -0,0 +1,73 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.capturefieldcontext;
+
+import java.util.HashMap;
+
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FieldMappingStackTestCase {
+    
+    private static final Type<String> STRING = TypeFactory.valueOf(String.class);
+    private static final Type<Integer> INTEGER = TypeFactory.valueOf(Integer.class);
+    
+    @Test
+    public void testNestedFieldsBeyondInitialDepth() {
+        MappingContext context = new MappingContext(new HashMap<Object, Object>());
+        Assert.assertNull(context.getFullyQualifiedSourcePath());
+        
+        int depth = 20;
+        StringBuilder sourcePath = new StringBuilder("source");
+        StringBuilder destPath = new StringBuilder("destination");
+        for (int i = 0; i < depth; ++i) {
+            context.beginMappingField("s" + i, STRING, "source" + i, "d" + i, INTEGER, i);
+            sourcePath.append(".s").append(i);
+            destPath.append(".d").append(i);
+        }
+        
+        Assert.assertEquals(sourcePath.toString(), context.getFullyQualifiedSourcePath());
+        Assert.assertEquals(destPath.toString(), context.getFullyQualifiedDestinationPath());
+        Assert.assertEquals(depth, context.getSourceExpressionPaths().length);
+        Assert.assertEquals("s3", context.getSourceExpressionPaths()[3]);
+        Assert.assertEquals("d19", context.getDestinationExpressionPaths()[19]);
+        Assert.assertEquals("source7", context.getSourceObjects()[7]);
+        Assert.assertEquals(Integer.valueOf(11), context.getDestinationObjects()[11]);
+        Assert.assertEquals(STRING, context.getSourceTypePaths()[0]);
+        Assert.assertEquals(INTEGER, context.getDestinationTypePaths()[depth - 1]);
+        
+        for (int i = depth - 1; i >= 2; --i) {
+            context.endMappingField();
+        }
+        Assert.assertEquals("source.s0.s1", context.getFullyQualifiedSourcePath());
+        Assert.assertArrayEquals(new Object[] { 0, 1 }, context.getDestinationObjects());
+        
+        context.beginMappingField("x", STRING, "x", "y", STRING, "y");
+        Assert.assertEquals("destination.d0.d1.y", context.getFullyQualifiedDestinationPath());
+        
+        context.reset();
+        Assert.assertEquals("source", context.getFullyQualifiedSourcePath());
+        Assert.assertEquals(0, context.getSourceObjects().length);
+    }
+}
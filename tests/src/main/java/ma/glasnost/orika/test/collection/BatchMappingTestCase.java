@@ -0,0 +1,178 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class BatchMappingTestCase {
+    
+    private static final Type<Row> ROW = TypeFactory.valueOf(Row.class);
+    private static final Type<RowDto> ROW_DTO = TypeFactory.valueOf(RowDto.class);
+    
+    public static class Row {
+        public long id;
+        public String label;
+    }
+    
+    public static class WideRow extends Row {
+        public String extra;
+    }
+    
+    public static class OtherRow extends Row {
+        public int weight;
+    }
+    
+    public static class ThirdRow extends Row {
+    }
+    
+    public static class RowDto {
+        public long id;
+        public String label;
+    }
+    
+    public static class WideRowDto extends RowDto {
+        public String extra;
+    }
+    
+    private static <R extends Row> R row(R row, long id) {
+        row.id = id;
+        row.label = "row" + id;
+        return row;
+    }
+    
+    @Test
+    public void testMapAllSkipsNulls() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        List<Row> rows = Arrays.asList(row(new Row(), 1), null, row(new Row(), 2));
+        
+        List<RowDto> result = mapper.mapAll(rows, ROW, ROW_DTO);
+        
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(1, result.get(0).id);
+        Assert.assertEquals("row2", result.get(1).label);
+        Assert.assertNull(mapper.mapAll((Iterable<Row>) null, ROW, ROW_DTO));
+    }
+    
+    @Test
+    public void testMapAllResolvesEachRuntimeClass() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Row.class, RowDto.class).byDefault().register();
+        factory.classMap(WideRow.class, WideRowDto.class).use(Row.class, RowDto.class).byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        WideRow wide = row(new WideRow(), 2);
+        wide.extra = "x";
+        Row[] rows = { row(new Row(), 1), wide, row(new OtherRow(), 3), row(new ThirdRow(), 4), row(new WideRow(), 5) };
+        
+        List<RowDto> result = mapper.mapAll(rows, ROW, ROW_DTO);
+        
+        Assert.assertEquals(5, result.size());
+        Assert.assertEquals(RowDto.class, result.get(0).getClass());
+        Assert.assertEquals(WideRowDto.class, result.get(1).getClass());
+        Assert.assertEquals("x", ((WideRowDto) result.get(1)).extra);
+        Assert.assertEquals(RowDto.class, result.get(2).getClass());
+        Assert.assertEquals(RowDto.class, result.get(3).getClass());
+        Assert.assertEquals(WideRowDto.class, result.get(4).getClass());
+        for (int i = 0; i < rows.length; ++i) {
+            Assert.assertEquals(rows[i].label, result.get(i).label);
+        }
+    }
+    
+    @Test
+    public void testMapAllIntoSuppliedList() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Iterator<Row> rows = Arrays.asList(row(new Row(), 1), row(new Row(), 2)).iterator();
+        
+        List<RowDto> result = mapper.mapAll(rows, ROW, ROW_DTO, new Supplier<List<RowDto>>() {
+            public List<RowDto> get() {
+                return new LinkedList<RowDto>();
+            }
+        });
+        
+        Assert.assertTrue(result instanceof LinkedList);
+        Assert.assertEquals(2, result.size());
+    }
+    
+    @Test
+    public void testMapIntoKeepsPositions() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Row[] rows = { row(new Row(), 1), null, row(new Row(), 3) };
+        RowDto[] destination = new RowDto[4];
+        
+        Assert.assertEquals(3, mapper.mapInto(rows, destination, ROW, ROW_DTO));
+        
+        Assert.assertEquals(1, destination[0].id);
+        Assert.assertNull(destination[1]);
+        Assert.assertEquals(3, destination[2].id);
+        Assert.assertNull(destination[3]);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapIntoRejectsShortDestination() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        mapper.mapInto(new Row[] { row(new Row(), 1), row(new Row(), 2) }, new RowDto[1], ROW, ROW_DTO);
+    }
+    
+    @Test
+    public void testMapIntoFromIterator() {
+        MappingContext.Factory contextFactory = new MappingContext.Factory();
+        MapperFacade mapper = new DefaultMapperFactory.Builder().mappingContextFactory(contextFactory).build().getMapperFacade();
+        RowDto[] destination = new RowDto[3];
+        MappingContext context = contextFactory.getContext();
+        Row shared = row(new Row(), 7);
+        
+        int count = mapper.mapInto(Arrays.asList(shared, shared).iterator(), destination, ROW, ROW_DTO, context);
+        
+        Assert.assertEquals(2, count);
+        Assert.assertSame(destination[0], destination[1]);
+        Assert.assertNull(destination[2]);
+    }
+    
+    @Test
+    public void testBoundMapperBatch() {
+        BoundMapperFacade<Row, RowDto> mapper = MappingUtil.getMapperFactory().getMapperFacade(Row.class, RowDto.class);
+        Row[] rows = { row(new Row(), 1), null, row(new Row(), 3) };
+        
+        List<RowDto> list = mapper.mapAll(Arrays.asList(rows));
+        RowDto[] array = new RowDto[3];
+        int count = mapper.mapInto(rows, array);
+        
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(3, list.get(1).id);
+        Assert.assertEquals(3, count);
+        Assert.assertNull(array[1]);
+        Assert.assertEquals("row3", array[2].label);
+    }
+}
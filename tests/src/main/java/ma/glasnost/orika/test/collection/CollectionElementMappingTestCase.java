@@ -0,0 +1,105 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class CollectionElementMappingTestCase {
+    
+    public static class Item {
+        public String name;
+    }
+    
+    public static class SpecialItem extends Item {
+        public int priority;
+    }
+    
+    public static class ItemDto {
+        public String name;
+    }
+    
+    public static class SpecialItemDto extends ItemDto {
+        public int priority;
+    }
+    
+    public static class Basket {
+        public List<Item> items;
+    }
+    
+    public static class BasketDto {
+        public Set<ItemDto> items;
+    }
+    
+    private static Item newItem(String name) {
+        Item item = new Item();
+        item.name = name;
+        return item;
+    }
+    
+    @Test
+    public void testNullElementsAreSkipped() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Basket basket = new Basket();
+        basket.items = Arrays.asList(newItem("a"), null, newItem("b"));
+        
+        BasketDto result = mapper.map(basket, BasketDto.class);
+        
+        Assert.assertEquals(2, result.items.size());
+        Assert.assertTrue(result.items instanceof LinkedHashSet);
+        List<String> names = new ArrayList<String>();
+        for (ItemDto item : result.items) {
+            names.add(item.name);
+        }
+        Assert.assertEquals(Arrays.asList("a", "b"), names);
+    }
+    
+    @Test
+    public void testElementsAreMappedByRuntimeType() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Item.class, ItemDto.class).byDefault().register();
+        factory.classMap(SpecialItem.class, SpecialItemDto.class).use(Item.class, ItemDto.class).byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        SpecialItem special = new SpecialItem();
+        special.name = "special";
+        special.priority = 3;
+        Basket basket = new Basket();
+        basket.items = Arrays.<Item> asList(newItem("plain"), special);
+        
+        BasketDto result = mapper.map(basket, BasketDto.class);
+        
+        Assert.assertEquals(2, result.items.size());
+        ItemDto[] items = result.items.toArray(new ItemDto[0]);
+        Assert.assertEquals(ItemDto.class, items[0].getClass());
+        Assert.assertEquals(SpecialItemDto.class, items[1].getClass());
+        Assert.assertEquals(3, ((SpecialItemDto) items[1]).priority);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.CustomMapper;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeBuilder;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class LazyMappingTestCase {
+    
+    public static class Item {
+        public int id;
+    }
+    
+    public static class ItemDto {
+        public int id;
+    }
+    
+    /**
+     * Builds a mapper which records the ids of the items it maps
+     */
+    private static MapperFacade countingMapper(final List<Integer> mappedIds) {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Item.class, ItemDto.class).byDefault().customize(new CustomMapper<Item, ItemDto>() {
+            @Override
+            public void mapAtoB(Item a, ItemDto b, MappingContext context) {
+                mappedIds.add(a.id);
+            }
+        }).register();
+        return factory.getMapperFacade();
+    }
+    
+    private static List<Item> items(int size) {
+        List<Item> items = new ArrayList<Item>(size);
+        for (int i = 0; i < size; ++i) {
+            Item item = new Item();
+            item.id = i;
+            items.add(item);
+        }
+        return items;
+    }
+    
+    @Test
+    public void testListElementsAreMappedOnAccess() {
+        List<Integer> mappedIds = new ArrayList<Integer>();
+        MapperFacade mapper = countingMapper(mappedIds);
+        
+        List<ItemDto> result = mapper.mapAsLazyList(items(500), ItemDto.class);
+        
+        Assert.assertEquals(500, result.size());
+        Assert.assertTrue(mappedIds.isEmpty());
+        Assert.assertEquals(42, result.get(42).id);
+        Assert.assertSame(result.get(42), result.get(42));
+        for (ItemDto dto : result.subList(0, 20)) {
+            Assert.assertNotNull(dto);
+        }
+        Assert.assertEquals(21, mappedIds.size());
+    }
+    
+    @Test
+    public void testListIsReadOnlySnapshot() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        List<Item> source = items(3);
+        source.add(null);
+        
+        List<ItemDto> result = mapper.mapAsLazyList(source, TypeFactory.valueOf(Item.class), TypeFactory.valueOf(ItemDto.class));
+        List<ItemDto> eager = mapper.mapAsList(source, TypeFactory.valueOf(Item.class), TypeFactory.valueOf(ItemDto.class));
+        source.clear();
+        
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(2, result.get(2).id);
+        Assert.assertEquals(eager.size(), result.size());
+        try {
+            result.add(new ItemDto());
+            Assert.fail("the view should be read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testMapValuesAreMappedOnAccess() {
+        List<Integer> mappedIds = new ArrayList<Integer>();
+        MapperFacade mapper = countingMapper(mappedIds);
+        Map<String, Item> source = new LinkedHashMap<String, Item>();
+        for (Item item : items(5)) {
+            source.put("item" + item.id, item);
+        }
+        Type<Map<String, Item>> sourceType = new TypeBuilder<Map<String, Item>>() {}.build();
+        Type<Map<String, ItemDto>> destinationType = new TypeBuilder<Map<String, ItemDto>>() {}.build();
+        
+        Map<String, ItemDto> result = mapper.mapAsLazyMap(source, sourceType, destinationType);
+        
+        Assert.assertEquals(5, result.size());
+        Assert.assertTrue(result.containsKey("item4"));
+        Assert.assertTrue(mappedIds.isEmpty());
+        Assert.assertEquals(3, result.get("item3").id);
+        Assert.assertSame(result.get("item3"), result.get("item3"));
+        Assert.assertNull(result.get("missing"));
+        Assert.assertEquals(Arrays.asList(3), mappedIds);
+        
+        Iterator<Map.Entry<String, ItemDto>> entries = result.entrySet().iterator();
+        Map.Entry<String, ItemDto> first = entries.next();
+        Assert.assertEquals("item0", first.getKey());
+        Assert.assertEquals(0, first.getValue().id);
+        Assert.assertEquals(Arrays.asList(3, 0), mappedIds);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.CustomMapper;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class ParallelMappingTestCase {
+    
+    private static final Type<Row> ROW = TypeFactory.valueOf(Row.class);
+    private static final Type<RowDto> ROW_DTO = TypeFactory.valueOf(RowDto.class);
+    
+    public static class Row {
+        public int id;
+        public String label;
+    }
+    
+    public static class RowDto {
+        public int id;
+        public String label;
+    }
+    
+    private static List<Row> newRows(int size) {
+        List<Row> rows = new ArrayList<Row>(size);
+        for (int i = 0; i < size; ++i) {
+            Row row = new Row();
+            row.id = i;
+            row.label = "row" + i;
+            rows.add(i % 100 == 99 ? null : row);
+        }
+        return rows;
+    }
+    
+    private static void assertMapped(List<Row> rows, List<RowDto> result) {
+        int i = 0;
+        for (Row row : rows) {
+            if (row != null) {
+                RowDto dto = result.get(i++);
+                Assert.assertEquals(row.id, dto.id);
+                Assert.assertEquals(row.label, dto.label);
+            }
+        }
+        Assert.assertEquals(i, result.size());
+    }
+    
+    @Test
+    public void testOrderIsPreservedOnCommonPool() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        List<Row> rows = newRows(10000);
+        
+        assertMapped(rows, mapper.mapAsListParallel(rows, ROW, ROW_DTO));
+    }
+    
+    @Test
+    public void testOrderIsPreservedOnExecutor() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        List<Row> rows = newRows(10000);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertMapped(rows, mapper.mapAsListParallel(rows, ROW, ROW_DTO, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void testFirstChunkIsMappedOnCallingThreadOfForkJoinPool() {
+        final AtomicReference<Thread> firstRowThread = new AtomicReference<Thread>();
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Row.class, RowDto.class).byDefault().customize(new CustomMapper<Row, RowDto>() {
+            @Override
+            public void mapAtoB(Row a, RowDto b, MappingContext context) {
+                if (a.id == 0) {
+                    firstRowThread.set(Thread.currentThread());
+                }
+            }
+        }).register();
+        List<Row> rows = newRows(10000);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertMapped(rows, factory.getMapperFacade().mapAsListParallel(rows, ROW, ROW_DTO, pool));
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertSame(Thread.currentThread(), firstRowThread.get());
+    }
+    
+    @Test
+    public void testSmallSourceIsMappedSequentially() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        List<Row> rows = newRows(50);
+        
+        assertMapped(rows, mapper.mapAsListParallel(rows, ROW, ROW_DTO));
+        Assert.assertNull(mapper.mapAsListParallel(null, ROW, ROW_DTO));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testFailureIsRethrown() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Row.class, RowDto.class).byDefault().customize(new CustomMapper<Row, RowDto>() {
+            @Override
+            public void mapAtoB(Row a, RowDto b, MappingContext context) {
+                if (a.id == 5000) {
+                    throw new IllegalStateException("row " + a.id);
+                }
+            }
+        }).register();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            factory.getMapperFacade().mapAsListParallel(newRows(10000), ROW, ROW_DTO, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
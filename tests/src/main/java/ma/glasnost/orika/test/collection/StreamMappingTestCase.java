@@ -0,0 +1,218 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.MappingContextFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class StreamMappingTestCase {
+    
+    private static final Type<Row> ROW = TypeFactory.valueOf(Row.class);
+    private static final Type<RowDto> ROW_DTO = TypeFactory.valueOf(RowDto.class);
+    
+    public static class Tag {
+        public String name;
+    }
+    
+    public static class Row {
+        public int id;
+        public Tag tag;
+    }
+    
+    public static class RowDto {
+        public int id;
+        public Tag tag;
+    }
+    
+    public static class TagDto {
+        public String name;
+    }
+    
+    public static class TaggedRowDto {
+        public int id;
+        public TagDto tag;
+    }
+    
+    /**
+     * Counts the contexts which were obtained and not yet released
+     */
+    public static class CountingContextFactory implements MappingContextFactory {
+        
+        private final MappingContextFactory delegate = new MappingContext.Factory();
+        final AtomicInteger outstanding = new AtomicInteger();
+        
+        public MappingContext getContext() {
+            outstanding.incrementAndGet();
+            return delegate.getContext();
+        }
+        
+        public void release(MappingContext context) {
+            outstanding.decrementAndGet();
+            delegate.release(context);
+        }
+        
+        public Map<Object, Object> getGlobalProperties() {
+            return delegate.getGlobalProperties();
+        }
+    }
+    
+    private static Row row(int id) {
+        Row row = new Row();
+        row.id = id;
+        return row;
+    }
+    
+    /**
+     * Generates rows on demand, counting how many have been requested
+     */
+    private static Stream<Row> rows(int size, final AtomicInteger generated) {
+        return IntStream.range(0, size).mapToObj(new IntFunction<Row>() {
+            public Row apply(int id) {
+                generated.incrementAndGet();
+                return row(id);
+            }
+        });
+    }
+    
+    @Test
+    public void testStreamIsMappedLazily() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        AtomicInteger generated = new AtomicInteger();
+        
+        Stream<RowDto> result = mapper.mapAsStream(rows(1000000, generated), ROW, ROW_DTO);
+        Assert.assertEquals(0, generated.get());
+        List<RowDto> firstRows = result.limit(3).collect(Collectors.<RowDto> toList());
+        
+        Assert.assertEquals(3, firstRows.size());
+        Assert.assertEquals(2, firstRows.get(2).id);
+        Assert.assertTrue(generated.get() < 10);
+    }
+    
+    @Test
+    public void testContextsAreReleasedWhenStreamIsClosed() {
+        CountingContextFactory contextFactory = new CountingContextFactory();
+        MapperFacade mapper = new DefaultMapperFactory.Builder().mappingContextFactory(contextFactory).build().getMapperFacade();
+        
+        try (Stream<RowDto> result = mapper.mapAsStream(rows(1000, new AtomicInteger()), ROW, ROW_DTO)) {
+            Assert.assertEquals(0, result.findFirst().get().id);
+        }
+        Assert.assertEquals(0, contextFactory.outstanding.get());
+        
+        try (Stream<RowDto> result = mapper.mapAsStream(rows(10000, new AtomicInteger()).parallel(), ROW, ROW_DTO)) {
+            Assert.assertTrue(result.anyMatch(new Predicate<RowDto>() {
+                public boolean test(RowDto dto) {
+                    return dto.id == 5000;
+                }
+            }));
+        }
+        Assert.assertEquals(0, contextFactory.outstanding.get());
+        
+        Assert.assertEquals(1000, mapper.mapAsStream(rows(1000, new AtomicInteger()), ROW, ROW_DTO).count());
+        Assert.assertEquals(0, contextFactory.outstanding.get());
+    }
+    
+    @Test
+    public void testNullElementsAreMappedToNull() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        List<RowDto> result = mapper.mapAsStream(Stream.of(row(1), null, row(3)), RowDto.class).collect(Collectors.<RowDto> toList());
+        
+        Assert.assertEquals(3, result.size());
+        Assert.assertNull(result.get(1));
+        Assert.assertEquals(3, result.get(2).id);
+    }
+    
+    @Test
+    public void testParallelStream() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        List<RowDto> result = mapper.mapAsStream(rows(10000, new AtomicInteger()).parallel(), ROW, ROW_DTO)
+                .collect(Collectors.<RowDto> toList());
+        
+        Assert.assertEquals(10000, result.size());
+        for (int i = 0; i < result.size(); ++i) {
+            Assert.assertEquals(i, result.get(i).id);
+        }
+    }
+    
+    @Test
+    public void testSharedObjectsAreMappedPerElement() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Tag tag = new Tag();
+        tag.name = "shared";
+        Row first = row(1);
+        Row second = row(2);
+        first.tag = tag;
+        second.tag = tag;
+        
+        List<TaggedRowDto> result = mapper.mapAsStream(Stream.of(first, second), ROW, TypeFactory.valueOf(TaggedRowDto.class))
+                .collect(Collectors.<TaggedRowDto> toList());
+        
+        Assert.assertEquals("shared", result.get(1).tag.name);
+        Assert.assertNotSame(result.get(0).tag, result.get(1).tag);
+    }
+    
+    @Test
+    public void testIteratorIsMappedLazily() {
+        BoundMapperFacade<Row, RowDto> mapper = MappingUtil.getMapperFactory().getMapperFacade(Row.class, RowDto.class);
+        final List<Row> requested = new ArrayList<Row>();
+        final Iterator<Row> rows = Arrays.asList(row(1), row(2), row(3)).iterator();
+        Iterator<Row> source = new Iterator<Row>() {
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+            
+            public Row next() {
+                Row next = rows.next();
+                requested.add(next);
+                return next;
+            }
+        };
+        
+        Iterator<RowDto> result = mapper.mapAsIterator(source);
+        Assert.assertTrue(requested.isEmpty());
+        Assert.assertEquals(1, result.next().id);
+        Assert.assertEquals(1, requested.size());
+        Assert.assertEquals(2, result.next().id);
+        Assert.assertEquals(3, result.next().id);
+        Assert.assertFalse(result.hasNext());
+    }
+}
@@ -22,7 +22,10 @@ import java.net.URL;
 
 import ma.glasnost.orika.MapperFacade;
 import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
 import ma.glasnost.orika.converter.builtin.ConstructorConverter;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
 import ma.glasnost.orika.test.MappingUtil;
 
 import org.junit.Test;
@@ -73,6 +76,165 @@ public class ConstructorConverterTestCase {
         Assert.assertEquals("test", strCont.getString());
     }
     
+    @Test
+    public void testFieldsMappedThroughConstructor() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Source.class, Destination.class).fieldAToB("name", "name").fieldAToB("count", "count").register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        Source source = new Source();
+        source.name = "test";
+        source.count = 42;
+        Destination destination = mapper.map(source, Destination.class);
+        Assert.assertEquals("test", destination.name.getString());
+        Assert.assertEquals(Integer.valueOf(42), destination.count.getValue());
+    }
+    
+    @Test
+    public void testGeneratedConversion() {
+        ConstructorConverter converter = new ConstructorConverter();
+        
+        Assert.assertEquals("new " + StringContainer.class.getCanonicalName() + "(source.name)",
+                converter.generateConversion("source.name", TypeFactory.valueOf(String.class), TypeFactory.valueOf(StringContainer.class)));
+        Assert.assertEquals("new " + IntegerContainer.class.getCanonicalName() + "(java.lang.Integer.valueOf(source.count))",
+                converter.generateConversion("source.count", TypeFactory.valueOf(int.class), TypeFactory.valueOf(IntegerContainer.class)));
+        Assert.assertNull(converter.generateConversion("source.name", TypeFactory.valueOf(String.class),
+                TypeFactory.valueOf(HiddenContainer.class)));
+    }
+    
+    @Test
+    public void testMissingConstructor() {
+        ConstructorConverter converter = new ConstructorConverter();
+        
+        Assert.assertFalse(converter.canConvert(TypeFactory.valueOf(Long.class), TypeFactory.valueOf(StringContainer.class)));
+        Assert.assertEquals(Boolean.FALSE, converter.convert(Long.valueOf(1L), TypeFactory.valueOf(StringContainer.class), null));
+        Assert.assertEquals(Boolean.FALSE, converter.convert(Long.valueOf(2L), TypeFactory.valueOf(StringContainer.class), null));
+    }
+    
+    @Test
+    public void testNonPublicClassConvertedReflectively() {
+        ConstructorConverter converter = new ConstructorConverter();
+        
+        Object hidden = converter.convert("test", TypeFactory.valueOf(HiddenContainer.class), null);
+        Assert.assertTrue(hidden instanceof HiddenContainer);
+        Assert.assertEquals("test", ((HiddenContainer) hidden).string);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckedConstructorExceptionWrapped() {
+        new ConstructorConverter().convert("not a url", TypeFactory.valueOf(URL.class), null);
+    }
+    
+    @Test
+    public void testGeneratedAndReflectiveConstructorsFailTheSameWay() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Source.class, Destination.class).fieldAToB("name", "name").fieldAToB("count", "count").register();
+        MapperFacade mapper = factory.getMapperFacade();
+        Source source = new Source();
+        source.count = -1;
+        
+        try {
+            mapper.map(source, Destination.class);
+            Assert.fail("a negative count should not be mapped");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            new ConstructorConverter().convert(Integer.valueOf(-1), TypeFactory.valueOf(IntegerContainer.class), null);
+            Assert.fail("a negative count should not be converted");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testOverriddenConvertIsNotInlined() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.getConverterFactory().registerConverter("upperCase", new UpperCaseConstructorConverter());
+        factory.classMap(Source.class, Destination.class).fieldMap("name").aToB().converter("upperCase").add().fieldAToB("count", "count")
+                .register();
+        MapperFacade mapper = factory.getMapperFacade();
+        Source source = new Source();
+        source.name = "test";
+        
+        Assert.assertEquals("TEST", mapper.map(source, Destination.class).name.getString());
+    }
+    
+    @Test
+    public void testNonFinalSourceTypeResolvedByRuntimeClass() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(NumberSource.class, NumberDestination.class).fieldAToB("value", "value").register();
+        MapperFacade mapper = factory.getMapperFacade();
+        NumberSource source = new NumberSource();
+        source.value = Integer.valueOf(1);
+        
+        Assert.assertNull(new ConstructorConverter().generateConversion("source.value", TypeFactory.valueOf(Number.class),
+                TypeFactory.valueOf(NumberContainer.class)));
+        Assert.assertEquals("integer", mapper.map(source, NumberDestination.class).value.kind);
+        Assert.assertEquals("integer",
+                ((NumberContainer) new ConstructorConverter().convert(source.value, TypeFactory.valueOf(NumberContainer.class), null)).kind);
+    }
+    
+    public static class UpperCaseConstructorConverter extends ConstructorConverter {
+        @Override
+        public Object convert(Object source, Type<?> destinationType, MappingContext context) {
+            return super.convert(((String) source).toUpperCase(), destinationType, context);
+        }
+    }
+    
+    public static class Source {
+        public String name;
+        public int count;
+    }
+    
+    public static class Destination {
+        public StringContainer name;
+        public IntegerContainer count;
+    }
+    
+    public static class IntegerContainer {
+        private final Integer value;
+        
+        public IntegerContainer(Integer value) {
+            if (value.intValue() < 0) {
+                throw new IllegalStateException("negative value: " + value);
+            }
+            this.value = value;
+        }
+        
+        public Integer getValue() {
+            return value;
+        }
+    }
+    
+    public static class NumberSource {
+        public Number value;
+    }
+    
+    public static class NumberDestination {
+        public NumberContainer value;
+    }
+    
+    public static class NumberContainer {
+        final String kind;
+        
+        public NumberContainer(Number value) {
+            this.kind = "number";
+        }
+        
+        public NumberContainer(Integer value) {
+            this.kind = "integer";
+        }
+    }
+    
+    static class HiddenContainer {
+        final String string;
+        
+        public HiddenContainer(String string) {
+            this.string = string;
+        }
+    }
+    
     public static class StringContainer {
         private String string;
         
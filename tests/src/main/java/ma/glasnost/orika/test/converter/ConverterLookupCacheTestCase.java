@@ -0,0 +1,114 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.converter;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import ma.glasnost.orika.CustomConverter;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.converter.ConverterFactory;
+import ma.glasnost.orika.converter.DefaultConverterFactory;
+import ma.glasnost.orika.converter.builtin.BuiltinConverters;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeBuilder;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.ConcurrentRule;
+import ma.glasnost.orika.test.ConcurrentRule.Concurrent;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Verifies the memoized (positive and negative) converter lookups of
+ * DefaultConverterFactory.
+ */
+public class ConverterLookupCacheTestCase {
+    
+    private static final ConverterFactory SHARED_FACTORY = new DefaultConverterFactory();
+    static {
+        BuiltinConverters.register(SHARED_FACTORY);
+    }
+    
+    @Rule
+    public ConcurrentRule concurrentRule = new ConcurrentRule();
+    
+    @Test
+    public void testMissingConverterIsFoundOnceRegistered() {
+        ConverterFactory converterFactory = new DefaultConverterFactory();
+        Type<Name> nameType = TypeFactory.valueOf(Name.class);
+        Type<BigDecimal> decimalType = TypeFactory.valueOf(BigDecimal.class);
+        
+        Assert.assertNull(converterFactory.getConverter(nameType, decimalType));
+        Assert.assertNull(converterFactory.getConverter(nameType, decimalType));
+        Assert.assertFalse(converterFactory.canConvert(nameType, decimalType));
+        
+        converterFactory.registerConverter(new NameToDecimalConverter());
+        
+        Assert.assertEquals(NameToDecimalConverter.class, converterFactory.getConverter(nameType, decimalType).getClass());
+        Assert.assertTrue(converterFactory.canConvert(nameType, decimalType));
+    }
+    
+    @Test
+    public void testParameterizedTypesAreResolvedSeparately() {
+        ConverterFactory converterFactory = new DefaultConverterFactory();
+        converterFactory.registerConverter(new NameListToStringConverter());
+        
+        Type<List<Name>> nameList = new TypeBuilder<List<Name>>() {}.build();
+        Type<List<Date>> dateList = new TypeBuilder<List<Date>>() {}.build();
+        Type<String> stringType = TypeFactory.valueOf(String.class);
+        
+        Assert.assertEquals(NameListToStringConverter.class, converterFactory.getConverter(nameList, stringType).getClass());
+        Assert.assertNull(converterFactory.getConverter(dateList, stringType));
+        Assert.assertEquals(NameListToStringConverter.class, converterFactory.getConverter(nameList, stringType).getClass());
+    }
+    
+    @Test
+    @Concurrent(50)
+    public void testConcurrentLookups() {
+        Type<Long> longType = TypeFactory.valueOf(Long.class);
+        Type<Date> dateType = TypeFactory.valueOf(Date.class);
+        Type<Name> nameType = TypeFactory.valueOf(Name.class);
+        
+        for (int i = 0; i < 1000; ++i) {
+            Assert.assertNotNull(SHARED_FACTORY.getConverter(longType, dateType));
+            Assert.assertNotNull(SHARED_FACTORY.getConverter(TypeFactory.valueOf(long.class), dateType));
+            Assert.assertNull(SHARED_FACTORY.getConverter(nameType, dateType));
+        }
+    }
+    
+    public static class Name {
+        public String first;
+        public String last;
+    }
+    
+    public static class NameToDecimalConverter extends CustomConverter<Name, BigDecimal> {
+        public BigDecimal convert(Name source, Type<? extends BigDecimal> destinationType, MappingContext mappingContext) {
+            return BigDecimal.ZERO;
+        }
+    }
+    
+    public static class NameListToStringConverter extends CustomConverter<List<Name>, String> {
+        public String convert(List<Name> source, Type<? extends String> destinationType, MappingContext mappingContext) {
+            return String.valueOf(source);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.converter;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.CustomConverter;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.MappingException;
+import ma.glasnost.orika.converter.IntrinsicConverter;
+import ma.glasnost.orika.converter.builtin.NumericConverters;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class IntrinsicConverterTestCase {
+    
+    public static class Measurement {
+        public long count;
+        public Long total;
+        public double ratio;
+        public Float weight;
+        public BigDecimal price;
+        public long timestamp;
+        public Date recorded;
+        public int code;
+        public Integer level;
+    }
+    
+    public static class MeasurementDto {
+        public int count;
+        public Integer total;
+        public long ratio;
+        public short weight;
+        public Double price;
+        public Date timestamp;
+        public Long recorded;
+        public String code;
+        public long level;
+    }
+    
+    /**
+     * Inlines its conversion as a hexadecimal string, which differs from the
+     * result of convert() so that the tests can tell which path was taken
+     */
+    public static class HexConverter extends CustomConverter<Integer, String> implements IntrinsicConverter {
+        
+        public String convert(Integer source, Type<? extends String> destinationType, MappingContext mappingContext) {
+            return "convert:" + source;
+        }
+        
+        public String generateConversion(String source, Type<?> sourceType, Type<?> destinationType) {
+            if (!sourceType.isPrimitive() && !sourceType.isPrimitiveWrapper()) {
+                return null;
+            }
+            return "Integer.toHexString(" + source + ")";
+        }
+    }
+    
+    /**
+     * Overrides the conversion of a builtin intrinsic converter without
+     * declaring an inline expression of its own
+     */
+    public static class ClampingConverter extends NumericConverters.LongToIntegerConverter {
+        
+        public ClampingConverter() {
+            super(false);
+        }
+        
+        @Override
+        public Integer convertTo(Long source, Type<Integer> destinationType, MappingContext context) {
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, source.longValue()));
+        }
+    }
+    
+    private static Measurement measurement() {
+        Measurement measurement = new Measurement();
+        measurement.count = 42L;
+        measurement.total = 1000L;
+        measurement.ratio = 3.75d;
+        measurement.weight = 12.5f;
+        measurement.price = new BigDecimal("19.99");
+        measurement.timestamp = 1234567890123L;
+        measurement.recorded = new Date(987654321000L);
+        measurement.code = 255;
+        measurement.level = 7;
+        return measurement;
+    }
+    
+    private static MapperFacade mapper(MapperFactory factory) {
+        factory.classMap(Measurement.class, MeasurementDto.class).byDefault().register();
+        return factory.getMapperFacade();
+    }
+    
+    @Test
+    public void testBuiltinConversions() {
+        MapperFacade mapper = mapper(MappingUtil.getMapperFactory());
+        
+        MeasurementDto dto = mapper.map(measurement(), MeasurementDto.class);
+        
+        Assert.assertEquals(42, dto.count);
+        Assert.assertEquals(Integer.valueOf(1000), dto.total);
+        Assert.assertEquals(3L, dto.ratio);
+        Assert.assertEquals((short) 12, dto.weight);
+        Assert.assertEquals(Double.valueOf(19.99d), dto.price);
+        Assert.assertEquals(new Date(1234567890123L), dto.timestamp);
+        Assert.assertEquals(Long.valueOf(987654321000L), dto.recorded);
+        Assert.assertEquals("255", dto.code);
+        Assert.assertEquals(7L, dto.level);
+    }
+    
+    @Test
+    public void testReverseConversions() {
+        MapperFacade mapper = mapper(MappingUtil.getMapperFactory());
+        
+        Measurement measurement = mapper.map(mapper.map(measurement(), MeasurementDto.class), Measurement.class);
+        
+        Assert.assertEquals(42L, measurement.count);
+        Assert.assertEquals(Long.valueOf(1000L), measurement.total);
+        Assert.assertEquals(3d, measurement.ratio, 0d);
+        Assert.assertEquals(Float.valueOf(12f), measurement.weight);
+        Assert.assertEquals(BigDecimal.valueOf(19.99d), measurement.price);
+        Assert.assertEquals(1234567890123L, measurement.timestamp);
+        Assert.assertEquals(new Date(987654321000L), measurement.recorded);
+        Assert.assertEquals(Integer.valueOf(7), measurement.level);
+    }
+    
+    @Test
+    public void testNullWrappersAreSkipped() {
+        MapperFacade mapper = mapper(MappingUtil.getMapperFactory());
+        Measurement measurement = measurement();
+        measurement.total = null;
+        measurement.price = null;
+        measurement.recorded = null;
+        
+        MeasurementDto dto = mapper.map(measurement, MeasurementDto.class);
+        
+        Assert.assertNull(dto.total);
+        Assert.assertNull(dto.price);
+        Assert.assertNull(dto.recorded);
+        Assert.assertEquals(42, dto.count);
+    }
+    
+    @Test
+    public void testOverflowIsDetected() {
+        MapperFacade mapper = mapper(MappingUtil.getMapperFactory());
+        Measurement measurement = measurement();
+        measurement.count = Integer.MAX_VALUE + 1L;
+        
+        try {
+            mapper.map(measurement, MeasurementDto.class);
+            Assert.fail("the overflow should have been detected");
+        } catch (MappingException e) {
+            Assert.assertTrue(e.getCause() instanceof ArithmeticException);
+        }
+        
+        measurement.count = 1L;
+        measurement.weight = Float.NaN;
+        try {
+            mapper.map(measurement, MeasurementDto.class);
+            Assert.fail("NaN should not be converted");
+        } catch (MappingException e) {
+            Assert.assertTrue(e.getCause() instanceof ArithmeticException);
+        }
+    }
+    
+    @Test
+    public void testCustomIntrinsicConverterIsInlined() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.getConverterFactory().registerConverter("hex", new HexConverter());
+        factory.classMap(Measurement.class, MeasurementDto.class).fieldMap("code").aToB().converter("hex").add().byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        MeasurementDto dto = mapper.map(measurement(), MeasurementDto.class);
+        
+        Assert.assertEquals("ff", dto.code);
+        Assert.assertEquals(42, dto.count);
+    }
+    
+    @Test
+    public void testOverriddenBuiltinConverterIsNotInlined() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.getConverterFactory().registerConverter("clamp", new ClampingConverter());
+        factory.classMap(Measurement.class, MeasurementDto.class).fieldMap("count").aToB().converter("clamp").add().byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        Measurement measurement = measurement();
+        measurement.count = Long.MAX_VALUE;
+        
+        Assert.assertEquals(Integer.MAX_VALUE, mapper.map(measurement, MeasurementDto.class).count);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.enums;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingException;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+public class EnumLookupTestCase {
+    
+    public enum Status {
+        NEW, ACTIVE {
+            @Override
+            public String toString() {
+                return "active";
+            }
+        },
+        CLOSED, ARCHIVED
+    }
+    
+    public enum StatusDto {
+        CLOSED, ACTIVE, NEW, ARCHIVED
+    }
+    
+    public enum PartialStatusDto {
+        ACTIVE, NEW
+    }
+    
+    public static class Event {
+        public Status status;
+        public String level;
+    }
+    
+    public static class EventDto {
+        public StatusDto status;
+        public StatusDto level;
+    }
+    
+    public static class PartialEventDto {
+        public PartialStatusDto status;
+    }
+    
+    public static class RawEvent {
+        public Enum<?> status;
+    }
+    
+    private static Event event(Status status, String level) {
+        Event event = new Event();
+        event.status = status;
+        event.level = level;
+        return event;
+    }
+    
+    @Test
+    public void testEnumToEnumMapsByNameAcrossOrdinals() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        for (Status status : Status.values()) {
+            EventDto dto = mapper.map(event(status, null), EventDto.class);
+            Assert.assertEquals(status.name(), dto.status.name());
+            Assert.assertNull(dto.level);
+        }
+    }
+    
+    @Test
+    public void testStringToEnumField() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        EventDto dto = mapper.map(event(null, "ARCHIVED"), EventDto.class);
+        
+        Assert.assertEquals(StatusDto.ARCHIVED, dto.level);
+        Assert.assertNull(dto.status);
+    }
+    
+    @Test
+    public void testUnknownStringIsRejected() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        try {
+            mapper.map(event(null, "UNKNOWN"), EventDto.class);
+            Assert.fail("an unknown constant name should not map");
+        } catch (MappingException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+            Assert.assertTrue(e.getCause().getMessage().contains("UNKNOWN"));
+        }
+    }
+    
+    @Test
+    public void testPartialEnumMapsMatchingConstants() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Event.class, PartialEventDto.class).byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        Assert.assertEquals(PartialStatusDto.ACTIVE, mapper.map(event(Status.ACTIVE, null), PartialEventDto.class).status);
+        Assert.assertEquals(PartialStatusDto.NEW, mapper.map(event(Status.NEW, null), PartialEventDto.class).status);
+        try {
+            mapper.map(event(Status.CLOSED, null), PartialEventDto.class);
+            Assert.fail("a constant without counterpart should not map");
+        } catch (MappingException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+            Assert.assertTrue(e.getCause().getMessage().contains("CLOSED"));
+        }
+    }
+    
+    @Test
+    public void testRawEnumSourceMapsByName() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().useBuiltinConverters(false).build();
+        factory.classMap(RawEvent.class, EventDto.class).field("status", "status").register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        RawEvent event = new RawEvent();
+        event.status = Status.ACTIVE;
+        Assert.assertEquals(StatusDto.ACTIVE, mapper.map(event, EventDto.class).status);
+    }
+    
+    @Test
+    public void testBuiltinConverters() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        
+        Assert.assertEquals(StatusDto.NEW, mapper.map(Status.NEW, StatusDto.class));
+        Assert.assertEquals(StatusDto.CLOSED, mapper.map(Status.CLOSED, StatusDto.class));
+        Assert.assertEquals(Status.ARCHIVED, mapper.map("ARCHIVED", Status.class));
+        Assert.assertEquals(Status.ACTIVE, mapper.map("ACTIVE", Status.class));
+    }
+}
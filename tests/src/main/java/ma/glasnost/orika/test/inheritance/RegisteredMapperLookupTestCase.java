@@ -0,0 +1,116 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.inheritance;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.CustomMapper;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.TypeFactory;
+
+/**
+ * Verifies the lookup of registered mappers through the supertypes of the
+ * mapped types, and that memoized lookups follow later registrations.
+ */
+public class RegisteredMapperLookupTestCase {
+    
+    @Test
+    public void testLookupThroughSuperclass() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().build();
+        factory.registerMapper(new NameMapper<Base>() {
+        });
+        
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Child.class), TypeFactory.valueOf(Dto.class), false));
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Dto.class), TypeFactory.valueOf(Child.class), false));
+        Assert.assertFalse(factory.existsRegisteredMapper(TypeFactory.valueOf(Named.class), TypeFactory.valueOf(Dto.class), false));
+        
+        Dto dto = factory.getMapperFacade().map(new Child("child"), Dto.class);
+        Assert.assertEquals("child", dto.label);
+    }
+    
+    @Test
+    public void testLookupThroughInterface() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().build();
+        factory.registerMapper(new NameMapper<Named>() {
+        });
+        
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Child.class), TypeFactory.valueOf(Dto.class), false));
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Base.class), TypeFactory.valueOf(Dto.class), false));
+        Assert.assertFalse(factory.existsRegisteredMapper(TypeFactory.valueOf(Object.class), TypeFactory.valueOf(Dto.class), false));
+    }
+    
+    @Test
+    public void testLookupOfArrayTypes() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().build();
+        factory.registerMapper(new CustomMapper<Named[], Dto>() {
+        });
+        
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Child[].class), TypeFactory.valueOf(Dto.class), false));
+        Assert.assertFalse(factory.existsRegisteredMapper(TypeFactory.valueOf(Child.class), TypeFactory.valueOf(Dto.class), false));
+        Assert.assertFalse(factory.existsRegisteredMapper(TypeFactory.valueOf(Object[].class), TypeFactory.valueOf(Dto.class), false));
+    }
+    
+    @Test
+    public void testLookupAfterLateRegistration() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().build();
+        
+        Assert.assertFalse(factory.existsRegisteredMapper(TypeFactory.valueOf(Child.class), TypeFactory.valueOf(Dto.class), false));
+        
+        factory.registerMapper(new NameMapper<Base>() {
+        });
+        
+        Assert.assertTrue(factory.existsRegisteredMapper(TypeFactory.valueOf(Child.class), TypeFactory.valueOf(Dto.class), false));
+    }
+    
+    public interface Named {
+        String getName();
+    }
+    
+    public static class Base implements Named {
+        private final String name;
+        
+        public Base(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+    
+    public static class Child extends Base {
+        public Child(String name) {
+            super(name);
+        }
+    }
+    
+    public static class Dto {
+        public String label;
+    }
+    
+    public static abstract class NameMapper<T extends Named> extends CustomMapper<T, Dto> {
+        @Override
+        public void mapAtoB(T a, Dto b, MappingContext context) {
+            b.label = a.getName();
+        }
+    }
+}
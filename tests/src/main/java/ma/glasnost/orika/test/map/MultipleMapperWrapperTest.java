@@ -20,19 +20,26 @@ package ma.glasnost.orika.test.map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.Rule;
 import org.junit.Test;
 
 import ma.glasnost.orika.Mapper;
+import ma.glasnost.orika.MappingContext;
 import ma.glasnost.orika.impl.GeneratedMapperBase;
 import ma.glasnost.orika.impl.MultipleMapperWrapper;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.metadata.TypeBuilder;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.ConcurrentRule;
+import ma.glasnost.orika.test.ConcurrentRule.Concurrent;
 import ma.glasnost.orika.test.TestUtil;
 import ma.glasnost.orika.test.TestUtil.MethodToCall;
 import ma.glasnost.orika.test.community.Issue24TestCase;
@@ -40,6 +47,13 @@ import ma.glasnost.orika.test.community.issue121.Issue121TestCase;
 
 public class MultipleMapperWrapperTest {
 
+    private static final CountingMapper SHARED_SUB_MAPPER = new CountingMapper(ASub.class, BSub.class);
+    private static final CountingMapper SHARED_SUB2_MAPPER = new CountingMapper(ASub2.class, BSub2.class);
+    private static final MultipleMapperWrapper SHARED_WRAPPER = createMultipleMapperWrapper(SHARED_SUB_MAPPER, SHARED_SUB2_MAPPER);
+
+    @Rule
+    public ConcurrentRule concurrentRule = new ConcurrentRule();
+
     /**
      * Simple Hirarchy Test
      * 
@@ -134,6 +148,52 @@ public class MultipleMapperWrapperTest {
         
     }
     
+    /**
+     * Each pair of runtime classes must keep resolving to its own mapper
+     * once cached, in both directions.
+     */
+    @Test
+    public void testFindMapper_cachedPerClassPair() {
+        CountingMapper subMapper = new CountingMapper(ASub.class, BSub.class);
+        CountingMapper sub2Mapper = new CountingMapper(ASub2.class, BSub2.class);
+        MultipleMapperWrapper multipleMapper = createMultipleMapperWrapper(subMapper, sub2Mapper);
+
+        for (int i = 0; i < 3; ++i) {
+            multipleMapper.mapAtoB(new ASub(), new BSub(), null);
+            multipleMapper.mapAtoB(new ASub2(), new BSub2(), null);
+            multipleMapper.mapBtoA(new BSubSub(), new ASubSub(), null);
+        }
+
+        assertThat(subMapper.aToB.get(), is(3));
+        assertThat(subMapper.bToA.get(), is(3));
+        assertThat(sub2Mapper.aToB.get(), is(3));
+        assertThat(sub2Mapper.bToA.get(), is(0));
+    }
+
+    @Test
+    @Concurrent(50)
+    public void testFindMapper_concurrently() {
+        for (int i = 0; i < 1000; ++i) {
+            SHARED_WRAPPER.mapAtoB(new ASub(), new BSub(), null);
+            SHARED_WRAPPER.mapAtoB(new ASubSub(), new BSubSub(), null);
+            SHARED_WRAPPER.mapAtoB(new ASub2(), new BSub2(), null);
+        }
+    }
+
+    private static MultipleMapperWrapper createMultipleMapperWrapper(Mapper<?, ?>... mappers) {
+        List<Mapper<Object, Object>> mapperList = new ArrayList<Mapper<Object, Object>>();
+        for (Mapper<?, ?> mapper : mappers) {
+            @SuppressWarnings("unchecked")
+            Mapper<Object, Object> objectMapper = (Mapper<Object, Object>) mapper;
+            mapperList.add(objectMapper);
+        }
+        @SuppressWarnings("unchecked")
+        Type<Object> aType = (Type<Object>) (Type<?>) TypeFactory.valueOf(A.class);
+        @SuppressWarnings("unchecked")
+        Type<Object> bType = (Type<Object>) (Type<?>) TypeFactory.valueOf(B.class);
+        return new MultipleMapperWrapper(aType, bType, mapperList);
+    }
+
     private MultipleMapperWrapper createMultipleMapperWrapper(Type<?> aTypeMapper, Type<?> bTypeMapper, Type<?> aTypeWrapper,
             Type<?> bTypeWrapper) {
         GeneratedMapperBase generatedMapper = new GeneratedMapperBase() {
@@ -147,6 +207,28 @@ public class MultipleMapperWrapperTest {
         return multipleMapper;
     }
     
+    private static class CountingMapper extends GeneratedMapperBase {
+        private final AtomicInteger aToB = new AtomicInteger();
+        private final AtomicInteger bToA = new AtomicInteger();
+
+        CountingMapper(Class<?> aClass, Class<?> bClass) {
+            setAType(TypeFactory.valueOf(aClass));
+            setBType(TypeFactory.valueOf(bClass));
+        }
+
+        @Override
+        public void mapAtoB(Object a, Object b, MappingContext context) {
+            assertThat(getAType().getRawType().isInstance(a) && getBType().getRawType().isInstance(b), is(true));
+            aToB.incrementAndGet();
+        }
+
+        @Override
+        public void mapBtoA(Object b, Object a, MappingContext context) {
+            assertThat(getAType().getRawType().isInstance(a) && getBType().getRawType().isInstance(b), is(true));
+            bToA.incrementAndGet();
+        }
+    }
+
     public static class ASuper {
         
     }
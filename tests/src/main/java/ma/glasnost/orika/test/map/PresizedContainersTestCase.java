@@ -0,0 +1,122 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.map;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeBuilder;
+import ma.glasnost.orika.test.MappingUtil;
+
+/**
+ * Destination containers are presized from the source; these tests check
+ * that every kind of container is still created and filled correctly.
+ */
+public class PresizedContainersTestCase {
+    
+    public static class Source {
+        public Map<String, Integer> map;
+        public Map<String, Integer> sortedMap;
+        public List<String> list;
+        public List<String> set;
+        public List<String> deque;
+    }
+    
+    public static class Destination {
+        public Map<String, Long> map;
+        public SortedMap<String, Long> sortedMap;
+        public ArrayList<String> list;
+        public HashSet<String> set;
+        public ArrayDeque<String> deque;
+    }
+    
+    private static Source source(int size) {
+        Source source = new Source();
+        source.map = new LinkedHashMap<String, Integer>();
+        source.list = new ArrayList<String>();
+        for (int i = 0; i < size; ++i) {
+            source.map.put("key" + i, i);
+            source.list.add("value" + i);
+        }
+        source.sortedMap = source.map;
+        source.set = source.list;
+        source.deque = source.list;
+        return source;
+    }
+    
+    private static MapperFacade mapper() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Source.class, Destination.class).byDefault().register();
+        return factory.getMapperFacade();
+    }
+    
+    private static void assertMapped(Source source, Destination destination) {
+        int size = source.list.size();
+        Assert.assertEquals(size, destination.map.size());
+        Assert.assertEquals(size, destination.sortedMap.size());
+        Assert.assertEquals(source.list, destination.list);
+        Assert.assertEquals(new HashSet<String>(source.list), destination.set);
+        Assert.assertEquals(source.list, new ArrayList<String>(destination.deque));
+        for (int i = 0; i < size; ++i) {
+            Assert.assertEquals(Long.valueOf(i), destination.map.get("key" + i));
+            Assert.assertEquals(Long.valueOf(i), destination.sortedMap.get("key" + i));
+        }
+    }
+    
+    @Test
+    public void testLargeContainers() {
+        Source source = source(5000);
+        assertMapped(source, mapper().map(source, Destination.class));
+    }
+    
+    @Test
+    public void testEmptyContainers() {
+        Source source = source(0);
+        assertMapped(source, mapper().map(source, Destination.class));
+    }
+    
+    @Test
+    public void testMapAsMapAndCollections() {
+        MapperFacade mapper = MappingUtil.getMapperFactory().getMapperFacade();
+        Source source = source(1000);
+        Type<Map<String, Integer>> mapType = new TypeBuilder<Map<String, Integer>>() {}.build();
+        Type<Map<String, Long>> longMapType = new TypeBuilder<Map<String, Long>>() {}.build();
+        
+        Map<String, Long> map = mapper.mapAsMap(source.map, mapType, longMapType);
+        Assert.assertEquals(1000, map.size());
+        Assert.assertEquals(Arrays.asList(source.map.keySet().toArray()), Arrays.asList(map.keySet().toArray()));
+        
+        Assert.assertEquals(source.list, mapper.mapAsList(source.list, String.class));
+        Assert.assertEquals(new HashSet<String>(source.list), mapper.mapAsSet(source.list, String.class));
+        Assert.assertEquals(new HashSet<String>(source.list), mapper.mapAsSet(source.list.toArray(new String[0]), String.class));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.perf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.CustomMapper;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+
+/**
+ * Verifies that the type pairs which can never reach a cycle skip the tracking
+ * of mapped objects when cycle analysis is enabled, which is observable in
+ * that a shared source object is then mapped to distinct destinations, while
+ * cyclic pairs keep their identity.
+ */
+public class CycleAnalysisTestCase {
+    
+    public static class Product {
+        public String name;
+    }
+    
+    public static class ProductDto {
+        public String name;
+    }
+    
+    public static class Line {
+        public Product product;
+        public int quantity;
+    }
+    
+    public static class LineDto {
+        public ProductDto product;
+        public int quantity;
+    }
+    
+    public static class Order {
+        public List<Line> lines;
+        public Product[] featured;
+    }
+    
+    public static class OrderDto {
+        public List<LineDto> lines;
+        public ProductDto[] featured;
+    }
+    
+    public static class Node {
+        public String name;
+        public Node parent;
+        public List<Node> children;
+        public Product product;
+    }
+    
+    public static class NodeDto {
+        public String name;
+        public NodeDto parent;
+        public List<NodeDto> children;
+        public ProductDto product;
+    }
+    
+    public static class Item {
+        public String name;
+    }
+    
+    /**
+     * A subtype which is not registered in any class-map, and can form cycles
+     * through a field which the registered class-map of Item does not map
+     */
+    public static class LinkedItem extends Item {
+        public LinkedItem next;
+    }
+    
+    public static class Holder {
+        public Item item;
+    }
+    
+    public static class ItemDto {
+        public String name;
+        public ItemDto next;
+    }
+    
+    public static class HolderDto {
+        public ItemDto item;
+    }
+    
+    private static MapperFacade newMapper(boolean analyzeCycles, boolean customizeLines) {
+        MapperFactory factory = new DefaultMapperFactory.Builder().analyzeCycles(analyzeCycles).build();
+        factory.classMap(Product.class, ProductDto.class).byDefault().register();
+        if (customizeLines) {
+            factory.classMap(Line.class, LineDto.class).byDefault().customize(new CustomMapper<Line, LineDto>() {
+                @Override
+                public void mapAtoB(Line a, LineDto b, MappingContext context) {
+                    b.quantity = a.quantity * 2;
+                }
+            }).register();
+        } else {
+            factory.classMap(Line.class, LineDto.class).byDefault().register();
+        }
+        factory.classMap(Order.class, OrderDto.class).byDefault().register();
+        factory.classMap(Node.class, NodeDto.class).byDefault().register();
+        return factory.getMapperFacade();
+    }
+    
+    private static Order newOrder(Product shared) {
+        Order order = new Order();
+        order.lines = new ArrayList<Line>();
+        for (int i = 1; i <= 2; ++i) {
+            Line line = new Line();
+            line.product = shared;
+            line.quantity = i;
+            order.lines.add(line);
+        }
+        order.featured = new Product[] { shared };
+        return order;
+    }
+    
+    @Test
+    public void testAcyclicPairsSkipObjectTracking() {
+        Product shared = new Product();
+        shared.name = "shared";
+        
+        OrderDto tracked = newMapper(false, false).map(newOrder(shared), OrderDto.class);
+        Assert.assertSame(tracked.lines.get(0).product, tracked.lines.get(1).product);
+        
+        OrderDto untracked = newMapper(true, false).map(newOrder(shared), OrderDto.class);
+        Assert.assertEquals(2, untracked.lines.size());
+        Assert.assertEquals(2, untracked.lines.get(1).quantity);
+        Assert.assertEquals("shared", untracked.lines.get(0).product.name);
+        Assert.assertEquals("shared", untracked.featured[0].name);
+        Assert.assertNotSame(untracked.lines.get(0).product, untracked.lines.get(1).product);
+    }
+    
+    @Test
+    public void testCustomizedPairsKeepObjectTracking() {
+        Order order = newOrder(new Product());
+        order.lines.set(1, order.lines.get(0));
+        
+        OrderDto untracked = newMapper(true, false).map(order, OrderDto.class);
+        Assert.assertNotSame(untracked.lines.get(0), untracked.lines.get(1));
+        
+        OrderDto tracked = newMapper(true, true).map(order, OrderDto.class);
+        Assert.assertEquals(2, tracked.lines.get(0).quantity);
+        Assert.assertSame(tracked.lines.get(0), tracked.lines.get(1));
+    }
+    
+    @Test
+    public void testCyclicPairsKeepObjectTracking() {
+        Product shared = new Product();
+        shared.name = "shared";
+        Node root = new Node();
+        root.name = "root";
+        root.children = new ArrayList<Node>();
+        for (String name : Arrays.asList("a", "b")) {
+            Node child = new Node();
+            child.name = name;
+            child.parent = root;
+            child.product = shared;
+            root.children.add(child);
+        }
+        
+        NodeDto result = newMapper(true, false).map(root, NodeDto.class);
+        Assert.assertEquals(2, result.children.size());
+        for (NodeDto child : result.children) {
+            Assert.assertSame(result, child.parent);
+            Assert.assertEquals("shared", child.product.name);
+        }
+        /*
+         * Product is acyclic, so it is no longer tracked even below a cyclic
+         * pair
+         */
+        Assert.assertNotSame(result.children.get(0).product, result.children.get(1).product);
+    }
+    
+    @Test
+    public void testCyclicRuntimeSubtypeKeepsObjectTracking() {
+        MapperFactory factory = new DefaultMapperFactory.Builder().analyzeCycles(true).favorExtension(true).build();
+        factory.classMap(Item.class, ItemDto.class).byDefault().register();
+        factory.classMap(Holder.class, HolderDto.class).byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        LinkedItem first = new LinkedItem();
+        first.name = "first";
+        LinkedItem second = new LinkedItem();
+        second.name = "second";
+        first.next = second;
+        second.next = first;
+        Holder holder = new Holder();
+        holder.item = first;
+        
+        HolderDto result = mapper.map(holder, HolderDto.class);
+        ItemDto item = result.item;
+        Assert.assertEquals("first", item.name);
+        Assert.assertEquals("second", item.next.name);
+        Assert.assertSame(item, item.next.next);
+    }
+}
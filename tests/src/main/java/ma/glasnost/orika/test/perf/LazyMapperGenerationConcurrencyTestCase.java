@@ -0,0 +1,157 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.impl.generator.JavassistCompilerStrategy;
+import ma.glasnost.orika.impl.generator.SourceCodeContext;
+
+/**
+ * Verifies that mappers generated on demand for unrelated type pairs are
+ * generated concurrently, while threads needing the same type pair share a
+ * single generation.
+ */
+public class LazyMapperGenerationConcurrencyTestCase {
+    
+    @Test
+    public void testUnrelatedPairsAreGeneratedConcurrently() throws Exception {
+        final SlowCompilerStrategy compiler = new SlowCompilerStrategy("SlowDest");
+        final MapperFacade mapper = new DefaultMapperFactory.Builder().compilerStrategy(compiler).build().getMapperFacade();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SlowDest> slow = executor.submit(new Callable<SlowDest>() {
+                public SlowDest call() {
+                    return mapper.map(new SlowSource("slow"), SlowDest.class);
+                }
+            });
+            Assert.assertTrue(compiler.compiling.await(10, TimeUnit.SECONDS));
+            
+            Future<FastDest> fast = executor.submit(new Callable<FastDest>() {
+                public FastDest call() {
+                    return mapper.map(new FastSource("fast"), FastDest.class);
+                }
+            });
+            Assert.assertEquals("fast", fast.get(10, TimeUnit.SECONDS).name);
+            Assert.assertFalse(slow.isDone());
+            
+            compiler.release.countDown();
+            Assert.assertEquals("slow", slow.get(10, TimeUnit.SECONDS).name);
+        } finally {
+            compiler.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void testSamePairIsGeneratedOnce() throws Exception {
+        final SlowCompilerStrategy compiler = new SlowCompilerStrategy("SlowDest");
+        final MapperFacade mapper = new DefaultMapperFactory.Builder().compilerStrategy(compiler).build().getMapperFacade();
+        
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SlowDest>> results = new ArrayList<Future<SlowDest>>();
+            for (int i = 0; i < threads; ++i) {
+                results.add(executor.submit(new Callable<SlowDest>() {
+                    public SlowDest call() {
+                        return mapper.map(new SlowSource("slow"), SlowDest.class);
+                    }
+                }));
+            }
+            Assert.assertTrue(compiler.compiling.await(10, TimeUnit.SECONDS));
+            compiler.release.countDown();
+            for (Future<SlowDest> result : results) {
+                Assert.assertEquals("slow", result.get(10, TimeUnit.SECONDS).name);
+            }
+            Assert.assertEquals(1, compiler.compiled.get());
+        } finally {
+            compiler.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Blocks the compilation of the classes whose name contains the provided
+     * fragment until released
+     */
+    public static class SlowCompilerStrategy extends JavassistCompilerStrategy {
+        
+        final String blocked;
+        final CountDownLatch compiling = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger compiled = new AtomicInteger();
+        
+        public SlowCompilerStrategy(String blocked) {
+            this.blocked = blocked;
+        }
+        
+        @Override
+        public Class<?> compileClass(SourceCodeContext sourceCode) throws SourceCodeGenerationException {
+            if (sourceCode.getClassName().contains(blocked)) {
+                compiled.incrementAndGet();
+                compiling.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.compileClass(sourceCode);
+        }
+    }
+    
+    public static class SlowSource {
+        public String name;
+        
+        public SlowSource(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class SlowDest {
+        public String name;
+    }
+    
+    public static class FastSource {
+        public String name;
+        
+        public FastSource(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class FastDest {
+        public String name;
+    }
+}
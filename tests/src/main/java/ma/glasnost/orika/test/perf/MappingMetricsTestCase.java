@@ -0,0 +1,171 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.perf;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.metrics.MappingMetrics;
+import ma.glasnost.orika.metrics.MappingMetrics.TypePairMetrics;
+
+public class MappingMetricsTestCase {
+    
+    public static class Order {
+        public String id;
+        public Customer customer;
+    }
+    
+    public static class Customer {
+        public String name;
+    }
+    
+    public static class OrderDto {
+        public String id;
+        public CustomerDto customer;
+    }
+    
+    public static class CustomerDto {
+        public String name;
+    }
+    
+    private static Order order(String id) {
+        Order order = new Order();
+        order.id = id;
+        order.customer = new Customer();
+        order.customer.name = "customer-" + id;
+        return order;
+    }
+    
+    private static DefaultMapperFactory factory(MappingMetrics metrics) {
+        DefaultMapperFactory factory = new DefaultMapperFactory.Builder().metricsListener(metrics).build();
+        factory.classMap(Order.class, OrderDto.class).byDefault().register();
+        return factory;
+    }
+    
+    @Test
+    public void testMappingsAreCountedPerTypePair() {
+        MappingMetrics metrics = new MappingMetrics();
+        MapperFacade mapper = factory(metrics).getMapperFacade();
+        
+        List<OrderDto> result = mapper.mapAsList(Arrays.asList(order("1"), order("2"), order("3")), OrderDto.class);
+        
+        Assert.assertEquals(3, result.size());
+        TypePairMetrics orders = metrics.getTypePairMetrics(TypeFactory.valueOf(Order.class), TypeFactory.valueOf(OrderDto.class));
+        Assert.assertNotNull(orders);
+        Assert.assertEquals(3, orders.getCount());
+        Assert.assertTrue(orders.getTotalNanos() > 0);
+        Assert.assertTrue(orders.getPercentileNanos(0.99) >= orders.getPercentileNanos(0.5));
+        
+        TypePairMetrics customers = metrics.getTypePairMetrics(TypeFactory.valueOf(Customer.class),
+                TypeFactory.valueOf(CustomerDto.class));
+        Assert.assertNotNull(customers);
+        Assert.assertEquals(3, customers.getCount());
+        Assert.assertEquals(6, metrics.getMappingCount());
+        Assert.assertEquals(2, metrics.getTypePairs().length);
+    }
+    
+    @Test
+    public void testStrategyCacheHitsAndMisses() {
+        MappingMetrics metrics = new MappingMetrics();
+        MapperFacade mapper = factory(metrics).getMapperFacade();
+        
+        mapper.map(order("1"), OrderDto.class);
+        long misses = metrics.getStrategyCacheMisses();
+        Assert.assertTrue(misses > 0);
+        
+        mapper.map(order("2"), OrderDto.class);
+        mapper.map(order("3"), OrderDto.class);
+        
+        Assert.assertEquals(misses, metrics.getStrategyCacheMisses());
+        Assert.assertTrue(metrics.getStrategyCacheHits() >= 2);
+    }
+    
+    @Test
+    public void testGenerationIsRecorded() {
+        MappingMetrics metrics = new MappingMetrics();
+        MapperFacade mapper = factory(metrics).getMapperFacade();
+        
+        Assert.assertTrue(metrics.getGeneratedMapperCount() >= 1);
+        long explicit = metrics.getGeneratedMapperCount() - metrics.getAutoGeneratedMapperCount();
+        
+        mapper.map(order("1"), OrderDto.class);
+        
+        Assert.assertEquals(explicit, metrics.getGeneratedMapperCount() - metrics.getAutoGeneratedMapperCount());
+        Assert.assertTrue(metrics.getAutoGeneratedMapperCount() >= 1);
+        Assert.assertTrue(metrics.getGenerationTimeMillis() >= 0);
+    }
+    
+    @Test
+    public void testBoundMapperFacadeIsMeasured() {
+        MappingMetrics metrics = new MappingMetrics();
+        BoundMapperFacade<Order, OrderDto> mapper = factory(metrics).getMapperFacade(Order.class, OrderDto.class);
+        
+        mapper.map(order("1"));
+        mapper.map(order("2"));
+        
+        Assert.assertEquals(2,
+                metrics.getTypePairMetrics(TypeFactory.valueOf(Order.class), TypeFactory.valueOf(OrderDto.class)).getCount());
+    }
+    
+    @Test
+    public void testMetricsCanBeDisabled() {
+        MappingMetrics metrics = new MappingMetrics();
+        DefaultMapperFactory factory = factory(metrics);
+        MapperFacade mapper = factory.getMapperFacade();
+        mapper.map(order("1"), OrderDto.class);
+        long count = metrics.getMappingCount();
+        
+        factory.setMetricsListener(null);
+        mapper.map(order("2"), OrderDto.class);
+        Assert.assertEquals(count, metrics.getMappingCount());
+        
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getMappingCount());
+        Assert.assertEquals(0, metrics.getTypePairs().length);
+    }
+    
+    @Test
+    public void testMBeanRegistration() throws Exception {
+        MappingMetrics metrics = new MappingMetrics();
+        MapperFacade mapper = factory(metrics).getMapperFacade();
+        mapper.map(order("1"), OrderDto.class);
+        
+        ObjectName name = metrics.registerMBean("MappingMetricsTestCase");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Assert.assertEquals(metrics.getMappingCount(), server.getAttribute(name, "MappingCount"));
+            server.invoke(name, "reset", null, null);
+            Assert.assertEquals(0L, server.getAttribute(name, "MappingCount"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.perf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+
+/**
+ * Verifies that mappers generated by a parallel build are equivalent to the
+ * ones generated sequentially, including the used mappers of a class-map
+ * hierarchy.
+ */
+public class ParallelBuildTestCase {
+    
+    private static MapperFactory newMapperFactory(int buildParallelism) {
+        MapperFactory factory = new DefaultMapperFactory.Builder().buildParallelism(buildParallelism).build();
+        factory.classMap(Base.class, BaseDto.class).field("id", "key").byDefault().register();
+        factory.classMap(Child.class, ChildDto.class).use(Base.class, BaseDto.class).byDefault().register();
+        factory.classMap(GrandChild.class, GrandChildDto.class).use(Child.class, ChildDto.class).byDefault().register();
+        factory.classMap(Owner.class, OwnerDto.class).byDefault().register();
+        factory.classMap(Item.class, ItemDto.class).byDefault().register();
+        return factory;
+    }
+    
+    private static Owner newOwner() {
+        GrandChild child = new GrandChild();
+        child.id = "1";
+        child.name = "child";
+        child.level = 2;
+        Owner owner = new Owner();
+        owner.child = child;
+        owner.items = Arrays.asList(new Item("a", 1), new Item("b", 2));
+        return owner;
+    }
+    
+    private static void assertMapped(Owner owner, OwnerDto dto) {
+        GrandChildDto child = (GrandChildDto) dto.child;
+        Assert.assertEquals(owner.child.id, child.key);
+        Assert.assertEquals(owner.child.name, child.name);
+        Assert.assertEquals(((GrandChild) owner.child).level, child.level);
+        Assert.assertEquals(2, dto.items.size());
+        Assert.assertEquals("b", dto.items.get(1).sku);
+        Assert.assertEquals(2, dto.items.get(1).quantity);
+    }
+    
+    @Test
+    public void testParallelBuild() {
+        MapperFacade mapper = newMapperFactory(4).getMapperFacade();
+        
+        Owner owner = newOwner();
+        OwnerDto dto = mapper.map(owner, OwnerDto.class);
+        assertMapped(owner, dto);
+        
+        Owner mappedBack = mapper.map(dto, Owner.class);
+        Assert.assertEquals("child", mappedBack.child.name);
+        Assert.assertEquals(2, ((GrandChild) mappedBack.child).level);
+    }
+    
+    @Test
+    public void testParallelBuildMatchesSequentialBuild() {
+        Owner owner = newOwner();
+        OwnerDto parallel = newMapperFactory(4).getMapperFacade().map(owner, OwnerDto.class);
+        OwnerDto sequential = newMapperFactory(1).getMapperFacade().map(owner, OwnerDto.class);
+        
+        assertMapped(owner, parallel);
+        assertMapped(owner, sequential);
+    }
+    
+    @Test
+    public void testConcurrentAccessDuringParallelBuild() throws Exception {
+        final MapperFactory factory = newMapperFactory(4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OwnerDto>> results = new ArrayList<Future<OwnerDto>>();
+            for (int i = 0; i < 16; ++i) {
+                results.add(executor.submit(new Callable<OwnerDto>() {
+                    public OwnerDto call() {
+                        return factory.getMapperFacade().map(newOwner(), OwnerDto.class);
+                    }
+                }));
+            }
+            for (Future<OwnerDto> result : results) {
+                assertMapped(newOwner(), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    public static class Base {
+        public String id;
+        public String name;
+    }
+    
+    public static class Child extends Base {
+    }
+    
+    public static class GrandChild extends Child {
+        public int level;
+    }
+    
+    public static class BaseDto {
+        public String key;
+        public String name;
+    }
+    
+    public static class ChildDto extends BaseDto {
+    }
+    
+    public static class GrandChildDto extends ChildDto {
+        public int level;
+    }
+    
+    public static class Item {
+        public String sku;
+        public int quantity;
+        
+        public Item() {
+        }
+        
+        public Item(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+    
+    public static class ItemDto {
+        public String sku;
+        public int quantity;
+    }
+    
+    public static class Owner {
+        public Base child;
+        public List<Item> items;
+    }
+    
+    public static class OwnerDto {
+        public BaseDto child;
+        public List<ItemDto> items;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.protobuf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import ma.glasnost.orika.BoundMapperFacade;
+import ma.glasnost.orika.MapperFacade;
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.MappingContextFactory;
+import ma.glasnost.orika.MappingStrategy;
+import ma.glasnost.orika.ObjectFactory;
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.impl.GeneratedBuilderObjectFactory;
+import ma.glasnost.orika.impl.MapperFacadeImpl;
+import ma.glasnost.orika.impl.mapping.strategy.InstantiateAndUseCustomMapperBuilderStrategy;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.test.MappingUtil;
+
+import org.junit.Test;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+
+/**
+ * Mapping of beans into protobuf GeneratedMessageV3 destinations, which are
+ * instantiated through their Builder.
+ */
+public class ProtobufBuilderTestCase {
+    
+    @Test
+    public void testMapToMessage() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        factory.classMap(Instant.class, Timestamp.Builder.class).byDefault().register();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        Timestamp timestamp = mapper.map(new Instant(1500000000L, 42), Timestamp.class);
+        
+        assertEquals(1500000000L, timestamp.getSeconds());
+        assertEquals(42, timestamp.getNanos());
+    }
+    
+    @Test
+    public void testMapToMessageRepeatedly() {
+        MapperFactory factory = MappingUtil.getMapperFactory();
+        MapperFacade mapper = factory.getMapperFacade();
+        
+        Duration first = mapper.map(new Instant(1L, 1), Duration.class);
+        Duration second = mapper.map(new Instant(2L, 2), Duration.class);
+        
+        assertNotSame(first, second);
+        assertEquals(1L, first.getSeconds());
+        assertEquals(1, first.getNanos());
+        assertEquals(2L, second.getSeconds());
+        assertEquals(2, second.getNanos());
+    }
+    
+    @Test
+    public void testGeneratedBuilderObjectFactory() {
+        MappingContextFactory contextFactory = new MappingContext.Factory();
+        MapperFactory factory = new DefaultMapperFactory.Builder().mappingContextFactory(contextFactory).build();
+        factory.classMap(Instant.class, Timestamp.Builder.class).byDefault().register();
+        MapperFacadeImpl mapper = (MapperFacadeImpl) factory.getMapperFacade();
+        
+        ObjectFactory<?> objectFactory = factory.lookupObjectFactory(TypeFactory.valueOf(Timestamp.Builder.class),
+                TypeFactory.valueOf(Instant.class));
+        assertTrue(objectFactory instanceof GeneratedBuilderObjectFactory);
+        
+        MappingContext context = contextFactory.getContext();
+        MappingStrategy strategy = mapper.resolveMappingStrategy(new Instant(), Instant.class, Timestamp.class, false, context);
+        assertTrue(strategy instanceof InstantiateAndUseCustomMapperBuilderStrategy);
+        
+        Timestamp timestamp = (Timestamp) strategy.map(new Instant(7L, 8), null, context);
+        assertEquals(7L, timestamp.getSeconds());
+        assertEquals(8, timestamp.getNanos());
+    }
+    
+    @Test
+    public void testNewObject() {
+        MappingContextFactory contextFactory = new MappingContext.Factory();
+        MapperFactory factory = new DefaultMapperFactory.Builder().mappingContextFactory(contextFactory).build();
+        factory.classMap(Instant.class, Timestamp.Builder.class).byDefault().register();
+        MappingContext context = contextFactory.getContext();
+        
+        BoundMapperFacade<Instant, Timestamp.Builder> builderMapper = factory.getMapperFacade(Instant.class, Timestamp.Builder.class);
+        Timestamp.Builder builder = builderMapper.newObject(new Instant(), context);
+        assertEquals(Timestamp.getDefaultInstance(), builder.build());
+        
+        BoundMapperFacade<Instant, Timestamp> messageMapper = factory.getMapperFacade(Instant.class, Timestamp.class);
+        assertSame(Timestamp.getDefaultInstance(), messageMapper.newObject(new Instant(), context));
+    }
+    
+    public static class Instant {
+        private long seconds;
+        private int nanos;
+        
+        public Instant() {
+            
+        }
+        
+        public Instant(long seconds, int nanos) {
+            this.seconds = seconds;
+            this.nanos = nanos;
+        }
+        
+        public long getSeconds() {
+            return seconds;
+        }
+        
+        public void setSeconds(long seconds) {
+            this.seconds = seconds;
+        }
+        
+        public int getNanos() {
+            return nanos;
+        }
+        
+        public void setNanos(int nanos) {
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ma.glasnost.orika.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.util.IdentityTypeTable;
+
+public class IdentityTypeTableTestCase {
+    
+    @Test
+    public void testKeysAreComparedByIdentityAndTypeIndex() {
+        IdentityTypeTable table = new IdentityTypeTable();
+        String source = new String("source");
+        String equalSource = new String("source");
+        
+        Assert.assertNull(table.get(source, 1));
+        table.put(source, 1, "a");
+        table.put(source, 2, "b");
+        table.put(null, 1, "c");
+        
+        Assert.assertEquals("a", table.get(source, 1));
+        Assert.assertEquals("b", table.get(source, 2));
+        Assert.assertEquals("c", table.get(null, 1));
+        Assert.assertNull(table.get(equalSource, 1));
+        Assert.assertNull(table.get(source, 3));
+        Assert.assertEquals(3, table.size());
+        
+        table.put(source, 1, "d");
+        Assert.assertEquals("d", table.get(source, 1));
+        Assert.assertEquals(3, table.size());
+    }
+    
+    @Test
+    public void testGrowAndClear() {
+        IdentityTypeTable table = new IdentityTypeTable();
+        List<Object> sources = new ArrayList<Object>();
+        for (int i = 0; i < 50000; ++i) {
+            Object source = new Object();
+            sources.add(source);
+            table.put(source, i % 7, i);
+        }
+        Assert.assertEquals(sources.size(), table.size());
+        for (int i = 0; i < sources.size(); ++i) {
+            Assert.assertEquals(i, table.get(sources.get(i), i % 7));
+            Assert.assertNull(table.get(sources.get(i), i % 7 + 1));
+        }
+        
+        table.clear();
+        Assert.assertEquals(0, table.size());
+        for (int i = 0; i < sources.size(); ++i) {
+            Assert.assertNull(table.get(sources.get(i), i % 7));
+        }
+        
+        table.put(sources.get(0), 0, "reused");
+        Assert.assertEquals("reused", table.get(sources.get(0), 0));
+        Assert.assertNull(table.get(sources.get(1), 1));
+    }
+}
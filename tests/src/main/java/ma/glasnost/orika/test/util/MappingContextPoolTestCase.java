@@ -0,0 +1,167 @@
+/*
+ * Orika - simpler, better and faster Java bean mapping
+ *
+ * Copyright (C) 2011-2013 Orika authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ma.glasnost.orika.test.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ma.glasnost.orika.MappingContext;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+import ma.glasnost.orika.util.IdentityTypeTable;
+import ma.glasnost.orika.util.ObjectPool;
+
+/**
+ * Verifies the pooling modes of the mapping contexts, and the trimming of
+ * oversized contexts.
+ */
+public class MappingContextPoolTestCase {
+    
+    @Test
+    public void testContextsAreReused() {
+        for (ObjectPool.Mode mode : ObjectPool.Mode.values()) {
+            MappingContext.Factory factory = new MappingContext.Factory(ObjectPool.<MappingContext> create(mode, 16));
+            MappingContext context = factory.getContext();
+            factory.release(context);
+            Assert.assertSame(mode.name(), context, factory.getContext());
+        }
+    }
+    
+    @Test
+    public void testPoolIsBounded() {
+        for (ObjectPool.Mode mode : ObjectPool.Mode.values()) {
+            ObjectPool<Object> pool = ObjectPool.create(mode, 2);
+            Assert.assertTrue(mode.name(), pool.offer(new Object()));
+            Assert.assertTrue(mode.name(), pool.offer(new Object()));
+            Assert.assertFalse(mode.name(), pool.offer(new Object()));
+            Assert.assertNotNull(mode.name(), pool.poll());
+            Assert.assertNotNull(mode.name(), pool.poll());
+            Assert.assertNull(mode.name(), pool.poll());
+        }
+        Assert.assertFalse(ObjectPool.create(ObjectPool.Mode.QUEUE, 0).offer(new Object()));
+    }
+    
+    @Test
+    public void testThreadLocalContextsAreNotShared() throws Exception {
+        final ObjectPool<Object> pool = ObjectPool.create(ObjectPool.Mode.THREAD_LOCAL, 4);
+        pool.offer(new Object());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertNull(executor.submit(new Callable<Object>() {
+                public Object call() {
+                    return pool.poll();
+                }
+            }).get());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertNotNull(pool.poll());
+    }
+    
+    @Test
+    public void testConcurrentUse() throws Exception {
+        for (ObjectPool.Mode mode : ObjectPool.Mode.values()) {
+            final MappingContext.Factory factory = new MappingContext.Factory(ObjectPool.<MappingContext> create(mode, 8));
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+                for (int i = 0; i < 8; ++i) {
+                    results.add(executor.submit(new Callable<Boolean>() {
+                        public Boolean call() {
+                            Set<MappingContext> inUse = Collections.newSetFromMap(new IdentityHashMap<MappingContext, Boolean>());
+                            for (int j = 0; j < 10000; ++j) {
+                                MappingContext outer = factory.getContext();
+                                MappingContext inner = factory.getContext();
+                                if (outer == inner || !inUse.add(outer) || !inUse.add(inner)) {
+                                    return false;
+                                }
+                                outer.setProperty("owner", Thread.currentThread());
+                                if (inner.getProperty("owner") != null) {
+                                    return false;
+                                }
+                                inUse.clear();
+                                factory.release(inner);
+                                factory.release(outer);
+                            }
+                            return true;
+                        }
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    Assert.assertTrue(mode.name(), result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+    
+    @Test
+    public void testOversizedMapsAreTrimmed() {
+        TrimmableContext context = new TrimmableContext(2);
+        Type<?>[] types = { TypeFactory.valueOf(String.class), TypeFactory.valueOf(Integer.class), TypeFactory.valueOf(Long.class) };
+        
+        context.registerConcreteClass(types[0], types[0]);
+        context.cacheMappedObject("a", TypeFactory.TYPE_OF_OBJECT, "b");
+        IdentityTypeTable typeCache = context.getTypeCache();
+        context.reset();
+        Assert.assertSame(typeCache, context.getTypeCache());
+        Assert.assertNull(context.getMappedObject("a", TypeFactory.TYPE_OF_OBJECT));
+        
+        for (Type<?> type : types) {
+            context.registerConcreteClass(type, type);
+            context.cacheMappedObject("a", (Type<Object>) type, "b");
+        }
+        context.reset();
+        Assert.assertNotSame(typeCache, context.getTypeCache());
+        for (Type<?> type : types) {
+            Assert.assertNull(context.getMappedObject("a", type));
+            Assert.assertNull(context.getConcreteClass(type, type));
+        }
+    }
+    
+    private static class TrimmableContext extends MappingContext {
+        
+        TrimmableContext(int trimSize) {
+            super(null);
+            this.trimSize = trimSize;
+        }
+        
+        IdentityTypeTable getTypeCache() {
+            try {
+                Field typeCache = MappingContext.class.getDeclaredField("typeCache");
+                typeCache.setAccessible(true);
+                return (IdentityTypeTable) typeCache.get(this);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}